@@ -0,0 +1,70 @@
+/*
+ * Copyright © 2025 Weaviate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.weaviate.connector.benchmarks;
+
+import io.weaviate.connector.converter.DataConverter;
+import org.apache.kafka.connect.data.Schema;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversion of a single record value into Weaviate properties.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DataConverterBenchmark {
+    @Param({"FLAT", "WIDE", "NESTED"})
+    Records.Shape shape;
+
+    /** Struct values with a schema, or schemaless maps */
+    @Param({"true", "false"})
+    boolean withSchema;
+
+    private DataConverter converter;
+    private Schema schema;
+    private Object value;
+
+    @Setup
+    public void setup() {
+        converter = new DataConverter();
+        Schema recordSchema = Records.schema(shape, 0);
+        Random random = new Random(42);
+        schema = withSchema ? recordSchema : null;
+        value = withSchema ? Records.struct(recordSchema, 0, 1, random) : Records.map(recordSchema, 0, 1, random);
+    }
+
+    @Benchmark
+    public Map<String, Object> convert() {
+        return converter.convertToWeaviateProperties(schema, value);
+    }
+}
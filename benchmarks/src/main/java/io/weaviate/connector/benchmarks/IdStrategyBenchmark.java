@@ -0,0 +1,81 @@
+/*
+ * Copyright © 2025 Weaviate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.weaviate.connector.benchmarks;
+
+import io.weaviate.connector.WeaviateSinkConfig;
+import io.weaviate.connector.idstrategy.FieldIdStrategy;
+import io.weaviate.connector.idstrategy.IDStrategy;
+import io.weaviate.connector.idstrategy.KafkaIdStrategy;
+import org.apache.kafka.connect.sink.SinkRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Derivation of the document UUID from the record key or from a payload field.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IdStrategyBenchmark {
+    private IDStrategy kafkaIdStrategy;
+    private IDStrategy fieldIdStrategy;
+    private SinkRecord record;
+    private Map<String, Object> properties;
+    private Object id;
+
+    @Setup
+    public void setup() {
+        Map<String, String> props = new HashMap<>();
+        props.put(WeaviateSinkConfig.DOCUMENT_ID_FIELD_CONFIG, Records.ID_FIELD);
+        WeaviateSinkConfig config = new WeaviateSinkConfig(WeaviateSinkConfig.CONFIG_DEF, props);
+        kafkaIdStrategy = new KafkaIdStrategy();
+        kafkaIdStrategy.configure(config);
+        fieldIdStrategy = new FieldIdStrategy();
+        fieldIdStrategy.configure(config);
+
+        record = Records.record(null, null, 0, 12345);
+        id = "document-12345";
+        properties = new HashMap<>();
+        properties.put(Records.ID_FIELD, id);
+    }
+
+    @Benchmark
+    public String kafkaKey() {
+        return kafkaIdStrategy.getDocumentId(record, properties);
+    }
+
+    @Benchmark
+    public String field() {
+        // The field is put back as the strategy may remove it from the properties
+        properties.put(Records.ID_FIELD, id);
+        return fieldIdStrategy.getDocumentId(record, properties);
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright © 2025 Weaviate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.weaviate.connector.benchmarks;
+
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.sink.SinkRecord;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Synthetic record values shared by the benchmarks, as Connect structs or as schemaless maps.
+ */
+public final class Records {
+    public static final String TOPIC = "benchmark";
+    public static final String ID_FIELD = "id";
+    public static final String VECTOR_FIELD = "embedding";
+
+    public enum Shape {
+        /** A handful of primitive fields */
+        FLAT,
+        /** A hundred primitive fields */
+        WIDE,
+        /** Primitive fields, a nested struct and an array of structs */
+        NESTED
+    }
+
+    private static final Schema ADDRESS_SCHEMA = SchemaBuilder.struct().name("Address")
+            .field("street", Schema.STRING_SCHEMA)
+            .field("city", Schema.STRING_SCHEMA)
+            .field("zip", Schema.INT32_SCHEMA)
+            .build();
+
+    private Records() {
+    }
+
+    public static Schema schema(Shape shape, int dimensions) {
+        SchemaBuilder builder = SchemaBuilder.struct().name("Benchmark" + shape)
+                .field(ID_FIELD, Schema.STRING_SCHEMA)
+                .field("title", Schema.STRING_SCHEMA)
+                .field("count", Schema.INT32_SCHEMA)
+                .field("timestamp", Schema.INT64_SCHEMA)
+                .field("score", Schema.FLOAT64_SCHEMA)
+                .field("published", Schema.BOOLEAN_SCHEMA)
+                .field("tags", SchemaBuilder.array(Schema.STRING_SCHEMA).build());
+        if (shape == Shape.WIDE) {
+            for (int i = 0; i < 93; i++) {
+                builder.field("field" + i, i % 2 == 0 ? Schema.STRING_SCHEMA : Schema.FLOAT64_SCHEMA);
+            }
+        }
+        if (shape == Shape.NESTED) {
+            builder.field("address", ADDRESS_SCHEMA)
+                    .field("history", SchemaBuilder.array(ADDRESS_SCHEMA).build())
+                    .field("attributes", SchemaBuilder.map(Schema.STRING_SCHEMA, Schema.STRING_SCHEMA).build());
+        }
+        if (dimensions > 0) {
+            builder.field(VECTOR_FIELD, SchemaBuilder.array(Schema.FLOAT32_SCHEMA).build());
+        }
+        return builder.build();
+    }
+
+    public static Struct struct(Schema schema, int dimensions, int index, Random random) {
+        Struct struct = new Struct(schema);
+        for (Map.Entry<String, Object> entry : map(schema, dimensions, index, random).entrySet()) {
+            Schema fieldSchema = schema.field(entry.getKey()).schema();
+            struct.put(entry.getKey(), toStruct(fieldSchema, entry.getValue()));
+        }
+        return struct;
+    }
+
+    /**
+     * The value of a record of {@code schema} as the JSON converter hands it out without schemas.
+     */
+    public static Map<String, Object> map(Schema schema, int dimensions, int index, Random random) {
+        Map<String, Object> value = new HashMap<>();
+        value.put(ID_FIELD, "document-" + index);
+        value.put("title", "Benchmark document number " + index);
+        value.put("count", index);
+        value.put("timestamp", 1_700_000_000_000L + index);
+        value.put("score", random.nextDouble());
+        value.put("published", index % 2 == 0);
+        value.put("tags", List.of("kafka", "connect", "weaviate"));
+        for (int i = 0; schema.field("field" + i) != null; i++) {
+            value.put("field" + i, i % 2 == 0 ? "value " + i + " of " + index : (Object) random.nextDouble());
+        }
+        if (schema.field("address") != null) {
+            value.put("address", address(index));
+            value.put("history", List.of(address(index + 1), address(index + 2)));
+            value.put("attributes", Map.of("source", "benchmark", "language", "en"));
+        }
+        if (dimensions > 0) {
+            value.put(VECTOR_FIELD, vector(dimensions, random));
+        }
+        return value;
+    }
+
+    public static List<Float> vector(int dimensions, Random random) {
+        List<Float> vector = new ArrayList<>(dimensions);
+        for (int i = 0; i < dimensions; i++) {
+            vector.add(random.nextFloat() * 2 - 1);
+        }
+        return vector;
+    }
+
+    public static SinkRecord record(Schema schema, Object value, int partition, long offset) {
+        String key = "document-" + offset;
+        return new SinkRecord(TOPIC, partition, Schema.STRING_SCHEMA, key, schema, value, offset);
+    }
+
+    private static Map<String, Object> address(int index) {
+        Map<String, Object> address = new HashMap<>();
+        address.put("street", index + " Main Street");
+        address.put("city", "Amsterdam");
+        address.put("zip", 1000 + index % 100);
+        return address;
+    }
+
+    private static Object toStruct(Schema schema, Object value) {
+        if (schema.type() == Schema.Type.STRUCT) {
+            Struct struct = new Struct(schema);
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                struct.put((String) entry.getKey(), entry.getValue());
+            }
+            return struct;
+        }
+        if (schema.type() == Schema.Type.ARRAY && schema.valueSchema().type() == Schema.Type.STRUCT) {
+            List<Object> structs = new ArrayList<>();
+            for (Object element : (List<?>) value) {
+                structs.add(toStruct(schema.valueSchema(), element));
+            }
+            return structs;
+        }
+        return value;
+    }
+}
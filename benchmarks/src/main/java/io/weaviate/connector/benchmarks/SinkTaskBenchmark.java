@@ -0,0 +1,127 @@
+/*
+ * Copyright © 2025 Weaviate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.weaviate.connector.benchmarks;
+
+import io.weaviate.client.base.Result;
+import io.weaviate.client.v1.batch.model.BatchDeleteResponse;
+import io.weaviate.client.v1.batch.model.ObjectGetResponse;
+import io.weaviate.client.v1.data.model.WeaviateObject;
+import io.weaviate.connector.WeaviateSinkConfig;
+import io.weaviate.connector.WeaviateSinkTask;
+import io.weaviate.connector.idstrategy.FieldIdStrategy;
+import io.weaviate.connector.vectorstrategy.FieldVectorStrategy;
+import io.weaviate.connector.writer.BatchSender;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.sink.SinkRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The whole per-record path of {@link WeaviateSinkTask#put}: conversion, id and vector strategies,
+ * batching and offset tracking, against a sender that acknowledges every batch right away.
+ * Throughput is reported in records per second.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SinkTaskBenchmark {
+    static final int RECORDS = 1000;
+
+    @Param({"FLAT", "NESTED"})
+    Records.Shape shape;
+
+    @Param({"0", "768"})
+    int dimensions;
+
+    @Param({"true", "false"})
+    boolean withSchema;
+
+    private WeaviateSinkTask task;
+    private List<SinkRecord> records;
+
+    static class StubbedSinkTask extends WeaviateSinkTask {
+        @Override
+        protected BatchSender createBatchSender(WeaviateSinkConfig config) {
+            return new BatchSender() {
+                @Override
+                public Result<ObjectGetResponse[]> upsert(List<WeaviateObject> objects) {
+                    return new Result<>(200, new ObjectGetResponse[0], null);
+                }
+
+                @Override
+                public Result<BatchDeleteResponse> delete(String collection, String tenant, List<String> documentIds) {
+                    return new Result<>(200, new BatchDeleteResponse(), null);
+                }
+            };
+        }
+    }
+
+    @Setup
+    public void setup() {
+        Map<String, String> props = new HashMap<>();
+        props.put("name", "sink-task-benchmark");
+        props.put(WeaviateSinkConfig.COLLECTION_MAPPING_CONFIG, "Benchmark");
+        props.put(WeaviateSinkConfig.DOCUMENT_ID_STRATEGY_CONFIG, FieldIdStrategy.class.getName());
+        props.put(WeaviateSinkConfig.DOCUMENT_ID_FIELD_CONFIG, Records.ID_FIELD);
+        if (dimensions > 0) {
+            props.put(WeaviateSinkConfig.VECTOR_STRATEGY_CONFIG, FieldVectorStrategy.class.getName());
+            props.put(WeaviateSinkConfig.VECTOR_FIELD_CONFIG, Records.VECTOR_FIELD);
+        }
+        props.put(WeaviateSinkConfig.BATCH_SIZE_CONFIG, "100");
+        task = new StubbedSinkTask();
+        task.start(props);
+
+        Schema schema = Records.schema(shape, dimensions);
+        Random random = new Random(42);
+        records = new ArrayList<>(RECORDS);
+        for (int i = 0; i < RECORDS; i++) {
+            Object value = withSchema ? Records.struct(schema, dimensions, i, random) : Records.map(schema, dimensions, i, random);
+            records.add(Records.record(withSchema ? schema : null, value, i % 4, i));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        task.stop();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECORDS)
+    public void put() {
+        task.put(records);
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright © 2025 Weaviate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.weaviate.connector.benchmarks;
+
+import io.weaviate.connector.WeaviateSinkConfig;
+import io.weaviate.connector.vectorstrategy.BinaryVectorStrategy;
+import io.weaviate.connector.vectorstrategy.FieldVectorStrategy;
+import io.weaviate.connector.vectorstrategy.VectorStrategy;
+import org.apache.kafka.connect.sink.SinkRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Extraction of the embedding of a record, as a list of floats or as packed bytes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VectorStrategyBenchmark {
+    @Param({"384", "768", "1536"})
+    int dimensions;
+
+    private VectorStrategy fieldVectorStrategy;
+    private VectorStrategy binaryVectorStrategy;
+    private SinkRecord listRecord;
+    private SinkRecord bytesRecord;
+    private Map<String, Object> properties;
+    private List<Double> convertedVector;
+
+    @Setup
+    public void setup() {
+        Map<String, String> props = new HashMap<>();
+        props.put(WeaviateSinkConfig.VECTOR_FIELD_CONFIG, Records.VECTOR_FIELD);
+        props.put(WeaviateSinkConfig.VECTOR_ENCODING_CONFIG, "float32");
+        WeaviateSinkConfig config = new WeaviateSinkConfig(WeaviateSinkConfig.CONFIG_DEF, props);
+        fieldVectorStrategy = new FieldVectorStrategy();
+        fieldVectorStrategy.configure(config);
+        binaryVectorStrategy = new BinaryVectorStrategy();
+        binaryVectorStrategy.configure(config);
+
+        List<Float> vector = Records.vector(dimensions, new Random(42));
+        ByteBuffer bytes = ByteBuffer.allocate(dimensions * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        convertedVector = new ArrayList<>(dimensions);
+        for (Float value : vector) {
+            bytes.putFloat(value);
+            convertedVector.add(value.doubleValue());
+        }
+        Map<String, Object> listValue = new HashMap<>();
+        listValue.put(Records.VECTOR_FIELD, vector);
+        listRecord = Records.record(null, listValue, 0, 0);
+        Map<String, Object> bytesValue = new HashMap<>();
+        bytesValue.put(Records.VECTOR_FIELD, bytes.array());
+        bytesRecord = Records.record(null, bytesValue, 0, 0);
+        properties = new HashMap<>();
+    }
+
+    @Benchmark
+    public float[] fieldVector() {
+        return fieldVectorStrategy.getVector(listRecord, properties);
+    }
+
+    /**
+     * The boxed path, reading the vector from properties the converter turned into a list of doubles.
+     */
+    @Benchmark
+    public Float[] fieldDocumentVector() {
+        properties.put(Records.VECTOR_FIELD, convertedVector);
+        return fieldVectorStrategy.getDocumentVector(listRecord, properties);
+    }
+
+    @Benchmark
+    public float[] binaryVector() {
+        return binaryVectorStrategy.getVector(bytesRecord, properties);
+    }
+}
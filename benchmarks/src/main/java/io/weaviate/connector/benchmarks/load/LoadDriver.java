@@ -0,0 +1,260 @@
+/*
+ * Copyright © 2025 Weaviate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.weaviate.connector.benchmarks.load;
+
+import io.weaviate.connector.WeaviateSinkConfig;
+import io.weaviate.connector.WeaviateSinkTask;
+import io.weaviate.connector.benchmarks.Records;
+import io.weaviate.connector.idstrategy.FieldIdStrategy;
+import io.weaviate.connector.metrics.SinkMetrics;
+import io.weaviate.connector.vectorstrategy.FieldVectorStrategy;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.sink.ErrantRecordReporter;
+import org.apache.kafka.connect.sink.SinkRecord;
+import org.apache.kafka.connect.sink.SinkTaskContext;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Feeds a synthetic stream of records through a {@link WeaviateSinkTask} connected to a
+ * {@link MockWeaviateServer}, the way a Connect worker would: records are handed over in polls,
+ * offsets are committed periodically and the task is flushed at the end. Reports the throughput,
+ * the latency of put() and of batches, and the CPU time of the connector per record.
+ * <p>
+ * Arguments are {@code key=value} pairs:
+ * <ul>
+ *     <li>{@code records}, {@code poll.size}, {@code commit.interval.polls}, {@code partitions},
+ *     {@code shape} (FLAT, WIDE or NESTED) and {@code dimensions} shape the stream</li>
+ *     <li>{@code transport} is {@code grpc} or {@code rest}</li>
+ *     <li>{@code mock.latency.ms}, {@code mock.jitter.ms}, {@code mock.request.error.rate},
+ *     {@code mock.object.error.rate} and {@code mock.max.objects.per.second} configure the server</li>
+ *     <li>any other key is passed to the task as a connector setting, e.g. {@code batch.size=500 pool.size=4}</li>
+ * </ul>
+ */
+public class LoadDriver {
+    static final String CONNECTOR_NAME = "load-driver";
+    static final String COLLECTION = "Benchmark";
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> arguments = new HashMap<>();
+        for (String arg : args) {
+            String[] keyValue = arg.split("=", 2);
+            if (keyValue.length != 2) {
+                throw new IllegalArgumentException("Expected key=value, got " + arg);
+            }
+            arguments.put(keyValue[0], keyValue[1]);
+        }
+        int records = Integer.parseInt(take(arguments, "records", "100000"));
+        int pollSize = Integer.parseInt(take(arguments, "poll.size", "500"));
+        int commitIntervalPolls = Integer.parseInt(take(arguments, "commit.interval.polls", "20"));
+        int partitions = Integer.parseInt(take(arguments, "partitions", "4"));
+        Records.Shape shape = Records.Shape.valueOf(take(arguments, "shape", "FLAT"));
+        int dimensions = Integer.parseInt(take(arguments, "dimensions", "384"));
+        boolean grpc = "grpc".equals(take(arguments, "transport", "grpc"));
+        MockWeaviateServer.Settings settings = new MockWeaviateServer.Settings()
+                .latencyMs(Long.parseLong(take(arguments, "mock.latency.ms", "20")))
+                .jitterMs(Long.parseLong(take(arguments, "mock.jitter.ms", "10")))
+                .requestErrorRate(Double.parseDouble(take(arguments, "mock.request.error.rate", "0")))
+                .objectErrorRate(Double.parseDouble(take(arguments, "mock.object.error.rate", "0")))
+                .maxObjectsPerSecond(Long.parseLong(take(arguments, "mock.max.objects.per.second", "0")));
+
+        try (MockWeaviateServer server = new MockWeaviateServer(settings).start()) {
+            Map<String, String> props = new HashMap<>();
+            props.put("name", CONNECTOR_NAME);
+            props.put(WeaviateSinkConfig.CONNECTION_URL_CONFIG, server.restUrl());
+            // An empty gRPC url makes the client fall back to the REST batch endpoint
+            props.put(WeaviateSinkConfig.GRPC_URL_CONFIG, grpc ? server.grpcUrl() : "");
+            props.put(WeaviateSinkConfig.COLLECTION_MAPPING_CONFIG, COLLECTION);
+            props.put(WeaviateSinkConfig.DOCUMENT_ID_STRATEGY_CONFIG, FieldIdStrategy.class.getName());
+            props.put(WeaviateSinkConfig.DOCUMENT_ID_FIELD_CONFIG, Records.ID_FIELD);
+            if (dimensions > 0) {
+                props.put(WeaviateSinkConfig.VECTOR_STRATEGY_CONFIG, FieldVectorStrategy.class.getName());
+                props.put(WeaviateSinkConfig.VECTOR_FIELD_CONFIG, Records.VECTOR_FIELD);
+            }
+            props.putAll(arguments);
+            new LoadDriver(server, props, shape, dimensions, partitions).run(records, pollSize, commitIntervalPolls);
+        }
+    }
+
+    private static String take(Map<String, String> arguments, String key, String defaultValue) {
+        String value = arguments.remove(key);
+        return value == null ? defaultValue : value;
+    }
+
+    private final MockWeaviateServer server;
+    private final Map<String, String> props;
+    private final Schema schema;
+    private final int partitions;
+    private final Object[] values;
+    private final LongAdder reported = new LongAdder();
+
+    LoadDriver(MockWeaviateServer server, Map<String, String> props, Records.Shape shape, int dimensions, int partitions) {
+        this.server = server;
+        this.props = props;
+        this.schema = Records.schema(shape, dimensions);
+        this.partitions = partitions;
+        // A fixed set of values reused by every record, so that generating them is not measured
+        Random random = new Random(42);
+        this.values = new Object[1000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = Records.struct(schema, dimensions, i, random);
+        }
+    }
+
+    void run(int records, int pollSize, int commitIntervalPolls) throws Exception {
+        WeaviateSinkTask task = new WeaviateSinkTask();
+        task.initialize(new DriverContext(props));
+        task.start(props);
+
+        com.sun.management.OperatingSystemMXBean os = (com.sun.management.OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean();
+        long[] putLatencies = new long[(records + pollSize - 1) / pollSize];
+        Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+        long committed = 0;
+        long cpuStart = os.getProcessCpuTime();
+        long serverCpuStart = server.cpuNanos();
+        long start = System.nanoTime();
+        int polls = 0;
+        for (int offset = 0; offset < records; offset += pollSize) {
+            List<SinkRecord> poll = new ArrayList<>(pollSize);
+            for (int i = offset; i < Math.min(offset + pollSize, records); i++) {
+                int partition = i % partitions;
+                poll.add(new SinkRecord(Records.TOPIC, partition, Schema.STRING_SCHEMA, "document-" + i, schema,
+                        values[i % values.length], i / partitions, System.currentTimeMillis(), null));
+                offsets.put(new TopicPartition(Records.TOPIC, partition), new OffsetAndMetadata(i / partitions + 1));
+            }
+            long putStart = System.nanoTime();
+            task.put(poll);
+            putLatencies[polls++] = System.nanoTime() - putStart;
+            if (polls % commitIntervalPolls == 0) {
+                committed = commit(task, offsets);
+            }
+        }
+        task.flush(offsets);
+        committed = commit(task, offsets);
+        long elapsed = System.nanoTime() - start;
+        long cpu = os.getProcessCpuTime() - cpuStart - (server.cpuNanos() - serverCpuStart);
+        double batchLatencyP50 = collectionMetric("batch-latency-p50");
+        double batchLatencyP99 = collectionMetric("batch-latency-p99");
+        task.stop();
+
+        Arrays.sort(putLatencies);
+        double seconds = elapsed / 1e9;
+        System.out.printf("records              %d in %.2f s%n", records, seconds);
+        System.out.printf("throughput           %.0f records/s%n", records / seconds);
+        System.out.printf("put() latency        p50 %.2f ms, p95 %.2f ms, p99 %.2f ms, max %.2f ms%n",
+                percentile(putLatencies, 50), percentile(putLatencies, 95), percentile(putLatencies, 99), percentile(putLatencies, 100));
+        System.out.printf("batch latency        p50 %.2f ms, p99 %.2f ms%n", batchLatencyP50, batchLatencyP99);
+        System.out.printf("connector cpu        %.2f us/record (%d cores)%n", cpu / 1e3 / records, os.getAvailableProcessors());
+        System.out.printf("committed            %d records%n", committed);
+        System.out.printf("server               %d requests, %d failed, %d objects, %d rejected%n",
+                server.requests(), server.failedRequests(), server.objects(), server.rejectedObjects());
+        System.out.printf("reported             %d records%n", reported.sum());
+    }
+
+    private long commit(WeaviateSinkTask task, Map<TopicPartition, OffsetAndMetadata> offsets) {
+        long committed = 0;
+        for (OffsetAndMetadata offset : task.preCommit(new HashMap<>(offsets)).values()) {
+            committed += offset.offset();
+        }
+        return committed;
+    }
+
+    private double collectionMetric(String name) throws Exception {
+        MBeanServer mbeanServer = ManagementFactory.getPlatformMBeanServer();
+        ObjectName objectName = new ObjectName(SinkMetrics.JMX_PREFIX + ":type=" + SinkMetrics.COLLECTION_GROUP
+                + ",connector=" + CONNECTOR_NAME + ",task=0,collection=" + COLLECTION);
+        return ((Number) mbeanServer.getAttribute(objectName, name)).doubleValue();
+    }
+
+    private static double percentile(long[] sortedNanos, int percentile) {
+        if (sortedNanos.length == 0) {
+            return 0;
+        }
+        int index = Math.min(sortedNanos.length - 1, (int) Math.ceil(percentile / 100.0 * sortedNanos.length) - 1);
+        return sortedNanos[Math.max(index, 0)] / 1e6;
+    }
+
+    /**
+     * The part of the worker the task talks to, reporting errant records by counting them.
+     */
+    class DriverContext implements SinkTaskContext {
+        private final Map<String, String> configs;
+
+        DriverContext(Map<String, String> configs) {
+            this.configs = configs;
+        }
+
+        @Override
+        public Map<String, String> configs() {
+            return configs;
+        }
+
+        @Override
+        public void offset(Map<TopicPartition, Long> offsets) {
+        }
+
+        @Override
+        public void offset(TopicPartition tp, long offset) {
+        }
+
+        @Override
+        public void timeout(long timeoutMs) {
+        }
+
+        @Override
+        public Set<TopicPartition> assignment() {
+            Set<TopicPartition> assignment = new HashSet<>();
+            for (int partition = 0; partition < partitions; partition++) {
+                assignment.add(new TopicPartition(Records.TOPIC, partition));
+            }
+            return assignment;
+        }
+
+        @Override
+        public void pause(TopicPartition... partitions) {
+        }
+
+        @Override
+        public void resume(TopicPartition... partitions) {
+        }
+
+        @Override
+        public void requestCommit() {
+        }
+
+        @Override
+        public ErrantRecordReporter errantRecordReporter() {
+            return (record, error) -> {
+                reported.increment();
+                return CompletableFuture.completedFuture(null);
+            };
+        }
+    }
+}
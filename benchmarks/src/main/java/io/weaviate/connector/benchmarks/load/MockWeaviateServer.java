@@ -0,0 +1,326 @@
+/*
+ * Copyright © 2025 Weaviate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.weaviate.connector.benchmarks.load;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.grpc.Server;
+import io.grpc.ServerBuilder;
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+import io.weaviate.client.grpc.protocol.v1.WeaviateGrpc;
+import io.weaviate.client.grpc.protocol.v1.WeaviateProtoBatch.BatchObjectsReply;
+import io.weaviate.client.grpc.protocol.v1.WeaviateProtoBatch.BatchObjectsRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-process stand-in for a Weaviate node, serving the gRPC batch objects endpoint and the REST
+ * meta, batch objects and batch delete endpoints used by the connector. Every batch request waits
+ * for the configured latency, may be failed as a whole or have some of its objects rejected, and
+ * is paced so that the server never accepts more objects per second than the configured cap.
+ */
+public class MockWeaviateServer implements AutoCloseable {
+    public static final String VERSION = "1.30.0";
+
+    private final Settings settings;
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder failedRequests = new LongAdder();
+    private final LongAdder objects = new LongAdder();
+    private final LongAdder rejectedObjects = new LongAdder();
+    private final LongAdder deletedObjects = new LongAdder();
+    private final LongAdder cpuNanos = new LongAdder();
+    private long nextAdmissionNanos = System.nanoTime();
+    private HttpServer httpServer;
+    private ExecutorService httpExecutor;
+    private Server grpcServer;
+
+    /**
+     * Behaviour of the server, every batch request is subject to it.
+     */
+    public static class Settings {
+        long latencyMs = 0;
+        long jitterMs = 0;
+        double requestErrorRate = 0;
+        double objectErrorRate = 0;
+        long maxObjectsPerSecond = 0;
+
+        /** Fixed time spent on every batch request */
+        public Settings latencyMs(long latencyMs) {
+            this.latencyMs = latencyMs;
+            return this;
+        }
+
+        /** Upper bound of a uniformly distributed time added to the latency */
+        public Settings jitterMs(long jitterMs) {
+            this.jitterMs = jitterMs;
+            return this;
+        }
+
+        /** Share of batch requests failed as a whole, with UNAVAILABLE or a 503 */
+        public Settings requestErrorRate(double requestErrorRate) {
+            this.requestErrorRate = requestErrorRate;
+            return this;
+        }
+
+        /** Share of objects rejected individually in successful batch requests */
+        public Settings objectErrorRate(double objectErrorRate) {
+            this.objectErrorRate = objectErrorRate;
+            return this;
+        }
+
+        /** Objects accepted per second, requests above the cap are held back. 0 for no cap */
+        public Settings maxObjectsPerSecond(long maxObjectsPerSecond) {
+            this.maxObjectsPerSecond = maxObjectsPerSecond;
+            return this;
+        }
+    }
+
+    public MockWeaviateServer(Settings settings) {
+        this.settings = settings;
+    }
+
+    public MockWeaviateServer start() throws IOException {
+        httpServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        httpServer.createContext("/v1/meta", this::handleMeta);
+        httpServer.createContext("/v1/batch/objects", this::handleBatchObjects);
+        httpExecutor = Executors.newCachedThreadPool();
+        httpServer.setExecutor(httpExecutor);
+        httpServer.start();
+        grpcServer = ServerBuilder.forPort(0)
+                .addService(new WeaviateGrpc.WeaviateImplBase() {
+                    @Override
+                    public void batchObjects(BatchObjectsRequest request, StreamObserver<BatchObjectsReply> responseObserver) {
+                        handleBatchObjects(request, responseObserver);
+                    }
+                })
+                .build()
+                .start();
+        return this;
+    }
+
+    public String restUrl() {
+        return "http://localhost:" + httpServer.getAddress().getPort();
+    }
+
+    public String grpcUrl() {
+        return "localhost:" + grpcServer.getPort();
+    }
+
+    public long requests() {
+        return requests.sum();
+    }
+
+    public long failedRequests() {
+        return failedRequests.sum();
+    }
+
+    public long objects() {
+        return objects.sum();
+    }
+
+    public long rejectedObjects() {
+        return rejectedObjects.sum();
+    }
+
+    public long deletedObjects() {
+        return deletedObjects.sum();
+    }
+
+    /**
+     * CPU time spent by the request handlers, to tell it apart from the connector in the process CPU
+     * time. Transport threads decoding requests are not accounted.
+     */
+    public long cpuNanos() {
+        return cpuNanos.sum();
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        if (grpcServer != null) {
+            grpcServer.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        }
+        if (httpServer != null) {
+            httpServer.stop(0);
+            httpExecutor.shutdownNow();
+        }
+    }
+
+    private void handleBatchObjects(BatchObjectsRequest request, StreamObserver<BatchObjectsReply> responseObserver) {
+        long start = System.nanoTime();
+        if (!admit(request.getObjectsCount())) {
+            responseObserver.onError(Status.UNAVAILABLE.withDescription("Injected request failure").asRuntimeException());
+            return;
+        }
+        long cpuStart = threads.getCurrentThreadCpuTime();
+        BatchObjectsReply.Builder reply = BatchObjectsReply.newBuilder();
+        for (int i = 0; i < request.getObjectsCount(); i++) {
+            if (rejectObject()) {
+                reply.addErrorsBuilder().setIndex(i).setError("Injected object failure");
+            }
+        }
+        reply.setTook((System.nanoTime() - start) / 1e9f);
+        responseObserver.onNext(reply.build());
+        responseObserver.onCompleted();
+        cpuNanos.add(threads.getCurrentThreadCpuTime() - cpuStart);
+    }
+
+    private void handleMeta(HttpExchange exchange) throws IOException {
+        JsonObject meta = new JsonObject();
+        meta.addProperty("hostname", "http://[::]:8080");
+        meta.addProperty("version", VERSION);
+        meta.add("modules", new JsonObject());
+        respond(exchange, 200, meta);
+    }
+
+    private void handleBatchObjects(HttpExchange exchange) throws IOException {
+        long cpuStart = threads.getCurrentThreadCpuTime();
+        JsonObject body = readBody(exchange);
+        if ("DELETE".equals(exchange.getRequestMethod())) {
+            handleBatchDelete(exchange, body, cpuStart);
+            return;
+        }
+        JsonArray requestObjects = body.getAsJsonArray("objects");
+        cpuNanos.add(threads.getCurrentThreadCpuTime() - cpuStart);
+        if (!admit(requestObjects.size())) {
+            respond(exchange, 503, error("Injected request failure"));
+            return;
+        }
+        cpuStart = threads.getCurrentThreadCpuTime();
+        JsonArray response = new JsonArray(requestObjects.size());
+        for (JsonElement element : requestObjects) {
+            JsonObject object = element.getAsJsonObject();
+            JsonObject result = new JsonObject();
+            if (rejectObject()) {
+                result.add("errors", error("Injected object failure"));
+            }
+            JsonObject objectResponse = new JsonObject();
+            objectResponse.add("class", object.get("class"));
+            objectResponse.add("id", object.get("id"));
+            objectResponse.add("result", result);
+            response.add(objectResponse);
+        }
+        respond(exchange, 200, response);
+        cpuNanos.add(threads.getCurrentThreadCpuTime() - cpuStart);
+    }
+
+    private void handleBatchDelete(HttpExchange exchange, JsonObject body, long cpuStart) throws IOException {
+        JsonElement ids = body.getAsJsonObject("match").getAsJsonObject("where").get("valueTextArray");
+        int matches = ids == null ? 0 : ids.getAsJsonArray().size();
+        cpuNanos.add(threads.getCurrentThreadCpuTime() - cpuStart);
+        if (!admit(matches)) {
+            respond(exchange, 503, error("Injected request failure"));
+            return;
+        }
+        cpuStart = threads.getCurrentThreadCpuTime();
+        deletedObjects.add(matches);
+        JsonObject results = new JsonObject();
+        results.addProperty("matches", matches);
+        results.addProperty("limit", 10000);
+        results.addProperty("successful", matches);
+        results.addProperty("failed", 0);
+        JsonObject response = new JsonObject();
+        response.add("match", body.get("match"));
+        response.addProperty("output", "minimal");
+        response.add("results", results);
+        respond(exchange, 200, response);
+        cpuNanos.add(threads.getCurrentThreadCpuTime() - cpuStart);
+    }
+
+    /**
+     * Holds the request back for the latency and the throughput cap, false when it is to be failed.
+     */
+    private boolean admit(int objectCount) {
+        requests.increment();
+        long delayNanos = TimeUnit.MILLISECONDS.toNanos(settings.latencyMs);
+        if (settings.jitterMs > 0) {
+            delayNanos += ThreadLocalRandom.current().nextLong(TimeUnit.MILLISECONDS.toNanos(settings.jitterMs));
+        }
+        if (settings.maxObjectsPerSecond > 0) {
+            long admission;
+            synchronized (this) {
+                // Each request takes the slot after the previous one, sized by its number of objects
+                admission = Math.max(nextAdmissionNanos, System.nanoTime());
+                nextAdmissionNanos = admission + objectCount * TimeUnit.SECONDS.toNanos(1) / settings.maxObjectsPerSecond;
+            }
+            delayNanos = Math.max(delayNanos, admission - System.nanoTime());
+        }
+        if (delayNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(delayNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        if (settings.requestErrorRate > 0 && ThreadLocalRandom.current().nextDouble() < settings.requestErrorRate) {
+            failedRequests.increment();
+            return false;
+        }
+        objects.add(objectCount);
+        return true;
+    }
+
+    private boolean rejectObject() {
+        if (settings.objectErrorRate > 0 && ThreadLocalRandom.current().nextDouble() < settings.objectErrorRate) {
+            rejectedObjects.increment();
+            return true;
+        }
+        return false;
+    }
+
+    private static JsonObject error(String message) {
+        JsonObject error = new JsonObject();
+        error.addProperty("message", message);
+        JsonArray errors = new JsonArray();
+        errors.add(error);
+        JsonObject response = new JsonObject();
+        response.add("error", errors);
+        return response;
+    }
+
+    private static JsonObject readBody(HttpExchange exchange) throws IOException {
+        try (InputStream body = exchange.getRequestBody()) {
+            return JsonParser.parseReader(new InputStreamReader(body, StandardCharsets.UTF_8)).getAsJsonObject();
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, JsonElement body) throws IOException {
+        byte[] bytes = body.toString().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -15,14 +15,23 @@
  */
 package io.weaviate.connector;
 
+import io.weaviate.connector.converter.DataConverter;
+import io.weaviate.connector.idstrategy.CompositeIdStrategy;
 import io.weaviate.connector.idstrategy.IDStrategy;
 import io.weaviate.connector.idstrategy.KafkaIdStrategy;
+import io.weaviate.connector.routing.CollectionRouter;
+import io.weaviate.connector.tenantstrategy.FieldTenantStrategy;
+import io.weaviate.connector.tenantstrategy.TenantStrategy;
 import io.weaviate.connector.vectorstrategy.VectorStrategy;
 import org.apache.kafka.common.config.AbstractConfig;
 import org.apache.kafka.common.config.ConfigDef;
 import org.apache.kafka.common.config.ConfigException;
 
+import java.net.URI;
+import java.net.URISyntaxException;
 import java.util.*;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 
 import static io.weaviate.client.v1.async.batch.api.ObjectsBatcher.AutoBatchConfig.BATCH_SIZE;
 import static io.weaviate.client.v1.async.batch.api.ObjectsBatcher.BatchRetriesConfig.*;
@@ -36,12 +45,16 @@ public final class WeaviateSinkConfig extends AbstractConfig {
     private final String apiKey;
     private final String oidcClientSecret;
     private final String collectionMapping;
+    private final String collectionMappingTopicPattern;
     private final List<String> oidcScopes;
     private final Boolean grpcSecured;
     private final String grpcUrl;
     private final Class<?> documentIdStrategy;
     private final Class<?> vectorStrategy;
+    private final Class<?> tenantStrategy;
     private final String vectorFieldName;
+    private final VectorEncoding vectorEncoding;
+    private final double vectorInt8Scale;
     private final String documentIdFieldName;
     private final List<String> rawHeaders;
     private final ConsistencyLevel consistencyLevel;
@@ -52,6 +65,49 @@ public final class WeaviateSinkConfig extends AbstractConfig {
     private final Integer batchSize;
     private final Integer poolSize;
     private final Boolean deleteEnabled;
+    private final Boolean asyncEnabled;
+    private final Integer maxInFlightBatches;
+    private final Boolean deduplicationEnabled;
+    private final Integer schemaCacheSize;
+    private final Integer conversionThreads;
+    private final Map<String, Integer> collectionBatchSizes;
+    private final Map<String, Integer> collectionMaxInFlightBatches;
+    private final Boolean adaptiveBatchSizeEnabled;
+    private final Integer adaptiveBatchSizeMin;
+    private final Integer adaptiveBatchSizeMax;
+    private final Long adaptiveBatchLatencyTargetMs;
+    private final Long batchMaxBytes;
+    private final Integer maxObjectRetries;
+    private final List<String> documentIdFields;
+    private final String documentIdNamespace;
+    private final Boolean skipUnchangedEnabled;
+    private final Integer skipUnchangedCacheSize;
+    private final String skipUnchangedCacheDir;
+    private final List<String> propertiesInclude;
+    private final List<String> propertiesExclude;
+    private final Map<String, String> propertiesRename;
+    private final Integer connectorMaxInFlightBatches;
+    private final Boolean clientShared;
+    private final Integer grpcChannels;
+    private final Long grpcDeadlineMs;
+    private final String proxyUrl;
+    private final Integer lingerMs;
+    private final Boolean backpressureEnabled;
+    private final Long backpressureMaxBytes;
+    private final Integer backpressureMaxObjects;
+    private final Double backpressureThrottledRatio;
+    private final Integer backpressureWindowMs;
+    private final Integer retryBackoffMaxMs;
+    private final Double retryBudgetRatio;
+    private final Integer retryBudgetMinRetries;
+    private final Integer retryBudgetWindowMs;
+    private final Integer circuitBreakerFailureThreshold;
+    private final Integer circuitBreakerOpenMs;
+    private final String tenantFieldName;
+    private final String tenantHeaderName;
+    private final String tenantTopicPattern;
+    private final Boolean tenantAutoCreate;
+    private final Integer tenantCacheSize;
 
     public enum AuthMechanism {
         NONE,
@@ -86,9 +142,13 @@ public final class WeaviateSinkConfig extends AbstractConfig {
     private static final String OIDC_SCOPES_DEFAULT = "openid";
 
     public static final String COLLECTION_MAPPING_CONFIG = "collection.mapping";
-    private static final String COLLECTION_MAPPING_DOC = "Mapping between Kafka topic and Weaviate collection";
+    private static final String COLLECTION_MAPPING_DOC = "Template of the Weaviate collection of a record, with the variables ${topic}, ${topic.<n>} (group n of collection.mapping.topic.pattern), ${partition}, ${key}, ${key.<field>}, ${value.<field>} and ${header.<name>}. A variable can have a default with ${<variable>:<default>}, values taken from a record must only hold letters, digits and underscores. Records that can not be routed are sent to the errant record reporter. Other text, unknown variables included, is kept as is";
     private static final String COLLECTION_MAPPING_DEFAULT = "${topic}";
 
+    public static final String COLLECTION_MAPPING_TOPIC_PATTERN_CONFIG = "collection.mapping.topic.pattern";
+    private static final String COLLECTION_MAPPING_TOPIC_PATTERN_DOC = "Regular expression matching the whole topic, whose groups can be used in collection.mapping as ${topic.<n>}";
+    private static final String COLLECTION_MAPPING_TOPIC_PATTERN_DEFAULT = "(.*)";
+
     public static final String HEADERS_CONFIG = "weaviate.headers";
     private static final String HEADERS_DOC = "Headers to provide while building Weaviate client (e.g. X-OpenAI-Api-Key)";
     private static final String HEADERS_DEFAULT = "";
@@ -109,20 +169,28 @@ public final class WeaviateSinkConfig extends AbstractConfig {
     private static final String VECTOR_FIELD_DOC = "Field name containing the embedding";
     private static final String VECTOR_FIELD_DEFAULT = "vector";
 
+    public static final String VECTOR_ENCODING_CONFIG = "vector.encoding";
+    private static final String VECTOR_ENCODING_DOC = "Encoding of the packed little-endian bytes holding the embedding (used only for BinaryVectorStrategy)";
+    private static final String VECTOR_ENCODING_DEFAULT = VectorEncoding.FLOAT32.name();
+
+    public static final String VECTOR_INT8_SCALE_CONFIG = "vector.int8.scale";
+    private static final String VECTOR_INT8_SCALE_DOC = "Factor applied to each signed byte of an int8 encoded embedding (used only for BinaryVectorStrategy)";
+    private static final double VECTOR_INT8_SCALE_DEFAULT = 1.0;
+
     public static final String CONSISTENCY_LEVEL_CONFIG = "consistency.level";
     private static final String CONSISTENCY_LEVEL_DOC = "Consistency level to use while inserting objects";
     private static final String CONSISTENCY_LEVEL_DEFAULT = ConsistencyLevel.QUORUM.name();
 
     public static final String MAX_TIMEOUT_RETRIES_CONFIG = "max.timeout.retries";
-    private static final String MAX_TIMEOUT_RETRIES_DOC = "Maximum number of retries to perform in case of timeout";
+    private static final String MAX_TIMEOUT_RETRIES_DOC = "Maximum number of times a request failing because of a timeout or throttled by Weaviate is sent again";
     private static final int MAX_TIMEOUT_RETRIES_DEFAULT = MAX_TIMEOUT_RETRIES;
 
     public static final String MAX_CONNECTION_RETRIES_CONFIG = "max.connection.retries";
-    private static final String MAX_CONNECTION_RETRIES_DOC = "Maximum number of retries to perform in case of connection issues";
+    private static final String MAX_CONNECTION_RETRIES_DOC = "Maximum number of times a request failing because Weaviate could not be reached is sent again";
     private static final int MAX_CONNECTION_RETRIES_DEFAULT = MAX_CONNECTION_RETRIES;
 
     public static final String RETRY_INTERVAL_CONFIG = "retry.interval";
-    private static final String RETRY_INTERVAL_DOC = "Interval between each retry";
+    private static final String RETRY_INTERVAL_DOC = "Initial backoff in milliseconds before a failed request is sent again";
     private static final int RETRY_INTERVAL_DEFAULT = RETRIES_INTERVAL;
 
     public static final String BATCH_SIZE_CONFIG = "batch.size";
@@ -141,6 +209,182 @@ public final class WeaviateSinkConfig extends AbstractConfig {
     private static final String DELETE_ENABLED_DOC = "Whether to treat null record values as deletes";
     private static final boolean DELETE_ENABLED_DEFAULT = false;
 
+    public static final String ASYNC_ENABLED_CONFIG = "async.enabled";
+    private static final String ASYNC_ENABLED_DOC = "Whether to write batches in the background and only commit offsets once Weaviate acknowledged them";
+    private static final boolean ASYNC_ENABLED_DEFAULT = false;
+
+    public static final String MAX_IN_FLIGHT_BATCHES_CONFIG = "max.in.flight.batches";
+    private static final String MAX_IN_FLIGHT_BATCHES_DOC = "Maximum number of batches sent to Weaviate and not yet acknowledged";
+    private static final int MAX_IN_FLIGHT_BATCHES_DEFAULT = 5;
+
+    public static final String DEDUPLICATION_ENABLED_CONFIG = "deduplication.enabled";
+    private static final String DEDUPLICATION_ENABLED_DOC = "Whether to only send the last write of each document among the operations not yet sent to Weaviate";
+    private static final boolean DEDUPLICATION_ENABLED_DEFAULT = false;
+
+    public static final String SCHEMA_CACHE_SIZE_CONFIG = "schema.cache.size";
+    private static final String SCHEMA_CACHE_SIZE_DOC = "Number of record schemas whose compiled conversion is kept in memory";
+    private static final int SCHEMA_CACHE_SIZE_DEFAULT = DataConverter.DEFAULT_SCHEMA_CACHE_SIZE;
+
+    public static final String CONVERSION_THREADS_CONFIG = "conversion.threads";
+    private static final String CONVERSION_THREADS_DOC = "Number of threads converting the records of each put call";
+    private static final int CONVERSION_THREADS_DEFAULT = 1;
+
+    public static final String COLLECTION_BATCH_SIZE_CONFIG = "collection.batch.size";
+    private static final String COLLECTION_BATCH_SIZE_DOC = "Batch size of specific collections, as a list of <collection>=<batch size> overriding batch.size";
+    private static final String COLLECTION_BATCH_SIZE_DEFAULT = "";
+
+    public static final String COLLECTION_MAX_IN_FLIGHT_BATCHES_CONFIG = "collection.max.in.flight.batches";
+    private static final String COLLECTION_MAX_IN_FLIGHT_BATCHES_DOC = "Maximum number of in-flight batches of specific collections, as a list of <collection>=<batches> bounded by max.in.flight.batches";
+    private static final String COLLECTION_MAX_IN_FLIGHT_BATCHES_DEFAULT = "";
+
+    public static final String ADAPTIVE_BATCH_SIZE_ENABLED_CONFIG = "adaptive.batch.size.enabled";
+    private static final String ADAPTIVE_BATCH_SIZE_ENABLED_DOC = "Whether to tune the batch size of each collection from the observed batch latency";
+    private static final boolean ADAPTIVE_BATCH_SIZE_ENABLED_DEFAULT = false;
+
+    public static final String ADAPTIVE_BATCH_SIZE_MIN_CONFIG = "adaptive.batch.size.min";
+    private static final String ADAPTIVE_BATCH_SIZE_MIN_DOC = "Lower bound of the adaptive batch size, also used as its increment";
+    private static final int ADAPTIVE_BATCH_SIZE_MIN_DEFAULT = 10;
+
+    public static final String ADAPTIVE_BATCH_SIZE_MAX_CONFIG = "adaptive.batch.size.max";
+    private static final String ADAPTIVE_BATCH_SIZE_MAX_DOC = "Upper bound of the adaptive batch size";
+    private static final int ADAPTIVE_BATCH_SIZE_MAX_DEFAULT = 1000;
+
+    public static final String ADAPTIVE_BATCH_LATENCY_TARGET_MS_CONFIG = "adaptive.batch.latency.target.ms";
+    private static final String ADAPTIVE_BATCH_LATENCY_TARGET_MS_DOC = "Batch latency above which the adaptive batch size is halved";
+    private static final long ADAPTIVE_BATCH_LATENCY_TARGET_MS_DEFAULT = 2000L;
+
+    public static final String BATCH_MAX_BYTES_CONFIG = "batch.max.bytes";
+    private static final String BATCH_MAX_BYTES_DOC = "Maximum estimated size in bytes of an upsert batch, 0 for no limit";
+    private static final long BATCH_MAX_BYTES_DEFAULT = 0L;
+
+    public static final String MAX_OBJECT_RETRIES_CONFIG = "max.object.retries";
+    private static final String MAX_OBJECT_RETRIES_DOC = "Maximum number of times objects rejected individually in a batch response are sent again";
+    private static final int MAX_OBJECT_RETRIES_DEFAULT = 3;
+
+    public static final String DOCUMENT_ID_FIELDS_CONFIG = "document.id.fields";
+    private static final String DOCUMENT_ID_FIELDS_DOC = "Fields hashed into the document ID by CompositeIdStrategy, as key for the whole record key, key.<field> for a key field or value.<field> for a value field";
+    private static final String DOCUMENT_ID_FIELDS_DEFAULT = "";
+
+    public static final String DOCUMENT_ID_NAMESPACE_CONFIG = "document.id.namespace";
+    private static final String DOCUMENT_ID_NAMESPACE_DOC = "UUID namespace of the name based UUIDv5 document IDs of CompositeIdStrategy, empty for UUIDv3 IDs";
+    private static final String DOCUMENT_ID_NAMESPACE_DEFAULT = "";
+
+    public static final String SKIP_UNCHANGED_ENABLED_CONFIG = "skip.unchanged.enabled";
+    private static final String SKIP_UNCHANGED_ENABLED_DOC = "Whether to skip records whose object has the same content as the latest write of its document";
+    private static final boolean SKIP_UNCHANGED_ENABLED_DEFAULT = false;
+
+    public static final String SKIP_UNCHANGED_CACHE_SIZE_CONFIG = "skip.unchanged.cache.size";
+    private static final String SKIP_UNCHANGED_CACHE_SIZE_DOC = "Number of documents whose content hash is kept per task, least recently written ones being evicted";
+    private static final int SKIP_UNCHANGED_CACHE_SIZE_DEFAULT = 100000;
+
+    public static final String SKIP_UNCHANGED_CACHE_DIR_CONFIG = "skip.unchanged.cache.dir";
+    private static final String SKIP_UNCHANGED_CACHE_DIR_DOC = "Local directory where each task persists its content hashes on stop and loads them on start, empty to keep them in memory only";
+    private static final String SKIP_UNCHANGED_CACHE_DIR_DEFAULT = "";
+
+    public static final String PROPERTIES_INCLUDE_CONFIG = "properties.include";
+    private static final String PROPERTIES_INCLUDE_DOC = "Top level fields of the record value written as object properties, empty to write every field";
+    private static final String PROPERTIES_INCLUDE_DEFAULT = "";
+
+    public static final String PROPERTIES_EXCLUDE_CONFIG = "properties.exclude";
+    private static final String PROPERTIES_EXCLUDE_DOC = "Top level fields of the record value left out of the object properties";
+    private static final String PROPERTIES_EXCLUDE_DEFAULT = "";
+
+    public static final String PROPERTIES_RENAME_CONFIG = "properties.rename";
+    private static final String PROPERTIES_RENAME_DOC = "Properties written under another name, as a list of <field>=<property>";
+    private static final String PROPERTIES_RENAME_DEFAULT = "";
+
+    public static final String CONNECTOR_MAX_IN_FLIGHT_BATCHES_CONFIG = "connector.max.in.flight.batches";
+    private static final String CONNECTOR_MAX_IN_FLIGHT_BATCHES_DOC = "Batches in flight across all the tasks of the connector, split between tasks to bound their pool.size and max.in.flight.batches, 0 to let each task use its own limits";
+    private static final int CONNECTOR_MAX_IN_FLIGHT_BATCHES_DEFAULT = 0;
+
+    public static final String CLIENT_SHARED_CONFIG = "weaviate.client.shared";
+    private static final String CLIENT_SHARED_DOC = "Share the Weaviate client and its gRPC channels between the tasks of the worker using the same connection settings. REST requests are not pooled, the Weaviate client opens a connection per request";
+    private static final boolean CLIENT_SHARED_DEFAULT = true;
+
+    public static final String GRPC_CHANNELS_CONFIG = "weaviate.grpc.channels";
+    private static final String GRPC_CHANNELS_DOC = "Number of gRPC channels batches are spread over, each channel multiplexing concurrent requests over one connection";
+    private static final int GRPC_CHANNELS_DEFAULT = 1;
+
+    public static final String GRPC_DEADLINE_MS_CONFIG = "weaviate.grpc.deadline.ms";
+    private static final String GRPC_DEADLINE_MS_DOC = "Time a gRPC batch request may take before it fails with a timeout and is retried";
+    private static final long GRPC_DEADLINE_MS_DEFAULT = 60000;
+
+    public static final String PROXY_URL_CONFIG = "weaviate.proxy.url";
+    private static final String PROXY_URL_DOC = "URL of the proxy requests to Weaviate are sent through, such as http://proxy:3128, empty to connect directly";
+    private static final String PROXY_URL_DEFAULT = "";
+
+    public static final String LINGER_MS_CONFIG = "linger.ms";
+    private static final String LINGER_MS_DOC = "Time a partial batch waits for more records before being sent, 0 to send partial batches at the end of each put";
+    private static final int LINGER_MS_DEFAULT = 0;
+
+    public static final String BACKPRESSURE_ENABLED_CONFIG = "backpressure.enabled";
+    private static final String BACKPRESSURE_ENABLED_DOC = "Whether to pause the assigned partitions while Weaviate does not keep up, resuming them once it caught up";
+    private static final boolean BACKPRESSURE_ENABLED_DEFAULT = false;
+
+    public static final String BACKPRESSURE_MAX_BYTES_CONFIG = "backpressure.max.bytes";
+    private static final String BACKPRESSURE_MAX_BYTES_DOC = "Estimated size in bytes of the operations buffered or in flight above which the task is paused, 0 for no limit";
+    private static final long BACKPRESSURE_MAX_BYTES_DEFAULT = 134217728L;
+
+    public static final String BACKPRESSURE_MAX_OBJECTS_CONFIG = "backpressure.max.objects";
+    private static final String BACKPRESSURE_MAX_OBJECTS_DOC = "Number of operations buffered or in flight above which the task is paused, 0 for no limit";
+    private static final int BACKPRESSURE_MAX_OBJECTS_DEFAULT = 50000;
+
+    public static final String BACKPRESSURE_THROTTLED_RATIO_CONFIG = "backpressure.throttled.ratio";
+    private static final String BACKPRESSURE_THROTTLED_RATIO_DOC = "Share of the requests throttled by Weaviate over the window above which the task is paused, with status 429, 503 or 504, a timeout or a rate limit error, 1 to never pause on throttling";
+    private static final double BACKPRESSURE_THROTTLED_RATIO_DEFAULT = 0.2;
+
+    public static final String BACKPRESSURE_WINDOW_MS_CONFIG = "backpressure.window.ms";
+    private static final String BACKPRESSURE_WINDOW_MS_DOC = "Time window over which the share of throttled requests is measured";
+    private static final int BACKPRESSURE_WINDOW_MS_DEFAULT = 10000;
+
+    public static final String RETRY_BACKOFF_MAX_MS_CONFIG = "retry.backoff.max.ms";
+    private static final String RETRY_BACKOFF_MAX_MS_DOC = "Upper bound of the exponential backoff between retries";
+    private static final int RETRY_BACKOFF_MAX_MS_DEFAULT = 60000;
+
+    public static final String RETRY_BUDGET_RATIO_CONFIG = "retry.budget.ratio";
+    private static final String RETRY_BUDGET_RATIO_DOC = "Retries allowed per request sent over the retry budget window, for the task and for each collection";
+    private static final double RETRY_BUDGET_RATIO_DEFAULT = 0.2;
+
+    public static final String RETRY_BUDGET_MIN_RETRIES_CONFIG = "retry.budget.min.retries";
+    private static final String RETRY_BUDGET_MIN_RETRIES_DOC = "Retries allowed over the retry budget window whatever the number of requests sent";
+    private static final int RETRY_BUDGET_MIN_RETRIES_DEFAULT = 10;
+
+    public static final String RETRY_BUDGET_WINDOW_MS_CONFIG = "retry.budget.window.ms";
+    private static final String RETRY_BUDGET_WINDOW_MS_DOC = "Time window over which retries are bounded by the retry budget";
+    private static final int RETRY_BUDGET_WINDOW_MS_DEFAULT = 10000;
+
+    public static final String CIRCUIT_BREAKER_FAILURE_THRESHOLD_CONFIG = "circuit.breaker.failure.threshold";
+    private static final String CIRCUIT_BREAKER_FAILURE_THRESHOLD_DOC = "Consecutive requests failing for a transient reason after which no request is sent to Weaviate for circuit.breaker.open.ms, 0 to disable the circuit breaker";
+    private static final int CIRCUIT_BREAKER_FAILURE_THRESHOLD_DEFAULT = 5;
+
+    public static final String CIRCUIT_BREAKER_OPEN_MS_CONFIG = "circuit.breaker.open.ms";
+    private static final String CIRCUIT_BREAKER_OPEN_MS_DOC = "Time the circuit stays open before a single probe request is sent to Weaviate";
+    private static final int CIRCUIT_BREAKER_OPEN_MS_DEFAULT = 30000;
+
+    public static final String TENANT_STRATEGY_CONFIG = "tenant.strategy";
+    private static final String TENANT_STRATEGY_DOC = "Java class returning the tenant of the multi-tenant collection each record is written to";
+    private static final Class<? extends TenantStrategy> TENANT_STRATEGY_DEFAULT = io.weaviate.connector.tenantstrategy.NoTenantStrategy.class;
+
+    public static final String TENANT_FIELD_CONFIG = "tenant.field.name";
+    private static final String TENANT_FIELD_DOC = "Field of the record value, or of a Struct or Map key, holding the tenant (used only for FieldTenantStrategy and KeyTenantStrategy)";
+    private static final String TENANT_FIELD_DEFAULT = "tenant";
+
+    public static final String TENANT_HEADER_CONFIG = "tenant.header.name";
+    private static final String TENANT_HEADER_DOC = "Header holding the tenant (used only for HeaderTenantStrategy)";
+    private static final String TENANT_HEADER_DEFAULT = "tenant";
+
+    public static final String TENANT_TOPIC_PATTERN_CONFIG = "tenant.topic.pattern";
+    private static final String TENANT_TOPIC_PATTERN_DOC = "Regular expression matching the whole topic, whose first group is the tenant (used only for TopicTenantStrategy)";
+    private static final String TENANT_TOPIC_PATTERN_DEFAULT = "(.*)";
+
+    public static final String TENANT_AUTO_CREATE_CONFIG = "tenant.auto.create";
+    private static final String TENANT_AUTO_CREATE_DOC = "Whether to create missing tenants and activate inactive ones before writing to them";
+    private static final boolean TENANT_AUTO_CREATE_DEFAULT = false;
+
+    public static final String TENANT_CACHE_SIZE_CONFIG = "tenant.cache.size";
+    private static final String TENANT_CACHE_SIZE_DOC = "Number of tenants known to exist and be active kept per task, least recently written ones being evicted and checked again on their next write";
+    private static final int TENANT_CACHE_SIZE_DEFAULT = 10000;
+
     public static ConfigDef CONFIG_DEF = new ConfigDef()
             .define(CONNECTION_URL_CONFIG, ConfigDef.Type.STRING, CONNECTION_URL_DEFAULT, ConfigDef.Importance.HIGH, CONNECTION_URL_DOC)
             .define(GRPC_URL_CONFIG, ConfigDef.Type.STRING, GRPC_URL_DEFAULT, ConfigDef.Importance.HIGH, GRPC_URL_DOC)
@@ -150,19 +394,66 @@ public final class WeaviateSinkConfig extends AbstractConfig {
             .define(OIDC_CLIENT_SECRET_CONFIG, ConfigDef.Type.STRING, null, ConfigDef.Importance.HIGH, OIDC_CLIENT_SECRET_DOC)
             .define(OIDC_SCOPES_CONFIG, ConfigDef.Type.LIST, OIDC_SCOPES_DEFAULT, ConfigDef.Importance.HIGH, OIDC_SCOPES_DOC)
             .define(COLLECTION_MAPPING_CONFIG, ConfigDef.Type.STRING, COLLECTION_MAPPING_DEFAULT, ConfigDef.Importance.HIGH, COLLECTION_MAPPING_DOC)
+            .define(COLLECTION_MAPPING_TOPIC_PATTERN_CONFIG, ConfigDef.Type.STRING, COLLECTION_MAPPING_TOPIC_PATTERN_DEFAULT, new RegexValidator(), ConfigDef.Importance.LOW, COLLECTION_MAPPING_TOPIC_PATTERN_DOC)
             .define(HEADERS_CONFIG, ConfigDef.Type.LIST, HEADERS_DEFAULT, new HeaderValidator(), ConfigDef.Importance.MEDIUM, HEADERS_DOC)
             .define(CONSISTENCY_LEVEL_CONFIG, ConfigDef.Type.STRING, CONSISTENCY_LEVEL_DEFAULT, EnumValidator.in(ConsistencyLevel.values()), ConfigDef.Importance.LOW, CONSISTENCY_LEVEL_DOC)
             .define(DOCUMENT_ID_STRATEGY_CONFIG, ConfigDef.Type.CLASS, DOCUMENT_ID_STRATEGY_DEFAULT, ConfigDef.Importance.MEDIUM, DOCUMENT_ID_STRATEGY_DOC)
             .define(DOCUMENT_ID_FIELD_CONFIG, ConfigDef.Type.STRING, DOCUMENT_ID_FIELD_DEFAULT, ConfigDef.Importance.MEDIUM, DOCUMENT_ID_FIELD_DOC)
             .define(VECTOR_STRATEGY_CONFIG, ConfigDef.Type.CLASS, VECTOR_STRATEGY_DEFAULT, ConfigDef.Importance.MEDIUM, VECTOR_STRATEGY_DOC)
             .define(VECTOR_FIELD_CONFIG, ConfigDef.Type.STRING, VECTOR_FIELD_DEFAULT, ConfigDef.Importance.MEDIUM, VECTOR_FIELD_DOC)
+            .define(VECTOR_ENCODING_CONFIG, ConfigDef.Type.STRING, VECTOR_ENCODING_DEFAULT, EnumValidator.in(VectorEncoding.values()), ConfigDef.Importance.LOW, VECTOR_ENCODING_DOC)
+            .define(VECTOR_INT8_SCALE_CONFIG, ConfigDef.Type.DOUBLE, VECTOR_INT8_SCALE_DEFAULT, ConfigDef.Importance.LOW, VECTOR_INT8_SCALE_DOC)
             .define(MAX_CONNECTION_RETRIES_CONFIG, ConfigDef.Type.INT, MAX_CONNECTION_RETRIES_DEFAULT, ConfigDef.Importance.LOW, MAX_CONNECTION_RETRIES_DOC)
             .define(MAX_TIMEOUT_RETRIES_CONFIG, ConfigDef.Type.INT, MAX_TIMEOUT_RETRIES_DEFAULT, ConfigDef.Importance.LOW, MAX_TIMEOUT_RETRIES_DOC)
             .define(RETRY_INTERVAL_CONFIG, ConfigDef.Type.INT, RETRY_INTERVAL_DEFAULT, ConfigDef.Importance.LOW, RETRY_INTERVAL_DOC)
             .define(BATCH_SIZE_CONFIG, ConfigDef.Type.INT, BATCH_SIZE_DEFAULT, ConfigDef.Importance.LOW, BATCH_SIZE_DOC)
             .define(POOL_SIZE_CONFIG, ConfigDef.Type.INT, POOL_SIZE_DEFAULT, ConfigDef.Importance.LOW, POOL_SIZE_DOC)
             .define(AWAIT_TERMINATION_MS_CONFIG, ConfigDef.Type.INT, AWAIT_TERMINATION_MS_DEFAULT, ConfigDef.Importance.LOW, AWAIT_TERMINATION_MS_DOC)
-            .define(DELETE_ENABLED_CONFIG, ConfigDef.Type.BOOLEAN, DELETE_ENABLED_DEFAULT, ConfigDef.Importance.LOW, DELETE_ENABLED_DOC);
+            .define(DELETE_ENABLED_CONFIG, ConfigDef.Type.BOOLEAN, DELETE_ENABLED_DEFAULT, ConfigDef.Importance.LOW, DELETE_ENABLED_DOC)
+            .define(ASYNC_ENABLED_CONFIG, ConfigDef.Type.BOOLEAN, ASYNC_ENABLED_DEFAULT, ConfigDef.Importance.LOW, ASYNC_ENABLED_DOC)
+            .define(MAX_IN_FLIGHT_BATCHES_CONFIG, ConfigDef.Type.INT, MAX_IN_FLIGHT_BATCHES_DEFAULT, ConfigDef.Range.atLeast(1), ConfigDef.Importance.LOW, MAX_IN_FLIGHT_BATCHES_DOC)
+            .define(DEDUPLICATION_ENABLED_CONFIG, ConfigDef.Type.BOOLEAN, DEDUPLICATION_ENABLED_DEFAULT, ConfigDef.Importance.LOW, DEDUPLICATION_ENABLED_DOC)
+            .define(SCHEMA_CACHE_SIZE_CONFIG, ConfigDef.Type.INT, SCHEMA_CACHE_SIZE_DEFAULT, ConfigDef.Range.atLeast(1), ConfigDef.Importance.LOW, SCHEMA_CACHE_SIZE_DOC)
+            .define(CONVERSION_THREADS_CONFIG, ConfigDef.Type.INT, CONVERSION_THREADS_DEFAULT, ConfigDef.Range.atLeast(1), ConfigDef.Importance.LOW, CONVERSION_THREADS_DOC)
+            .define(COLLECTION_BATCH_SIZE_CONFIG, ConfigDef.Type.LIST, COLLECTION_BATCH_SIZE_DEFAULT, new CollectionSettingValidator(), ConfigDef.Importance.LOW, COLLECTION_BATCH_SIZE_DOC)
+            .define(COLLECTION_MAX_IN_FLIGHT_BATCHES_CONFIG, ConfigDef.Type.LIST, COLLECTION_MAX_IN_FLIGHT_BATCHES_DEFAULT, new CollectionSettingValidator(), ConfigDef.Importance.LOW, COLLECTION_MAX_IN_FLIGHT_BATCHES_DOC)
+            .define(ADAPTIVE_BATCH_SIZE_ENABLED_CONFIG, ConfigDef.Type.BOOLEAN, ADAPTIVE_BATCH_SIZE_ENABLED_DEFAULT, ConfigDef.Importance.LOW, ADAPTIVE_BATCH_SIZE_ENABLED_DOC)
+            .define(ADAPTIVE_BATCH_SIZE_MIN_CONFIG, ConfigDef.Type.INT, ADAPTIVE_BATCH_SIZE_MIN_DEFAULT, ConfigDef.Range.atLeast(1), ConfigDef.Importance.LOW, ADAPTIVE_BATCH_SIZE_MIN_DOC)
+            .define(ADAPTIVE_BATCH_SIZE_MAX_CONFIG, ConfigDef.Type.INT, ADAPTIVE_BATCH_SIZE_MAX_DEFAULT, ConfigDef.Range.atLeast(1), ConfigDef.Importance.LOW, ADAPTIVE_BATCH_SIZE_MAX_DOC)
+            .define(ADAPTIVE_BATCH_LATENCY_TARGET_MS_CONFIG, ConfigDef.Type.LONG, ADAPTIVE_BATCH_LATENCY_TARGET_MS_DEFAULT, ConfigDef.Range.atLeast(1), ConfigDef.Importance.LOW, ADAPTIVE_BATCH_LATENCY_TARGET_MS_DOC)
+            .define(BATCH_MAX_BYTES_CONFIG, ConfigDef.Type.LONG, BATCH_MAX_BYTES_DEFAULT, ConfigDef.Range.atLeast(0), ConfigDef.Importance.LOW, BATCH_MAX_BYTES_DOC)
+            .define(MAX_OBJECT_RETRIES_CONFIG, ConfigDef.Type.INT, MAX_OBJECT_RETRIES_DEFAULT, ConfigDef.Range.atLeast(0), ConfigDef.Importance.LOW, MAX_OBJECT_RETRIES_DOC)
+            .define(DOCUMENT_ID_FIELDS_CONFIG, ConfigDef.Type.LIST, DOCUMENT_ID_FIELDS_DEFAULT, new IdFieldValidator(), ConfigDef.Importance.LOW, DOCUMENT_ID_FIELDS_DOC)
+            .define(DOCUMENT_ID_NAMESPACE_CONFIG, ConfigDef.Type.STRING, DOCUMENT_ID_NAMESPACE_DEFAULT, new UuidValidator(), ConfigDef.Importance.LOW, DOCUMENT_ID_NAMESPACE_DOC)
+            .define(SKIP_UNCHANGED_ENABLED_CONFIG, ConfigDef.Type.BOOLEAN, SKIP_UNCHANGED_ENABLED_DEFAULT, ConfigDef.Importance.LOW, SKIP_UNCHANGED_ENABLED_DOC)
+            .define(SKIP_UNCHANGED_CACHE_SIZE_CONFIG, ConfigDef.Type.INT, SKIP_UNCHANGED_CACHE_SIZE_DEFAULT, ConfigDef.Range.atLeast(1), ConfigDef.Importance.LOW, SKIP_UNCHANGED_CACHE_SIZE_DOC)
+            .define(SKIP_UNCHANGED_CACHE_DIR_CONFIG, ConfigDef.Type.STRING, SKIP_UNCHANGED_CACHE_DIR_DEFAULT, ConfigDef.Importance.LOW, SKIP_UNCHANGED_CACHE_DIR_DOC)
+            .define(PROPERTIES_INCLUDE_CONFIG, ConfigDef.Type.LIST, PROPERTIES_INCLUDE_DEFAULT, ConfigDef.Importance.LOW, PROPERTIES_INCLUDE_DOC)
+            .define(PROPERTIES_EXCLUDE_CONFIG, ConfigDef.Type.LIST, PROPERTIES_EXCLUDE_DEFAULT, ConfigDef.Importance.LOW, PROPERTIES_EXCLUDE_DOC)
+            .define(PROPERTIES_RENAME_CONFIG, ConfigDef.Type.LIST, PROPERTIES_RENAME_DEFAULT, new PropertyRenameValidator(), ConfigDef.Importance.LOW, PROPERTIES_RENAME_DOC)
+            .define(CONNECTOR_MAX_IN_FLIGHT_BATCHES_CONFIG, ConfigDef.Type.INT, CONNECTOR_MAX_IN_FLIGHT_BATCHES_DEFAULT, ConfigDef.Range.atLeast(0), ConfigDef.Importance.LOW, CONNECTOR_MAX_IN_FLIGHT_BATCHES_DOC)
+            .define(CLIENT_SHARED_CONFIG, ConfigDef.Type.BOOLEAN, CLIENT_SHARED_DEFAULT, ConfigDef.Importance.LOW, CLIENT_SHARED_DOC)
+            .define(GRPC_CHANNELS_CONFIG, ConfigDef.Type.INT, GRPC_CHANNELS_DEFAULT, ConfigDef.Range.atLeast(1), ConfigDef.Importance.LOW, GRPC_CHANNELS_DOC)
+            .define(GRPC_DEADLINE_MS_CONFIG, ConfigDef.Type.LONG, GRPC_DEADLINE_MS_DEFAULT, ConfigDef.Range.atLeast(1), ConfigDef.Importance.LOW, GRPC_DEADLINE_MS_DOC)
+            .define(PROXY_URL_CONFIG, ConfigDef.Type.STRING, PROXY_URL_DEFAULT, new ProxyUrlValidator(), ConfigDef.Importance.LOW, PROXY_URL_DOC)
+            .define(LINGER_MS_CONFIG, ConfigDef.Type.INT, LINGER_MS_DEFAULT, ConfigDef.Range.atLeast(0), ConfigDef.Importance.LOW, LINGER_MS_DOC)
+            .define(BACKPRESSURE_ENABLED_CONFIG, ConfigDef.Type.BOOLEAN, BACKPRESSURE_ENABLED_DEFAULT, ConfigDef.Importance.LOW, BACKPRESSURE_ENABLED_DOC)
+            .define(BACKPRESSURE_MAX_BYTES_CONFIG, ConfigDef.Type.LONG, BACKPRESSURE_MAX_BYTES_DEFAULT, ConfigDef.Range.atLeast(0), ConfigDef.Importance.LOW, BACKPRESSURE_MAX_BYTES_DOC)
+            .define(BACKPRESSURE_MAX_OBJECTS_CONFIG, ConfigDef.Type.INT, BACKPRESSURE_MAX_OBJECTS_DEFAULT, ConfigDef.Range.atLeast(0), ConfigDef.Importance.LOW, BACKPRESSURE_MAX_OBJECTS_DOC)
+            .define(BACKPRESSURE_THROTTLED_RATIO_CONFIG, ConfigDef.Type.DOUBLE, BACKPRESSURE_THROTTLED_RATIO_DEFAULT, ConfigDef.Range.between(0.0, 1.0), ConfigDef.Importance.LOW, BACKPRESSURE_THROTTLED_RATIO_DOC)
+            .define(BACKPRESSURE_WINDOW_MS_CONFIG, ConfigDef.Type.INT, BACKPRESSURE_WINDOW_MS_DEFAULT, ConfigDef.Range.atLeast(1), ConfigDef.Importance.LOW, BACKPRESSURE_WINDOW_MS_DOC)
+            .define(RETRY_BACKOFF_MAX_MS_CONFIG, ConfigDef.Type.INT, RETRY_BACKOFF_MAX_MS_DEFAULT, ConfigDef.Range.atLeast(1), ConfigDef.Importance.LOW, RETRY_BACKOFF_MAX_MS_DOC)
+            .define(RETRY_BUDGET_RATIO_CONFIG, ConfigDef.Type.DOUBLE, RETRY_BUDGET_RATIO_DEFAULT, ConfigDef.Range.atLeast(0.0), ConfigDef.Importance.LOW, RETRY_BUDGET_RATIO_DOC)
+            .define(RETRY_BUDGET_MIN_RETRIES_CONFIG, ConfigDef.Type.INT, RETRY_BUDGET_MIN_RETRIES_DEFAULT, ConfigDef.Range.atLeast(1), ConfigDef.Importance.LOW, RETRY_BUDGET_MIN_RETRIES_DOC)
+            .define(RETRY_BUDGET_WINDOW_MS_CONFIG, ConfigDef.Type.INT, RETRY_BUDGET_WINDOW_MS_DEFAULT, ConfigDef.Range.atLeast(1), ConfigDef.Importance.LOW, RETRY_BUDGET_WINDOW_MS_DOC)
+            .define(CIRCUIT_BREAKER_FAILURE_THRESHOLD_CONFIG, ConfigDef.Type.INT, CIRCUIT_BREAKER_FAILURE_THRESHOLD_DEFAULT, ConfigDef.Range.atLeast(0), ConfigDef.Importance.LOW, CIRCUIT_BREAKER_FAILURE_THRESHOLD_DOC)
+            .define(CIRCUIT_BREAKER_OPEN_MS_CONFIG, ConfigDef.Type.INT, CIRCUIT_BREAKER_OPEN_MS_DEFAULT, ConfigDef.Range.atLeast(1), ConfigDef.Importance.LOW, CIRCUIT_BREAKER_OPEN_MS_DOC)
+            .define(TENANT_STRATEGY_CONFIG, ConfigDef.Type.CLASS, TENANT_STRATEGY_DEFAULT, ConfigDef.Importance.MEDIUM, TENANT_STRATEGY_DOC)
+            .define(TENANT_FIELD_CONFIG, ConfigDef.Type.STRING, TENANT_FIELD_DEFAULT, ConfigDef.Importance.LOW, TENANT_FIELD_DOC)
+            .define(TENANT_HEADER_CONFIG, ConfigDef.Type.STRING, TENANT_HEADER_DEFAULT, ConfigDef.Importance.LOW, TENANT_HEADER_DOC)
+            .define(TENANT_TOPIC_PATTERN_CONFIG, ConfigDef.Type.STRING, TENANT_TOPIC_PATTERN_DEFAULT, new RegexValidator(), ConfigDef.Importance.LOW, TENANT_TOPIC_PATTERN_DOC)
+            .define(TENANT_AUTO_CREATE_CONFIG, ConfigDef.Type.BOOLEAN, TENANT_AUTO_CREATE_DEFAULT, ConfigDef.Importance.LOW, TENANT_AUTO_CREATE_DOC)
+            .define(TENANT_CACHE_SIZE_CONFIG, ConfigDef.Type.INT, TENANT_CACHE_SIZE_DEFAULT, ConfigDef.Range.atLeast(1), ConfigDef.Importance.LOW, TENANT_CACHE_SIZE_DOC);
 
     public WeaviateSinkConfig(ConfigDef definition, Map<?, ?> originals) {
         super(CONFIG_DEF, originals);
@@ -172,13 +463,23 @@ public final class WeaviateSinkConfig extends AbstractConfig {
         oidcClientSecret = getString(OIDC_CLIENT_SECRET_CONFIG);
         oidcScopes = getList(OIDC_SCOPES_CONFIG);
         collectionMapping = getString(COLLECTION_MAPPING_CONFIG);
+        collectionMappingTopicPattern = getString(COLLECTION_MAPPING_TOPIC_PATTERN_CONFIG);
+        CollectionRouter collectionRouter;
+        try {
+            collectionRouter = CollectionRouter.compile(collectionMapping, Pattern.compile(collectionMappingTopicPattern));
+        } catch (IllegalArgumentException e) {
+            throw new ConfigException(COLLECTION_MAPPING_CONFIG, collectionMapping, e.getMessage());
+        }
         rawHeaders = getList(HEADERS_CONFIG);
         grpcUrl = getString(GRPC_URL_CONFIG);
         grpcSecured = getBoolean(GRPC_SECURED_CONFIG);
         documentIdStrategy = getClass(DOCUMENT_ID_STRATEGY_CONFIG);
         documentIdFieldName = getString(DOCUMENT_ID_FIELD_CONFIG);
         vectorStrategy = getClass(VECTOR_STRATEGY_CONFIG);
+        tenantStrategy = getClass(TENANT_STRATEGY_CONFIG);
         vectorFieldName = getString(VECTOR_FIELD_CONFIG);
+        vectorEncoding = VectorEncoding.valueOf(getString(VECTOR_ENCODING_CONFIG).toUpperCase());
+        vectorInt8Scale = getDouble(VECTOR_INT8_SCALE_CONFIG);
         consistencyLevel = ConsistencyLevel.valueOf(getString(CONSISTENCY_LEVEL_CONFIG));
         maxConnectionRetries = getInt(MAX_CONNECTION_RETRIES_CONFIG);
         maxTimeoutRetries = getInt(MAX_TIMEOUT_RETRIES_CONFIG);
@@ -187,8 +488,61 @@ public final class WeaviateSinkConfig extends AbstractConfig {
         poolSize = getInt(POOL_SIZE_CONFIG);
         awaitTerminationMs = getInt(AWAIT_TERMINATION_MS_CONFIG);
         deleteEnabled = getBoolean(DELETE_ENABLED_CONFIG);
-        if (deleteEnabled && (!documentIdStrategy.equals(KafkaIdStrategy.class))) {
-            throw new IllegalArgumentException("If delete.enabled is true, document.id.strategy should be set to KafkaIdStrategy");
+        asyncEnabled = getBoolean(ASYNC_ENABLED_CONFIG);
+        maxInFlightBatches = getInt(MAX_IN_FLIGHT_BATCHES_CONFIG);
+        deduplicationEnabled = getBoolean(DEDUPLICATION_ENABLED_CONFIG);
+        schemaCacheSize = getInt(SCHEMA_CACHE_SIZE_CONFIG);
+        conversionThreads = getInt(CONVERSION_THREADS_CONFIG);
+        collectionBatchSizes = parseCollectionSettings(getList(COLLECTION_BATCH_SIZE_CONFIG));
+        collectionMaxInFlightBatches = parseCollectionSettings(getList(COLLECTION_MAX_IN_FLIGHT_BATCHES_CONFIG));
+        adaptiveBatchSizeEnabled = getBoolean(ADAPTIVE_BATCH_SIZE_ENABLED_CONFIG);
+        adaptiveBatchSizeMin = getInt(ADAPTIVE_BATCH_SIZE_MIN_CONFIG);
+        adaptiveBatchSizeMax = getInt(ADAPTIVE_BATCH_SIZE_MAX_CONFIG);
+        adaptiveBatchLatencyTargetMs = getLong(ADAPTIVE_BATCH_LATENCY_TARGET_MS_CONFIG);
+        batchMaxBytes = getLong(BATCH_MAX_BYTES_CONFIG);
+        maxObjectRetries = getInt(MAX_OBJECT_RETRIES_CONFIG);
+        documentIdFields = getList(DOCUMENT_ID_FIELDS_CONFIG);
+        documentIdNamespace = getString(DOCUMENT_ID_NAMESPACE_CONFIG);
+        skipUnchangedEnabled = getBoolean(SKIP_UNCHANGED_ENABLED_CONFIG);
+        skipUnchangedCacheSize = getInt(SKIP_UNCHANGED_CACHE_SIZE_CONFIG);
+        skipUnchangedCacheDir = getString(SKIP_UNCHANGED_CACHE_DIR_CONFIG);
+        propertiesInclude = getList(PROPERTIES_INCLUDE_CONFIG);
+        propertiesExclude = getList(PROPERTIES_EXCLUDE_CONFIG);
+        propertiesRename = parsePropertyRenames(getList(PROPERTIES_RENAME_CONFIG));
+        connectorMaxInFlightBatches = getInt(CONNECTOR_MAX_IN_FLIGHT_BATCHES_CONFIG);
+        clientShared = getBoolean(CLIENT_SHARED_CONFIG);
+        grpcChannels = getInt(GRPC_CHANNELS_CONFIG);
+        grpcDeadlineMs = getLong(GRPC_DEADLINE_MS_CONFIG);
+        proxyUrl = getString(PROXY_URL_CONFIG);
+        lingerMs = getInt(LINGER_MS_CONFIG);
+        backpressureEnabled = getBoolean(BACKPRESSURE_ENABLED_CONFIG);
+        backpressureMaxBytes = getLong(BACKPRESSURE_MAX_BYTES_CONFIG);
+        backpressureMaxObjects = getInt(BACKPRESSURE_MAX_OBJECTS_CONFIG);
+        backpressureThrottledRatio = getDouble(BACKPRESSURE_THROTTLED_RATIO_CONFIG);
+        backpressureWindowMs = getInt(BACKPRESSURE_WINDOW_MS_CONFIG);
+        retryBackoffMaxMs = getInt(RETRY_BACKOFF_MAX_MS_CONFIG);
+        retryBudgetRatio = getDouble(RETRY_BUDGET_RATIO_CONFIG);
+        retryBudgetMinRetries = getInt(RETRY_BUDGET_MIN_RETRIES_CONFIG);
+        retryBudgetWindowMs = getInt(RETRY_BUDGET_WINDOW_MS_CONFIG);
+        circuitBreakerFailureThreshold = getInt(CIRCUIT_BREAKER_FAILURE_THRESHOLD_CONFIG);
+        circuitBreakerOpenMs = getInt(CIRCUIT_BREAKER_OPEN_MS_CONFIG);
+        tenantFieldName = getString(TENANT_FIELD_CONFIG);
+        tenantHeaderName = getString(TENANT_HEADER_CONFIG);
+        tenantTopicPattern = getString(TENANT_TOPIC_PATTERN_CONFIG);
+        tenantAutoCreate = getBoolean(TENANT_AUTO_CREATE_CONFIG);
+        tenantCacheSize = getInt(TENANT_CACHE_SIZE_CONFIG);
+        if (deleteEnabled && !documentIdStrategy.equals(KafkaIdStrategy.class)
+                && !(documentIdStrategy.equals(CompositeIdStrategy.class) && documentIdFields.stream().allMatch(field -> field.startsWith("key")))) {
+            throw new IllegalArgumentException("If delete.enabled is true, document.id.strategy should be set to KafkaIdStrategy or to CompositeIdStrategy with key fields only");
+        }
+        if (deleteEnabled && collectionRouter.usesValue()) {
+            throw new IllegalArgumentException("If delete.enabled is true, collection.mapping can not use ${value.<field>}, tombstones have no value to route on");
+        }
+        if (deleteEnabled && tenantStrategy.equals(FieldTenantStrategy.class)) {
+            throw new IllegalArgumentException("If delete.enabled is true, tenant.strategy can not be FieldTenantStrategy, tombstones have no value to read the tenant from");
+        }
+        if (adaptiveBatchSizeMin > adaptiveBatchSizeMax) {
+            throw new IllegalArgumentException("adaptive.batch.size.min should not be greater than adaptive.batch.size.max");
         }
     }
 
@@ -212,6 +566,10 @@ public final class WeaviateSinkConfig extends AbstractConfig {
         return collectionMapping;
     }
 
+    public String getCollectionMappingTopicPattern() {
+        return collectionMappingTopicPattern;
+    }
+
     public List<String> getOidcScopes() {
         return oidcScopes;
     }
@@ -236,10 +594,22 @@ public final class WeaviateSinkConfig extends AbstractConfig {
         return vectorStrategy;
     }
 
+    public Class<?> getTenantStrategy() {
+        return tenantStrategy;
+    }
+
     public String getVectorFieldName() {
         return vectorFieldName;
     }
 
+    public VectorEncoding getVectorEncoding() {
+        return vectorEncoding;
+    }
+
+    public double getVectorInt8Scale() {
+        return vectorInt8Scale;
+    }
+
     public List<String> getRawHeaders() {
         return rawHeaders;
     }
@@ -276,6 +646,199 @@ public final class WeaviateSinkConfig extends AbstractConfig {
         return deleteEnabled;
     }
 
+    public Boolean getAsyncEnabled() {
+        return asyncEnabled;
+    }
+
+    public Integer getMaxInFlightBatches() {
+        return maxInFlightBatches;
+    }
+
+    public Boolean getDeduplicationEnabled() {
+        return deduplicationEnabled;
+    }
+
+    public Integer getSchemaCacheSize() {
+        return schemaCacheSize;
+    }
+
+    public Integer getConversionThreads() {
+        return conversionThreads;
+    }
+
+    public Map<String, Integer> getCollectionBatchSizes() {
+        return collectionBatchSizes;
+    }
+
+    public Map<String, Integer> getCollectionMaxInFlightBatches() {
+        return collectionMaxInFlightBatches;
+    }
+
+    public Boolean getAdaptiveBatchSizeEnabled() {
+        return adaptiveBatchSizeEnabled;
+    }
+
+    public Integer getAdaptiveBatchSizeMin() {
+        return adaptiveBatchSizeMin;
+    }
+
+    public Integer getAdaptiveBatchSizeMax() {
+        return adaptiveBatchSizeMax;
+    }
+
+    public Long getAdaptiveBatchLatencyTargetMs() {
+        return adaptiveBatchLatencyTargetMs;
+    }
+
+    public Long getBatchMaxBytes() {
+        return batchMaxBytes;
+    }
+
+    public Integer getMaxObjectRetries() {
+        return maxObjectRetries;
+    }
+
+    public List<String> getDocumentIdFields() {
+        return documentIdFields;
+    }
+
+    public String getDocumentIdNamespace() {
+        return documentIdNamespace;
+    }
+
+    public Boolean getSkipUnchangedEnabled() {
+        return skipUnchangedEnabled;
+    }
+
+    public Integer getSkipUnchangedCacheSize() {
+        return skipUnchangedCacheSize;
+    }
+
+    public String getSkipUnchangedCacheDir() {
+        return skipUnchangedCacheDir;
+    }
+
+    public List<String> getPropertiesInclude() {
+        return propertiesInclude;
+    }
+
+    public List<String> getPropertiesExclude() {
+        return propertiesExclude;
+    }
+
+    /**
+     * Property names by record field name.
+     */
+    public Map<String, String> getPropertiesRename() {
+        return propertiesRename;
+    }
+
+    public Integer getConnectorMaxInFlightBatches() {
+        return connectorMaxInFlightBatches;
+    }
+
+    public Boolean getClientShared() {
+        return clientShared;
+    }
+
+    public Integer getGrpcChannels() {
+        return grpcChannels;
+    }
+
+    public Long getGrpcDeadlineMs() {
+        return grpcDeadlineMs;
+    }
+
+    public String getProxyUrl() {
+        return proxyUrl;
+    }
+
+    public Integer getLingerMs() {
+        return lingerMs;
+    }
+
+    public Boolean getBackpressureEnabled() {
+        return backpressureEnabled;
+    }
+
+    public Long getBackpressureMaxBytes() {
+        return backpressureMaxBytes;
+    }
+
+    public Integer getBackpressureMaxObjects() {
+        return backpressureMaxObjects;
+    }
+
+    public Double getBackpressureThrottledRatio() {
+        return backpressureThrottledRatio;
+    }
+
+    public Integer getBackpressureWindowMs() {
+        return backpressureWindowMs;
+    }
+
+    public Integer getRetryBackoffMaxMs() {
+        return retryBackoffMaxMs;
+    }
+
+    public Double getRetryBudgetRatio() {
+        return retryBudgetRatio;
+    }
+
+    public Integer getRetryBudgetMinRetries() {
+        return retryBudgetMinRetries;
+    }
+
+    public Integer getRetryBudgetWindowMs() {
+        return retryBudgetWindowMs;
+    }
+
+    public Integer getCircuitBreakerFailureThreshold() {
+        return circuitBreakerFailureThreshold;
+    }
+
+    public Integer getCircuitBreakerOpenMs() {
+        return circuitBreakerOpenMs;
+    }
+
+    public String getTenantFieldName() {
+        return tenantFieldName;
+    }
+
+    public String getTenantHeaderName() {
+        return tenantHeaderName;
+    }
+
+    public String getTenantTopicPattern() {
+        return tenantTopicPattern;
+    }
+
+    public Boolean getTenantAutoCreate() {
+        return tenantAutoCreate;
+    }
+
+    public Integer getTenantCacheSize() {
+        return tenantCacheSize;
+    }
+
+    private static Map<String, String> parsePropertyRenames(List<String> renames) {
+        Map<String, String> values = new HashMap<>();
+        for (String rename : renames) {
+            int separator = rename.indexOf('=');
+            values.put(rename.substring(0, separator).trim(), rename.substring(separator + 1).trim());
+        }
+        return values;
+    }
+
+    private static Map<String, Integer> parseCollectionSettings(List<String> settings) {
+        Map<String, Integer> values = new HashMap<>();
+        for (String setting : settings) {
+            int separator = setting.indexOf('=');
+            values.put(setting.substring(0, separator).trim(), Integer.parseInt(setting.substring(separator + 1).trim()));
+        }
+        return values;
+    }
+
     public Map<String, String> getHeaders() {
         HashMap<String, String> headers = new HashMap<>();
         for (String header : rawHeaders) {
@@ -287,6 +850,35 @@ public final class WeaviateSinkConfig extends AbstractConfig {
         return headers;
     }
 
+    private static class RegexValidator implements ConfigDef.Validator {
+        @Override
+        public void ensureValid(String name, Object value) {
+            try {
+                Pattern.compile((String) value);
+            } catch (PatternSyntaxException e) {
+                throw new ConfigException(name, value, "Invalid regular expression: " + e.getDescription());
+            }
+        }
+    }
+
+    private static class ProxyUrlValidator implements ConfigDef.Validator {
+        @Override
+        public void ensureValid(String name, Object value) {
+            String url = (String) value;
+            if (url == null || url.isEmpty()) {
+                return;
+            }
+            try {
+                URI uri = new URI(url);
+                if (uri.getScheme() == null || uri.getHost() == null || uri.getPort() == -1) {
+                    throw new ConfigException(name, value, "The proxy URL must have a scheme, a host and a port");
+                }
+            } catch (URISyntaxException e) {
+                throw new ConfigException(name, value, "Invalid proxy URL: " + e.getMessage());
+            }
+        }
+    }
+
     private static class HeaderValidator implements ConfigDef.Validator {
         @SuppressWarnings("unchecked")
         @Override
@@ -303,6 +895,79 @@ public final class WeaviateSinkConfig extends AbstractConfig {
         }
     }
 
+    private static class CollectionSettingValidator implements ConfigDef.Validator {
+        @SuppressWarnings("unchecked")
+        @Override
+        public void ensureValid(String name, Object value) {
+            if (!(value instanceof List)) {
+                throw new ConfigException(name, value, "Expected a list of <collection>=<value>");
+            }
+            for (String setting : (List<String>) value) {
+                int separator = setting.indexOf('=');
+                if (separator <= 0) {
+                    throw new ConfigException(name, setting, "Expected <collection>=<value>");
+                }
+                try {
+                    if (Integer.parseInt(setting.substring(separator + 1).trim()) < 1) {
+                        throw new ConfigException(name, setting, "Value should be at least 1");
+                    }
+                } catch (NumberFormatException e) {
+                    throw new ConfigException(name, setting, "Value should be an integer");
+                }
+            }
+        }
+    }
+
+    private static class IdFieldValidator implements ConfigDef.Validator {
+        @SuppressWarnings("unchecked")
+        @Override
+        public void ensureValid(String name, Object value) {
+            if (!(value instanceof List)) {
+                throw new ConfigException(name, value, "Expected a list of key, key.<field> or value.<field>");
+            }
+            for (String field : (List<String>) value) {
+                if (!field.equals("key") && !(field.startsWith("key.") && field.length() > 4)
+                        && !(field.startsWith("value.") && field.length() > 6)) {
+                    throw new ConfigException(name, field, "Expected key, key.<field> or value.<field>");
+                }
+            }
+        }
+    }
+
+    private static class PropertyRenameValidator implements ConfigDef.Validator {
+        @SuppressWarnings("unchecked")
+        @Override
+        public void ensureValid(String name, Object value) {
+            if (!(value instanceof List)) {
+                throw new ConfigException(name, value, "Expected a list of <field>=<property>");
+            }
+            Set<String> properties = new HashSet<>();
+            for (String rename : (List<String>) value) {
+                int separator = rename.indexOf('=');
+                if (separator <= 0 || separator == rename.length() - 1) {
+                    throw new ConfigException(name, rename, "Expected <field>=<property>");
+                }
+                if (!properties.add(rename.substring(separator + 1).trim())) {
+                    throw new ConfigException(name, rename, "Several fields are renamed to the same property");
+                }
+            }
+        }
+    }
+
+    private static class UuidValidator implements ConfigDef.Validator {
+        @Override
+        public void ensureValid(String name, Object value) {
+            if (value == null || ((String) value).isEmpty()) {
+                return;
+            }
+            try {
+                UUID.fromString((String) value);
+            } catch (IllegalArgumentException e) {
+                throw new ConfigException(name, value, "Expected a UUID");
+            }
+        }
+    }
+
     private static class EnumValidator implements ConfigDef.Validator {
         private final List<String> canonicalValues;
         private final Set<String> validValues;
@@ -342,4 +1007,11 @@ public final class WeaviateSinkConfig extends AbstractConfig {
         QUORUM,
     }
 
+    public enum VectorEncoding {
+        FLOAT32,
+        FLOAT16,
+        BFLOAT16,
+        INT8,
+    }
+
 }
@@ -18,17 +18,27 @@ package io.weaviate.connector;
 import org.apache.kafka.common.config.ConfigDef;
 import org.apache.kafka.connect.connector.Task;
 import org.apache.kafka.connect.sink.SinkConnector;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 public class WeaviateSinkConnector extends SinkConnector {
+    private static final Logger log = LoggerFactory.getLogger(WeaviateSinkConnector.class);
+
+    // Index of the task among the tasks of the connector, used to tag task metrics
+    static final String TASK_ID_CONFIG = "task.id";
+
     private Map<String, String> configProps;
+    private WeaviateSinkConfig config;
 
     @Override
     public void start(Map<String, String> map) {
         configProps = map;
+        config = new WeaviateSinkConfig(WeaviateSinkConfig.CONFIG_DEF, map);
     }
 
     @Override
@@ -40,11 +50,32 @@ public class WeaviateSinkConnector extends SinkConnector {
     public List<Map<String, String>> taskConfigs(int maxTask) {
         ArrayList<Map<String, String>> tasks = new ArrayList<>();
         for (int i = 0; i < maxTask; i++) {
-            tasks.add(configProps);
+            Map<String, String> taskProps = new HashMap<>(configProps);
+            taskProps.put(TASK_ID_CONFIG, String.valueOf(i));
+            int budget = config.getConnectorMaxInFlightBatches();
+            if (budget > 0) {
+                int share = inFlightShare(budget, maxTask, i);
+                taskProps.put(WeaviateSinkConfig.MAX_IN_FLIGHT_BATCHES_CONFIG, String.valueOf(Math.min(config.getMaxInFlightBatches(), share)));
+                // Threads past the in-flight limit would only wait for a permit
+                taskProps.put(WeaviateSinkConfig.POOL_SIZE_CONFIG, String.valueOf(Math.min(config.getPoolSize(), share)));
+            }
+            tasks.add(taskProps);
+        }
+        if (config.getConnectorMaxInFlightBatches() > 0 && config.getConnectorMaxInFlightBatches() < maxTask) {
+            log.warn("{} of {} is lower than the {} tasks, each task still sends one batch at a time",
+                    config.getConnectorMaxInFlightBatches(), WeaviateSinkConfig.CONNECTOR_MAX_IN_FLIGHT_BATCHES_CONFIG, maxTask);
         }
         return tasks;
     }
 
+    /**
+     * Share of the connector budget of a task, the remainder going to the first tasks and every
+     * task getting at least one batch.
+     */
+    static int inFlightShare(int budget, int tasks, int task) {
+        return Math.max(1, budget / tasks + (task < budget % tasks ? 1 : 0));
+    }
+
     @Override
     public void stop() {
 
@@ -16,29 +16,69 @@
 package io.weaviate.connector;
 
 import io.grpc.NameResolverRegistry;
-import io.weaviate.client.Config;
-import io.weaviate.client.WeaviateAuthClient;
 import io.weaviate.client.WeaviateClient;
-import io.weaviate.client.v1.auth.exception.AuthException;
-import io.weaviate.client.v1.batch.api.ObjectsBatcher;
 import io.weaviate.client.v1.data.model.WeaviateObject;
+import io.weaviate.connector.client.SharedWeaviateClient;
+import io.weaviate.connector.client.WeaviateClientRegistry;
 import io.weaviate.connector.converter.DataConverter;
+import io.weaviate.connector.converter.PropertyProjection;
 import io.weaviate.connector.idstrategy.IDStrategy;
+import io.weaviate.connector.metrics.SinkMetrics;
+import io.weaviate.connector.routing.CollectionRouter;
+import io.weaviate.connector.tenantstrategy.TenantStrategy;
 import io.weaviate.connector.vectorstrategy.VectorStrategy;
+import io.weaviate.connector.writer.Backpressure;
+import io.weaviate.connector.writer.BatchSender;
+import io.weaviate.connector.writer.BatchWriter;
+import io.weaviate.connector.writer.ContentHashCache;
+import io.weaviate.connector.writer.OffsetTracker;
+import io.weaviate.connector.writer.WeaviateBatchSender;
+import io.weaviate.connector.writer.WriteOperation;
 import org.apache.kafka.clients.consumer.OffsetAndMetadata;
 import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.connect.errors.DataException;
+import org.apache.kafka.connect.sink.ErrantRecordReporter;
 import org.apache.kafka.connect.sink.SinkRecord;
 import org.apache.kafka.connect.sink.SinkTask;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
 
 public class WeaviateSinkTask extends SinkTask {
+    private static final Logger log = LoggerFactory.getLogger(WeaviateSinkTask.class);
+    // Paused partitions return no record, the task is still called that often to check whether Weaviate caught up
+    static final long BACKPRESSURE_RECHECK_MS = 100;
+
     WeaviateClient client;
-    private String collectionMappingRule;
+    private SharedWeaviateClient sharedClient;
+    private CollectionRouter collectionRouter;
     private IDStrategy documentIdStrategy;
     private VectorStrategy vectorStrategy;
-    private ObjectsBatcher objectsBatcher;
+    private TenantStrategy tenantStrategy;
+    private DataConverter dataConverter;
+    private OffsetTracker offsetTracker;
+    private ErrantRecordReporter errantRecordReporter;
+    private BatchWriter batchWriter;
+    private ExecutorService conversionExecutor;
+    private SinkMetrics metrics;
+    private ContentHashCache contentHashCache;
+    private Path contentHashCacheFile;
+    private final Set<TopicPartition> assignment = new HashSet<>();
     private WeaviateSinkConfig config;
 
     @Override
@@ -49,7 +89,7 @@ public class WeaviateSinkTask extends SinkTask {
     @Override
     public void start(Map<String, String> map) {
         this.config = new WeaviateSinkConfig(WeaviateSinkConfig.CONFIG_DEF, map);
-        this.collectionMappingRule = config.getCollectionMapping();
+        this.collectionRouter = CollectionRouter.compile(config.getCollectionMapping(), Pattern.compile(config.getCollectionMappingTopicPattern()));
         buildWeaviateClient(config);
         try {
             this.documentIdStrategy = (IDStrategy) config.getDocumentIdStrategy().getDeclaredConstructor().newInstance();
@@ -65,102 +105,307 @@ public class WeaviateSinkTask extends SinkTask {
             throw new RuntimeException("Can not instantiate VectorStrategy class", e);
         }
 
+        try {
+            this.tenantStrategy = (TenantStrategy) config.getTenantStrategy().getDeclaredConstructor().newInstance();
+            this.tenantStrategy.configure(config);
+        } catch (Exception e) {
+            throw new RuntimeException("Can not instantiate TenantStrategy class", e);
+        }
+
+        Set<String> excludedFields = new HashSet<>(config.getPropertiesExclude());
+        if (documentIdStrategy.getSourceField() != null) {
+            excludedFields.add(documentIdStrategy.getSourceField());
+        }
+        if (vectorStrategy.getSourceField() != null) {
+            excludedFields.add(vectorStrategy.getSourceField());
+        }
+        PropertyProjection projection = new PropertyProjection(new HashSet<>(config.getPropertiesInclude()), excludedFields, config.getPropertiesRename());
+        this.dataConverter = new DataConverter(config.getSchemaCacheSize(), projection);
+
         // Getting GRPC default registry to trigger Classloader issues if there
         // are missing GRPC packages
         NameResolverRegistry defaultRegistry = NameResolverRegistry.getDefaultRegistry();
         defaultRegistry.getDefaultScheme();
+
+        String connectorName = map.getOrDefault("name", "weaviate-sink");
+        String taskId = map.getOrDefault(WeaviateSinkConnector.TASK_ID_CONFIG, "0");
+        this.metrics = SinkMetrics.jmx(connectorName, taskId);
+        if (config.getSkipUnchangedEnabled()) {
+            this.contentHashCache = new ContentHashCache(config.getSkipUnchangedCacheSize());
+            if (!config.getSkipUnchangedCacheDir().isEmpty()) {
+                this.contentHashCacheFile = Paths.get(config.getSkipUnchangedCacheDir(), connectorName + "-" + taskId + ".cache");
+                contentHashCache.load(contentHashCacheFile);
+            }
+        }
+        this.offsetTracker = new OffsetTracker();
+        this.errantRecordReporter = errantRecordReporter();
+        this.batchWriter = new BatchWriter(createBatchSender(config), offsetTracker, config, errantRecordReporter, metrics, contentHashCache);
+        if (config.getConversionThreads() > 1) {
+            AtomicInteger threadCounter = new AtomicInteger();
+            this.conversionExecutor = Executors.newFixedThreadPool(config.getConversionThreads(), runnable -> {
+                Thread thread = new Thread(runnable, "weaviate-sink-conversion-" + threadCounter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    private ErrantRecordReporter errantRecordReporter() {
+        if (context == null) {
+            return null;
+        }
+        try {
+            return context.errantRecordReporter();
+        } catch (NoSuchMethodError | NoClassDefFoundError e) {
+            // Connect runtimes older than 2.6 have no errant record reporter
+            log.warn("Errant record reporter not available, rejected objects will fail the task");
+            return null;
+        }
+    }
+
+    protected BatchSender createBatchSender(WeaviateSinkConfig config) {
+        return new WeaviateBatchSender(sharedClient, config);
     }
 
     private void buildWeaviateClient(WeaviateSinkConfig config) {
-        Config weaviateConfig = getConfig(config);
-        if (config.getAuthMechanism() == WeaviateSinkConfig.AuthMechanism.NONE) {
-            client = new WeaviateClient(weaviateConfig);
-        } else if (config.getAuthMechanism() == WeaviateSinkConfig.AuthMechanism.API_KEY) {
-            try {
-                client = WeaviateAuthClient.apiKey(weaviateConfig, config.getApiKey());
-            } catch (AuthException e) {
-                throw new RuntimeException(e);
-            }
-        } else if (config.getAuthMechanism() == WeaviateSinkConfig.AuthMechanism.OIDC_CLIENT_CREDENTIALS) {
-            try {
-                client = WeaviateAuthClient.clientCredentials(weaviateConfig, config.getOidcClientSecret(), config.getOidcScopes());
-            } catch (AuthException e) {
-                throw new RuntimeException(e);
+        sharedClient = config.getClientShared() ? WeaviateClientRegistry.shared().acquire(config) : SharedWeaviateClient.create(config);
+        client = sharedClient.client();
+    }
+
+    @Override
+    public void put(Collection<SinkRecord> collection) {
+        if (conversionExecutor != null && collection.size() > 1) {
+            SinkRecord[] records = collection.toArray(new SinkRecord[0]);
+            WriteOperation[] operations = convertInParallel(records);
+            for (int i = 0; i < records.length; i++) {
+                write(records[i], operations[i]);
             }
         } else {
-            throw new RuntimeException("Unknown authentication mechanism");
+            for (SinkRecord record : collection) {
+                write(record, toWriteOperation(record));
+            }
+        }
+        long pollTimeoutMs = -1;
+        if (config.getLingerMs() > 0) {
+            batchWriter.dispatchExpired();
+            if (!config.getAsyncEnabled()) {
+                batchWriter.awaitInFlight(); // Waiting for sent batches to ease error handling
+            }
+            // Bounding the next poll, so that partial batches are sent on time even if no record comes
+            pollTimeoutMs = batchWriter.lingerRemainingMs();
+        } else if (!config.getAsyncEnabled()) {
+            batchWriter.flush(); // Flushing to ease error handling
+        }
+        if (applyBackpressure()) {
+            pollTimeoutMs = pollTimeoutMs < 0 ? BACKPRESSURE_RECHECK_MS : Math.min(pollTimeoutMs, BACKPRESSURE_RECHECK_MS);
+        }
+        if (pollTimeoutMs >= 0 && context != null) {
+            context.timeout(Math.max(1, pollTimeoutMs));
+        }
+        if (config.getDeduplicationEnabled() && log.isDebugEnabled()) {
+            log.debug("{} writes superseded by a later write on the same document so far", batchWriter.elidedWrites());
         }
     }
 
-    private static Config getConfig(WeaviateSinkConfig config) {
-        String scheme = config.getConnectionUrl().split("://")[0];
-        String hostAndPort = config.getConnectionUrl().split("://")[1];
-        Map<String, String> headers = config.getHeaders();
-        Config weaviateConfig = new Config(scheme, hostAndPort, headers);
-        if (config.getGrpcUrl() != null && !config.getGrpcUrl().isEmpty()) {
-            weaviateConfig.setGRPCHost(config.getGrpcUrl());
-            weaviateConfig.setGRPCSecured(config.getGrpcSecured());
+    /**
+     * Pauses the assigned partitions while Weaviate does not keep up and resumes them once it caught
+     * up, returning whether they are paused.
+     */
+    private boolean applyBackpressure() {
+        Backpressure backpressure = batchWriter.backpressure();
+        if (backpressure == null || context == null) {
+            return false;
+        }
+        boolean changed = backpressure.update();
+        TopicPartition[] partitions = context.assignment().toArray(new TopicPartition[0]);
+        if (backpressure.isPaused()) {
+            // Pausing on every check, so that partitions assigned in the meantime are paused as well
+            context.pause(partitions);
+            if (changed) {
+                log.info("Pausing {} partitions as Weaviate does not keep up, {} operations of {} bytes held, {} of the recent requests throttled",
+                        partitions.length, backpressure.heldObjects(), backpressure.heldBytes(), backpressure.throttledRatio());
+            }
+            return true;
+        }
+        if (changed) {
+            context.resume(partitions);
+            log.info("Resuming {} partitions as Weaviate caught up", partitions.length);
         }
-        return weaviateConfig;
+        return false;
     }
 
-    @Override
-    public void put(Collection<SinkRecord> collection) {
-        if (objectsBatcher == null) {
-            objectsBatcher = client.batch().objectsAutoBatcher(
-                    ObjectsBatcher.BatchRetriesConfig.builder()
-                            .maxConnectionRetries(config.getMaxConnectionRetries())
-                            .maxTimeoutRetries(config.getMaxTimeoutRetries())
-                            .retriesIntervalMs(config.getRetryInterval())
-                            .build(),
-                    ObjectsBatcher.AutoBatchConfig.builder()
-                            .batchSize(config.getBatchSize())
-                            .poolSize(config.getPoolSize())
-                            .awaitTerminationMs(config.getAwaitTerminationMs())
-                            .build()
-            );
-            objectsBatcher.withConsistencyLevel(config.getConsistencyLevel().name());
-        }
-        DataConverter dataConverter = new DataConverter();
-        for (SinkRecord record : collection) {
-            if (record.value() == null) {
-                // Skipping tombstone if delete is not enabled
-                if (config.getDeleteEnabled()) {
-                    client.data().deleter()
-                            .withClassName(getCollectionName(record.topic()))
-                            .withID(documentIdStrategy.getDocumentId(record, null))
-                            .withConsistencyLevel(config.getConsistencyLevel().name())
-                            .run();
+    /**
+     * Converts contiguous slices of the records concurrently. The operations are returned in record
+     * order, so writing them from the task thread keeps the order of every partition.
+     */
+    private WriteOperation[] convertInParallel(SinkRecord[] records) {
+        WriteOperation[] operations = new WriteOperation[records.length];
+        int slices = Math.min(config.getConversionThreads(), records.length);
+        int sliceSize = (records.length + slices - 1) / slices;
+        List<CompletableFuture<Void>> conversions = new ArrayList<>(slices);
+        for (int start = 0; start < records.length; start += sliceSize) {
+            int from = start;
+            int to = Math.min(start + sliceSize, records.length);
+            conversions.add(CompletableFuture.runAsync(() -> {
+                for (int i = from; i < to; i++) {
+                    operations[i] = toWriteOperation(records[i]);
+                }
+            }, conversionExecutor));
+        }
+        for (CompletableFuture<Void> conversion : conversions) {
+            try {
+                conversion.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
                 }
-                continue;
+                throw e;
             }
-            Map<String, Object> properties = dataConverter.convertToWeaviateProperties(record.valueSchema(), record.value());
-            objectsBatcher.withObject(WeaviateObject.builder()
-                    .className(getCollectionName((record.topic())))
-                    .properties(properties)
-                    .id(documentIdStrategy.getDocumentId(record, properties))
-                    .vector(vectorStrategy.getDocumentVector(record, properties))
-                    .build());
         }
-        objectsBatcher.flush(); // Flushing to ease error handling
+        return operations;
     }
 
-    public String getCollectionName(String topic) {
-        return collectionMappingRule.replace("${topic}", topic);
+    private void write(SinkRecord record, WriteOperation operation) {
+        if (operation == null) {
+            // Nothing to write, the record must not hold back the offsets of its partition
+            offsetTracker.skip(record);
+        } else {
+            batchWriter.write(operation);
+        }
+    }
+
+    /**
+     * Operation carrying the record to Weaviate, null for tombstones that are skipped and records
+     * reported as errant.
+     */
+    private WriteOperation toWriteOperation(SinkRecord record) {
+        long start = System.nanoTime();
+        WriteOperation operation = convert(record);
+        metrics.recordConversion(System.nanoTime() - start);
+        return operation;
+    }
+
+    private WriteOperation convert(SinkRecord record) {
+        // Skipping tombstone if delete is not enabled
+        if (record.value() == null && !config.getDeleteEnabled()) {
+            return null;
+        }
+        String collection;
+        String tenant;
+        try {
+            collection = getCollectionName(record);
+            tenant = tenantStrategy.getTenant(record);
+        } catch (DataException e) {
+            return reportUnroutable(record, e);
+        }
+        if (record.value() == null) {
+            return WriteOperation.delete(record, collection, tenant, documentIdStrategy.getDocumentId(record, null));
+        }
+        Map<String, Object> properties = dataConverter.convertToWeaviateProperties(record.valueSchema(), record.value());
+        String documentId = documentIdStrategy.getDocumentId(record, properties);
+        float[] vector = vectorStrategy.getVector(record, properties);
+        return WriteOperation.upsert(record, WeaviateObject.builder()
+                .className(collection)
+                .properties(properties)
+                .id(documentId)
+                .tenant(tenant)
+                .build(), vector);
+    }
+
+    public String getCollectionName(SinkRecord record) {
+        return collectionRouter.collection(record);
+    }
+
+    /**
+     * Reports a record whose collection or tenant can not be resolved as errant, returning no
+     * operation, or fails when there is no errant record reporter.
+     */
+    private WriteOperation reportUnroutable(SinkRecord record, DataException e) {
+        if (errantRecordReporter == null) {
+            throw e;
+        }
+        errantRecordReporter.report(record, e);
+        return null;
     }
 
     @Override
     public void flush(Map<TopicPartition, OffsetAndMetadata> currentOffsets) {
         super.flush(currentOffsets);
-        if (objectsBatcher != null) {
-            objectsBatcher.flush();
+        if (batchWriter != null) {
+            batchWriter.flush();
         }
     }
 
+    @Override
+    public Map<TopicPartition, OffsetAndMetadata> preCommit(Map<TopicPartition, OffsetAndMetadata> currentOffsets) {
+        if (!config.getAsyncEnabled() && config.getLingerMs() == 0) {
+            return super.preCommit(currentOffsets);
+        }
+        // Only committing offsets of records acknowledged by Weaviate, in-flight batches keep running.
+        // Partial batches are sent so that a partition with few records still makes progress.
+        if (config.getLingerMs() > 0) {
+            batchWriter.dispatchExpired();
+        } else {
+            batchWriter.dispatchBuffered();
+        }
+        batchWriter.ensureHealthy();
+        Map<TopicPartition, OffsetAndMetadata> committable = new HashMap<>();
+        for (Map.Entry<TopicPartition, OffsetAndMetadata> entry : offsetTracker.committableOffsets().entrySet()) {
+            if (currentOffsets.containsKey(entry.getKey())) {
+                committable.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return committable;
+    }
+
+    @Override
+    public void open(Collection<TopicPartition> partitions) {
+        assignment.addAll(partitions);
+        if (contentHashCache != null) {
+            contentHashCache.assigned(assignment);
+        }
+    }
+
+    @Override
+    public void close(Collection<TopicPartition> partitions) {
+        // Draining so that completions of revoked partitions do not leak into a later assignment
+        if (batchWriter != null) {
+            batchWriter.flush();
+            offsetTracker.remove(partitions);
+        }
+        if (contentHashCache != null) {
+            // All partitions are closed before the task stops, saving while the hashes are still known
+            if (contentHashCacheFile != null && !assignment.isEmpty() && partitions.containsAll(assignment)) {
+                contentHashCache.save(contentHashCacheFile, assignment);
+            }
+            // Other tasks may write the documents of revoked partitions, their hashes become stale
+            contentHashCache.revoke(partitions);
+        }
+        assignment.removeAll(partitions);
+    }
+
     @Override
     public void stop() {
-        if (objectsBatcher != null) {
-            objectsBatcher.close();
+        if (conversionExecutor != null) {
+            conversionExecutor.shutdownNow();
+        }
+        try {
+            if (batchWriter != null) {
+                batchWriter.close();
+            }
+        } finally {
+            // Only hashes of acknowledged writes are saved, whether the writer drained or not. Closing
+            // the partitions saved them already, unless the task is stopped while still assigned.
+            if (contentHashCacheFile != null && !assignment.isEmpty()) {
+                contentHashCache.save(contentHashCacheFile, assignment);
+            }
+            if (metrics != null) {
+                metrics.close();
+            }
+            if (sharedClient != null) {
+                sharedClient.release();
+                sharedClient = null;
+            }
         }
     }
 }
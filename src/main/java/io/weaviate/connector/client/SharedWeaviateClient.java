@@ -0,0 +1,285 @@
+/*
+ * Copyright © 2025 Weaviate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.weaviate.connector.client;
+
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.ForwardingClientCall;
+import io.grpc.HttpConnectProxiedSocketAddress;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.weaviate.client.Config;
+import io.weaviate.client.WeaviateAuthClient;
+import io.weaviate.client.WeaviateClient;
+import io.weaviate.client.base.Result;
+import io.weaviate.client.base.grpc.base.BaseGrpcClient;
+import io.weaviate.client.base.util.DbVersionProvider;
+import io.weaviate.client.base.util.GrpcVersionSupport;
+import io.weaviate.client.grpc.protocol.v1.WeaviateGrpc;
+import io.weaviate.client.grpc.protocol.v1.WeaviateProtoBatch;
+import io.weaviate.client.v1.auth.exception.AuthException;
+import io.weaviate.client.v1.auth.nimbus.AuthType;
+import io.weaviate.client.v1.auth.nimbus.NimbusAuth;
+import io.weaviate.client.v1.auth.provider.AccessTokenProvider;
+import io.weaviate.client.v1.batch.grpc.BatchObjectConverter;
+import io.weaviate.client.v1.misc.model.Meta;
+import io.weaviate.connector.WeaviateSinkConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A Weaviate client together with a fixed set of gRPC channels batches are sent over. The stock
+ * client opens a new gRPC channel for every batch, these are opened once and closed by
+ * {@link #release()} of the last user.
+ */
+public final class SharedWeaviateClient {
+    private static final Logger log = LoggerFactory.getLogger(SharedWeaviateClient.class);
+    private static final long SHUTDOWN_TIMEOUT_MS = 5000;
+
+    private final WeaviateClient client;
+    private final AccessTokenProvider tokenProvider;
+    private final ManagedChannel[] channels;
+    private final WeaviateGrpc.WeaviateBlockingStub[] stubs;
+    private final AtomicInteger nextChannel = new AtomicInteger();
+    private final long deadlineMs;
+    private final BatchObjectConverter batchObjectConverter;
+    private final WeaviateClientRegistry registry;
+    private final String connectionUrl;
+    // Guarded by the registry
+    int references;
+
+    private SharedWeaviateClient(WeaviateSinkConfig config, WeaviateClientRegistry registry) {
+        this.registry = registry;
+        this.connectionUrl = config.getConnectionUrl();
+        this.deadlineMs = config.getGrpcDeadlineMs();
+        Config weaviateConfig = getConfig(config);
+        this.client = client(config, weaviateConfig);
+        if (weaviateConfig.useGRPC()) {
+            this.tokenProvider = grpcTokenProvider(config, weaviateConfig);
+            ClientInterceptor interceptor = new HeadersInterceptor(weaviateConfig, tokenProvider);
+            this.channels = new ManagedChannel[config.getGrpcChannels()];
+            this.stubs = new WeaviateGrpc.WeaviateBlockingStub[channels.length];
+            for (int i = 0; i < channels.length; i++) {
+                channels[i] = channel(weaviateConfig);
+                stubs[i] = WeaviateGrpc.newBlockingStub(channels[i]).withInterceptors(interceptor);
+            }
+        } else {
+            this.tokenProvider = null;
+            this.channels = new ManagedChannel[0];
+            this.stubs = new WeaviateGrpc.WeaviateBlockingStub[0];
+        }
+        this.batchObjectConverter = new BatchObjectConverter(new GrpcVersionSupport(new DbVersionProvider(() -> {
+            Result<Meta> meta = client.misc().metaGetter().run();
+            return meta.hasErrors() ? Optional.empty() : Optional.ofNullable(meta.getResult().getVersion());
+        })));
+    }
+
+    /**
+     * A client used by a single task, closed by its {@link #release()}.
+     */
+    public static SharedWeaviateClient create(WeaviateSinkConfig config) {
+        return new SharedWeaviateClient(config, null);
+    }
+
+    static SharedWeaviateClient create(WeaviateSinkConfig config, WeaviateClientRegistry registry) {
+        return new SharedWeaviateClient(config, registry);
+    }
+
+    public WeaviateClient client() {
+        return client;
+    }
+
+    /**
+     * Whether batches are sent over the gRPC channels rather than the REST API.
+     */
+    public boolean usesGrpc() {
+        return stubs.length > 0;
+    }
+
+    public BatchObjectConverter batchObjectConverter() {
+        return batchObjectConverter;
+    }
+
+    /**
+     * Sends a batch over the next channel, the channels are used round robin. The call fails with
+     * {@code DEADLINE_EXCEEDED} once {@code weaviate.grpc.deadline.ms} elapsed.
+     */
+    public WeaviateProtoBatch.BatchObjectsReply batchObjects(WeaviateProtoBatch.BatchObjectsRequest request) {
+        return stubs[Math.floorMod(nextChannel.getAndIncrement(), stubs.length)]
+                .withDeadlineAfter(deadlineMs, TimeUnit.MILLISECONDS)
+                .batchObjects(request);
+    }
+
+    /**
+     * Gives the client back, it is closed once no task uses it anymore.
+     */
+    public void release() {
+        if (registry == null) {
+            shutdown();
+        } else {
+            registry.release(this);
+        }
+    }
+
+    void shutdown() {
+        for (ManagedChannel channel : channels) {
+            channel.shutdown();
+        }
+        try {
+            for (ManagedChannel channel : channels) {
+                if (!channel.awaitTermination(SHUTDOWN_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                    channel.shutdownNow();
+                }
+            }
+        } catch (InterruptedException e) {
+            for (ManagedChannel channel : channels) {
+                channel.shutdownNow();
+            }
+            Thread.currentThread().interrupt();
+        }
+        if (tokenProvider != null) {
+            tokenProvider.shutdown();
+        }
+        log.info("Closed Weaviate client of {}", connectionUrl);
+    }
+
+    boolean isShutdown() {
+        for (ManagedChannel channel : channels) {
+            if (!channel.isShutdown()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Config getConfig(WeaviateSinkConfig config) {
+        String scheme = config.getConnectionUrl().split("://")[0];
+        String hostAndPort = config.getConnectionUrl().split("://")[1];
+        Config weaviateConfig = new Config(scheme, hostAndPort, new HashMap<>(config.getHeaders()));
+        if (config.getGrpcUrl() != null && !config.getGrpcUrl().isEmpty()) {
+            weaviateConfig.setGRPCHost(config.getGrpcUrl());
+            weaviateConfig.setGRPCSecured(config.getGrpcSecured());
+        }
+        if (!config.getProxyUrl().isEmpty()) {
+            URI proxy = URI.create(config.getProxyUrl());
+            weaviateConfig.setProxy(proxy.getHost(), proxy.getPort(), proxy.getScheme());
+        }
+        return weaviateConfig;
+    }
+
+    /**
+     * The client built by the factory of the authentication mechanism, which also adds the headers
+     * it needs to the configuration.
+     */
+    private static WeaviateClient client(WeaviateSinkConfig config, Config weaviateConfig) {
+        try {
+            switch (config.getAuthMechanism()) {
+                case NONE:
+                    return new WeaviateClient(weaviateConfig);
+                case API_KEY:
+                    return WeaviateAuthClient.apiKey(weaviateConfig, config.getApiKey());
+                case OIDC_CLIENT_CREDENTIALS:
+                    return WeaviateAuthClient.clientCredentials(weaviateConfig, config.getOidcClientSecret(), config.getOidcScopes());
+                default:
+                    throw new RuntimeException("Unknown authentication mechanism");
+            }
+        } catch (AuthException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * The access token sent with the batches of the gRPC channels. The provider of the client can
+     * not be reached, OIDC tokens are fetched and refreshed by a provider of the channels.
+     */
+    private static AccessTokenProvider grpcTokenProvider(WeaviateSinkConfig config, Config weaviateConfig) {
+        switch (config.getAuthMechanism()) {
+            case NONE:
+                return null;
+            case API_KEY:
+                String apiKey = config.getApiKey();
+                return () -> apiKey;
+            case OIDC_CLIENT_CREDENTIALS:
+                try {
+                    return new NimbusAuth().getAccessTokenProvider(weaviateConfig, config.getOidcClientSecret(), "", "",
+                            config.getOidcScopes(), AuthType.CLIENT_CREDENTIALS);
+                } catch (AuthException e) {
+                    throw new RuntimeException(e);
+                }
+            default:
+                throw new RuntimeException("Unknown authentication mechanism");
+        }
+    }
+
+    /**
+     * A channel to the gRPC host, tunneled through the proxy with HTTP CONNECT when one is set.
+     */
+    private static ManagedChannel channel(Config weaviateConfig) {
+        String host = weaviateConfig.getGRPCHost();
+        String target = host.contains(":") ? host : host + (weaviateConfig.isGRPCSecured() ? ":443" : ":80");
+        ManagedChannelBuilder<?> builder = ManagedChannelBuilder.forTarget(target);
+        if (weaviateConfig.isGRPCSecured()) {
+            builder.useTransportSecurity();
+        } else {
+            builder.usePlaintext();
+        }
+        if (weaviateConfig.getProxyHost() != null) {
+            InetSocketAddress proxy = new InetSocketAddress(weaviateConfig.getProxyHost(), weaviateConfig.getProxyPort());
+            builder.proxyDetector(address -> HttpConnectProxiedSocketAddress.newBuilder()
+                    .setProxyAddress(proxy)
+                    .setTargetAddress((InetSocketAddress) address)
+                    .build());
+        }
+        return builder.build();
+    }
+
+    /**
+     * Adds the headers of the configuration and a current access token to every call, the way the
+     * stock gRPC client does, tokens of OIDC providers are refreshed over the lifetime of the
+     * channels.
+     */
+    private static final class HeadersInterceptor extends BaseGrpcClient implements ClientInterceptor {
+        private final Config weaviateConfig;
+        private final AccessTokenProvider tokenProvider;
+
+        private HeadersInterceptor(Config weaviateConfig, AccessTokenProvider tokenProvider) {
+            this.weaviateConfig = weaviateConfig;
+            this.tokenProvider = tokenProvider;
+        }
+
+        @Override
+        public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(MethodDescriptor<ReqT, RespT> method, CallOptions callOptions, Channel next) {
+            return new ForwardingClientCall.SimpleForwardingClientCall<>(next.newCall(method, callOptions)) {
+                @Override
+                public void start(Listener<RespT> responseListener, Metadata metadata) {
+                    metadata.merge(getHeaders(weaviateConfig, tokenProvider));
+                    super.start(responseListener, metadata);
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright © 2025 Weaviate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.weaviate.connector.client;
+
+import io.weaviate.connector.WeaviateSinkConfig;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Clients shared by the tasks of a worker, one per set of connection, authentication and header
+ * settings. Each {@link #acquire(WeaviateSinkConfig)} is matched by a
+ * {@link SharedWeaviateClient#release()}, the client is closed when the last user releases it.
+ */
+public final class WeaviateClientRegistry {
+    private static final WeaviateClientRegistry SHARED = new WeaviateClientRegistry();
+
+    private final Map<List<Object>, SharedWeaviateClient> clients = new HashMap<>();
+
+    WeaviateClientRegistry() {
+    }
+
+    public static WeaviateClientRegistry shared() {
+        return SHARED;
+    }
+
+    public synchronized SharedWeaviateClient acquire(WeaviateSinkConfig config) {
+        SharedWeaviateClient client = clients.computeIfAbsent(key(config), key -> SharedWeaviateClient.create(config, this));
+        client.references++;
+        return client;
+    }
+
+    void release(SharedWeaviateClient client) {
+        synchronized (this) {
+            if (--client.references > 0) {
+                return;
+            }
+            clients.values().remove(client);
+        }
+        // Shutting down outside the lock, waiting for the channels to terminate must not hold up other tasks
+        client.shutdown();
+    }
+
+    /**
+     * Number of clients in use.
+     */
+    public synchronized int size() {
+        return clients.size();
+    }
+
+    private static List<Object> key(WeaviateSinkConfig config) {
+        return Arrays.asList(config.getConnectionUrl(), config.getGrpcUrl(), config.getGrpcSecured(), config.getAuthMechanism(),
+                config.getApiKey(), config.getOidcClientSecret(), config.getOidcScopes(), config.getHeaders(),
+                config.getGrpcChannels(), config.getGrpcDeadlineMs(), config.getProxyUrl());
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright © 2025 Weaviate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.weaviate.connector.converter;
+
+import org.apache.kafka.connect.data.Field;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.errors.DataException;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Conversion of values of a single Connect {@link Schema}, compiled once so that converting a
+ * record does not dispatch on the schema type of every field again. Produces the same values as
+ * the schema based path of {@link DataConverter}.
+ */
+public class ConversionPlan {
+    @FunctionalInterface
+    interface ValueConverter {
+        Object convert(Object value);
+    }
+
+    private final Schema schema;
+    private final ValueConverter converter;
+
+    private ConversionPlan(Schema schema, ValueConverter converter) {
+        this.schema = schema;
+        this.converter = converter;
+    }
+
+    public static ConversionPlan compile(Schema schema) {
+        return compile(schema, PropertyProjection.ALL);
+    }
+
+    /**
+     * Compiles the conversion of {@code schema}, applying {@code projection} to the top level
+     * struct fields. Fields projected out get no converter at all.
+     */
+    public static ConversionPlan compile(Schema schema, PropertyProjection projection) {
+        if (schema.type() == Schema.Type.STRUCT && !projection.isIdentity()) {
+            return new ConversionPlan(schema, withNullHandling(schema, compileStruct(schema, projection)));
+        }
+        return new ConversionPlan(schema, compileSchema(schema));
+    }
+
+    public Schema schema() {
+        return schema;
+    }
+
+    public Object convert(Object value) {
+        return converter.convert(value);
+    }
+
+    private static ValueConverter compileSchema(Schema schema) {
+        return withNullHandling(schema, compileType(schema));
+    }
+
+    private static ValueConverter withNullHandling(Schema schema, ValueConverter typeConverter) {
+        return value -> {
+            if (value == null) {
+                if (schema.defaultValue() != null)
+                    return typeConverter.convert(schema.defaultValue());
+                if (schema.isOptional())
+                    return null;
+                throw new DataException("Conversion error: null value for field that is required and has no default value");
+            }
+            try {
+                return typeConverter.convert(value);
+            } catch (ClassCastException e) {
+                throw new DataException("Invalid type for " + schema.type() + ": " + value.getClass());
+            }
+        };
+    }
+
+    private static ValueConverter compileType(Schema schema) {
+        switch (schema.type()) {
+            case INT8:
+                return value -> Byte.toUnsignedLong((Byte) value);
+            case INT16:
+                return value -> ((Short) value).longValue();
+            case INT32:
+                return value -> ((Integer) value).longValue();
+            case INT64:
+                return value -> (Long) value;
+            case FLOAT32:
+                return value -> ((Float) value).doubleValue();
+            case FLOAT64:
+                return value -> (Double) value;
+            case BOOLEAN:
+                return value -> (Boolean) value;
+            case STRING:
+                return value -> ((CharSequence) value).toString();
+            case BYTES:
+                return value -> {
+                    if (value instanceof byte[])
+                        return value;
+                    if (value instanceof ByteBuffer)
+                        return ((ByteBuffer) value).array();
+                    throw new DataException("Invalid type for bytes type: " + value.getClass());
+                };
+            case ARRAY:
+                return compileArray(schema);
+            case MAP:
+                return compileMap(schema);
+            case STRUCT:
+                return compileStruct(schema, PropertyProjection.ALL);
+            default:
+                throw new DataException("Couldn't compile conversion of " + schema.type() + " schema.");
+        }
+    }
+
+    private static ValueConverter compileArray(Schema schema) {
+        ValueConverter elementConverter = compileSchema(schema.valueSchema());
+        return value -> {
+            Collection<?> collection = (Collection<?>) value;
+            List<Object> list = new ArrayList<>(collection.size());
+            for (Object element : collection) {
+                list.add(elementConverter.convert(element));
+            }
+            return list;
+        };
+    }
+
+    private static ValueConverter compileMap(Schema schema) {
+        ValueConverter keyConverter = compileSchema(schema.keySchema());
+        ValueConverter valueConverter = compileSchema(schema.valueSchema());
+        return value -> {
+            Map<?, ?> map = (Map<?, ?>) value;
+            Map<String, Object> object = new HashMap<>(capacity(map.size()));
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                object.put(String.valueOf(keyConverter.convert(entry.getKey())), valueConverter.convert(entry.getValue()));
+            }
+            return object;
+        };
+    }
+
+    private static ValueConverter compileStruct(Schema schema, PropertyProjection projection) {
+        List<Field> schemaFields = new ArrayList<>(schema.fields().size());
+        List<String> propertyNames = new ArrayList<>(schema.fields().size());
+        for (Field field : schema.fields()) {
+            String propertyName = projection.propertyName(field.name());
+            if (propertyName != null) {
+                schemaFields.add(field);
+                propertyNames.add(propertyName);
+            }
+        }
+        Field[] fields = schemaFields.toArray(new Field[0]);
+        String[] names = propertyNames.toArray(new String[0]);
+        ValueConverter[] converters = new ValueConverter[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            converters[i] = compileSchema(fields[i].schema());
+        }
+        int capacity = capacity(fields.length);
+        return value -> {
+            Struct struct = (Struct) value;
+            // Converters hand out the same schema instance for each version, the deep comparison is a fallback
+            if (struct.schema() != schema && !struct.schema().equals(schema))
+                throw new DataException("Mismatching schema.");
+
+            Map<String, Object> object = new HashMap<>(capacity);
+            for (int i = 0; i < fields.length; i++) {
+                object.put(names[i], converters[i].convert(struct.get(fields[i])));
+            }
+            return object;
+        };
+    }
+
+    private static int capacity(int size) {
+        return (int) (size / 0.75f) + 1;
+    }
+}
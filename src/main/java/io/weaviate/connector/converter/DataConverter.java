@@ -24,21 +24,122 @@ import org.apache.kafka.connect.errors.DataException;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 public class DataConverter {
+    public static final int DEFAULT_SCHEMA_CACHE_SIZE = 128;
+
+    // Plans are looked up by schema instance first, converters reuse the same instance for every
+    // record of a schema version. The lookup by value only happens when a new instance shows up.
+    private final Map<SchemaIdentity, ConversionPlan> plansByIdentity;
+    private final Map<Schema, ConversionPlan> plansBySchema;
+    private final Map<SchemaIdentity, ConversionPlan> fieldPlans;
+    private final PropertyProjection projection;
+
+    public DataConverter() {
+        this(DEFAULT_SCHEMA_CACHE_SIZE);
+    }
+
+    public DataConverter(int schemaCacheSize) {
+        this(schemaCacheSize, PropertyProjection.ALL);
+    }
+
+    /**
+     * @param projection selection and renaming of the top level fields written as properties
+     */
+    public DataConverter(int schemaCacheSize, PropertyProjection projection) {
+        this.plansByIdentity = lruCache(schemaCacheSize);
+        this.plansBySchema = lruCache(schemaCacheSize);
+        this.fieldPlans = lruCache(schemaCacheSize);
+        this.projection = projection;
+    }
 
     @SuppressWarnings("unchecked")
     public Map<String, Object> convertToWeaviateProperties(Schema schema, Object value) {
-        Object object = convertToJava(schema, value);
+        Object object = schema == null ? convertSchemaless(value) : planFor(schema).convert(value);
         if (!(object instanceof Map)) {
             throw new DataException(String.format("Cannot convert " + schema.name() + " to Java object, %s is not a Map", value));
         }
         return (Map<String, Object>) object;
     }
 
-    private Object convertToJava(Schema schema, Object value) {
+    /**
+     * Converts the top level field {@code fieldName} of a record value as it would be converted to
+     * a property, for strategies reading a field that the conversion leaves out. Null when the
+     * value has no such field. Plans of the field schemas are cached like the plans of the values.
+     */
+    public Object convertField(Object value, String fieldName) {
+        if (value instanceof Struct) {
+            Struct struct = (Struct) value;
+            Field field = struct.schema().field(fieldName);
+            return field == null ? null : fieldPlanFor(field.schema()).convert(struct.get(field));
+        }
+        if (value instanceof Map) {
+            return convertToJava(null, ((Map<?, ?>) value).get(fieldName));
+        }
+        return null;
+    }
+
+    ConversionPlan planFor(Schema schema) {
+        SchemaIdentity identity = new SchemaIdentity(schema);
+        ConversionPlan plan = plansByIdentity.get(identity);
+        if (plan == null) {
+            plan = plansBySchema.computeIfAbsent(schema, s -> ConversionPlan.compile(s, projection));
+            plansByIdentity.put(identity, plan);
+        }
+        return plan;
+    }
+
+    ConversionPlan fieldPlanFor(Schema schema) {
+        return fieldPlans.computeIfAbsent(new SchemaIdentity(schema), identity -> ConversionPlan.compile(schema));
+    }
+
+    private Object convertSchemaless(Object value) {
+        if (value instanceof Map && !projection.isIdentity()) {
+            Map<?, ?> map = (Map<?, ?>) value;
+            HashMap<String, Object> object = new HashMap<>(map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                String propertyName = projection.propertyName(String.valueOf(convertToJava(null, entry.getKey())));
+                if (propertyName != null) {
+                    object.put(propertyName, convertToJava(null, entry.getValue()));
+                }
+            }
+            return object;
+        }
+        return convertToJava(null, value);
+    }
+
+    private static <K> Map<K, ConversionPlan> lruCache(int maxSize) {
+        return Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, ConversionPlan> eldest) {
+                return size() > maxSize;
+            }
+        });
+    }
+
+    private static final class SchemaIdentity {
+        private final Schema schema;
+
+        private SchemaIdentity(Schema schema) {
+            this.schema = schema;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof SchemaIdentity && ((SchemaIdentity) o).schema == schema;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(schema);
+        }
+    }
+
+    private static Object convertToJava(Schema schema, Object value) {
         if (value == null) {
             if (schema == null)
                 return null;
@@ -0,0 +1,60 @@
+/*
+ * Copyright © 2025 Weaviate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.weaviate.connector.converter;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Selects and renames the top level fields of a record value that become object properties.
+ * Fields projected out are skipped by the conversion, their values are never converted.
+ */
+public final class PropertyProjection {
+    public static final PropertyProjection ALL = new PropertyProjection(Collections.emptySet(), Collections.emptySet(), Collections.emptyMap());
+
+    private final Set<String> includedFields;
+    private final Set<String> excludedFields;
+    private final Map<String, String> renames;
+
+    /**
+     * @param includedFields fields kept as properties, every field when empty
+     * @param excludedFields fields left out of the properties, even when included
+     * @param renames        property names by field name, other fields keep their name
+     */
+    public PropertyProjection(Set<String> includedFields, Set<String> excludedFields, Map<String, String> renames) {
+        this.includedFields = includedFields;
+        this.excludedFields = excludedFields;
+        this.renames = renames;
+    }
+
+    /**
+     * @return the property name of {@code field}, or null when it is projected out
+     */
+    public String propertyName(String field) {
+        if (excludedFields.contains(field) || (!includedFields.isEmpty() && !includedFields.contains(field))) {
+            return null;
+        }
+        return renames.getOrDefault(field, field);
+    }
+
+    /**
+     * Whether every field is kept under its own name.
+     */
+    public boolean isIdentity() {
+        return includedFields.isEmpty() && excludedFields.isEmpty() && renames.isEmpty();
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright © 2025 Weaviate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.weaviate.connector.converter;
+
+import org.apache.kafka.connect.data.Struct;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * Reads top level fields straight from a record value, without converting the rest of it.
+ */
+public final class RecordFields {
+    private RecordFields() {
+    }
+
+    public static Object get(Object value, String fieldName) {
+        if (value instanceof Struct) {
+            Struct struct = (Struct) value;
+            return struct.schema().field(fieldName) != null ? struct.get(fieldName) : null;
+        }
+        if (value instanceof Map) {
+            return ((Map<?, ?>) value).get(fieldName);
+        }
+        return null;
+    }
+
+    /**
+     * Text of a field, key or header used as a name, bytes being read as UTF-8. Null when there is
+     * no value or it is empty.
+     */
+    public static String name(Object value) {
+        String name;
+        if (value instanceof byte[]) {
+            name = new String((byte[]) value, StandardCharsets.UTF_8);
+        } else if (value instanceof ByteBuffer) {
+            name = StandardCharsets.UTF_8.decode(((ByteBuffer) value).duplicate()).toString();
+        } else {
+            name = value == null ? null : value.toString();
+        }
+        return name == null || name.isEmpty() ? null : name;
+    }
+}
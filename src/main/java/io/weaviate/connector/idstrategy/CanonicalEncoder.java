@@ -0,0 +1,226 @@
+/*
+ * Copyright © 2025 Weaviate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.weaviate.connector.idstrategy;
+
+import org.apache.kafka.connect.data.Field;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.Struct;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Canonical binary encoding of record keys and fields, hashed into document IDs. Every value is
+ * written with a type tag and strings and bytes with their length, so that distinct values never
+ * share an encoding. Integers are widened to 64 bits and floating point numbers to doubles, and
+ * fields of structs and entries of maps are written sorted by name, so a struct and a map holding
+ * the same data encode the same. One encoder and its buffer are reused per thread.
+ */
+final class CanonicalEncoder {
+    private static final byte NULL = 0;
+    private static final byte STRING = 1;
+    private static final byte INTEGER = 2;
+    private static final byte FLOATING_POINT = 3;
+    private static final byte BOOLEAN = 4;
+    private static final byte BYTES = 5;
+    private static final byte OBJECT = 6;
+    private static final byte ARRAY = 7;
+    private static final byte TIMESTAMP = 8;
+    private static final byte OTHER = 9;
+
+    private static final int MAX_CACHED_SCHEMAS = 64;
+    private static final ThreadLocal<CanonicalEncoder> INSTANCES = ThreadLocal.withInitial(CanonicalEncoder::new);
+
+    // Converters hand out the same schema instance for each version, so identity is enough
+    private final Map<Schema, Field[]> sortedFields = new IdentityHashMap<>();
+    private byte[] buffer = new byte[256];
+    private int length;
+
+    private CanonicalEncoder() {
+    }
+
+    static CanonicalEncoder get() {
+        CanonicalEncoder encoder = INSTANCES.get();
+        encoder.length = 0;
+        return encoder;
+    }
+
+    byte[] buffer() {
+        return buffer;
+    }
+
+    int length() {
+        return length;
+    }
+
+    void write(Object value) {
+        if (value == null) {
+            writeByte(NULL);
+        } else if (value instanceof CharSequence) {
+            writeByte(STRING);
+            writeString((CharSequence) value);
+        } else if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            writeByte(INTEGER);
+            writeLong(((Number) value).longValue());
+        } else if (value instanceof Double || value instanceof Float) {
+            writeByte(FLOATING_POINT);
+            writeLong(Double.doubleToLongBits(((Number) value).doubleValue()));
+        } else if (value instanceof Boolean) {
+            writeByte(BOOLEAN);
+            writeByte((Boolean) value ? (byte) 1 : (byte) 0);
+        } else if (value instanceof byte[]) {
+            writeByte(BYTES);
+            writeBytes((byte[]) value);
+        } else if (value instanceof ByteBuffer) {
+            writeByte(BYTES);
+            ByteBuffer bytes = ((ByteBuffer) value).duplicate();
+            writeInt(bytes.remaining());
+            ensureCapacity(bytes.remaining());
+            int remaining = bytes.remaining();
+            bytes.get(buffer, length, remaining);
+            length += remaining;
+        } else if (value instanceof Struct) {
+            writeStruct((Struct) value);
+        } else if (value instanceof Map) {
+            writeMap((Map<?, ?>) value);
+        } else if (value instanceof Iterable) {
+            writeArray((Iterable<?>) value);
+        } else if (value instanceof Date) {
+            writeByte(TIMESTAMP);
+            writeLong(((Date) value).getTime());
+        } else {
+            writeByte(OTHER);
+            writeString(value.toString());
+        }
+    }
+
+    private void writeStruct(Struct struct) {
+        Field[] fields = sortedFields.get(struct.schema());
+        if (fields == null) {
+            if (sortedFields.size() >= MAX_CACHED_SCHEMAS) {
+                sortedFields.clear();
+            }
+            fields = struct.schema().fields().toArray(new Field[0]);
+            Arrays.sort(fields, Comparator.comparing(Field::name));
+            sortedFields.put(struct.schema(), fields);
+        }
+        writeByte(OBJECT);
+        writeInt(fields.length);
+        for (Field field : fields) {
+            writeString(field.name());
+            write(struct.get(field));
+        }
+    }
+
+    private void writeMap(Map<?, ?> map) {
+        Object[][] entries = new Object[map.size()][];
+        int i = 0;
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            entries[i++] = new Object[]{String.valueOf(entry.getKey()), entry.getValue()};
+        }
+        Arrays.sort(entries, Comparator.comparing(entry -> (String) entry[0]));
+        writeByte(OBJECT);
+        writeInt(entries.length);
+        for (Object[] entry : entries) {
+            writeString((String) entry[0]);
+            write(entry[1]);
+        }
+    }
+
+    private void writeArray(Iterable<?> elements) {
+        writeByte(ARRAY);
+        int countPosition = length;
+        writeInt(0);
+        int count = 0;
+        for (Object element : elements) {
+            write(element);
+            count++;
+        }
+        putInt(countPosition, count);
+    }
+
+    private void writeString(CharSequence value) {
+        int lengthPosition = length;
+        writeInt(0);
+        int start = length;
+        int chars = value.length();
+        for (int i = 0; i < chars; i++) {
+            ensureCapacity(4);
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                buffer[length++] = (byte) c;
+            } else if (c < 0x800) {
+                buffer[length++] = (byte) (0xc0 | c >> 6);
+                buffer[length++] = (byte) (0x80 | c & 0x3f);
+            } else if (Character.isHighSurrogate(c) && i + 1 < chars && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                buffer[length++] = (byte) (0xf0 | codePoint >> 18);
+                buffer[length++] = (byte) (0x80 | codePoint >> 12 & 0x3f);
+                buffer[length++] = (byte) (0x80 | codePoint >> 6 & 0x3f);
+                buffer[length++] = (byte) (0x80 | codePoint & 0x3f);
+            } else if (Character.isSurrogate(c)) {
+                buffer[length++] = '?';
+            } else {
+                buffer[length++] = (byte) (0xe0 | c >> 12);
+                buffer[length++] = (byte) (0x80 | c >> 6 & 0x3f);
+                buffer[length++] = (byte) (0x80 | c & 0x3f);
+            }
+        }
+        putInt(lengthPosition, length - start);
+    }
+
+    private void writeBytes(byte[] bytes) {
+        writeInt(bytes.length);
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, length, bytes.length);
+        length += bytes.length;
+    }
+
+    private void writeByte(byte value) {
+        ensureCapacity(1);
+        buffer[length++] = value;
+    }
+
+    private void writeInt(int value) {
+        ensureCapacity(4);
+        putInt(length, value);
+        length += 4;
+    }
+
+    private void writeLong(long value) {
+        ensureCapacity(8);
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            buffer[length++] = (byte) (value >>> shift);
+        }
+    }
+
+    private void putInt(int position, int value) {
+        buffer[position] = (byte) (value >>> 24);
+        buffer[position + 1] = (byte) (value >>> 16);
+        buffer[position + 2] = (byte) (value >>> 8);
+        buffer[position + 3] = (byte) value;
+    }
+
+    private void ensureCapacity(int bytes) {
+        if (buffer.length - length < bytes) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, length + bytes));
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright © 2025 Weaviate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.weaviate.connector.idstrategy;
+
+import io.weaviate.connector.WeaviateSinkConfig;
+import io.weaviate.connector.converter.RecordFields;
+import org.apache.kafka.connect.errors.DataException;
+import org.apache.kafka.connect.sink.SinkRecord;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Generates a UUID from several fields of the record key or value, or from the whole key, e.g. the
+ * composite primary key of a CDC topic. The fields are hashed through a canonical binary encoding,
+ * see {@link CanonicalEncoder}, into a version 3 UUID or into a version 5 UUID when a namespace is
+ * configured. Fields are read from the record as is and are kept in the object properties. A
+ * missing or null field fails the record, as every such record would get the same ID.
+ */
+public class CompositeIdStrategy implements IDStrategy {
+    private String[] fields;
+    private boolean[] fromKey;
+    private String[] fieldNames;
+    private byte[] namespace;
+
+    public CompositeIdStrategy() {
+    }
+
+    @Override
+    public void configure(WeaviateSinkConfig config) {
+        List<String> fields = config.getDocumentIdFields();
+        if (fields.isEmpty()) {
+            fields = List.of("key");
+        }
+        this.fields = fields.toArray(new String[0]);
+        fromKey = new boolean[fields.size()];
+        fieldNames = new String[fields.size()];
+        for (int i = 0; i < fields.size(); i++) {
+            String field = fields.get(i);
+            fromKey[i] = field.startsWith("key");
+            // null for the whole key
+            fieldNames[i] = field.equals("key") ? null : field.substring(field.indexOf('.') + 1);
+        }
+        String namespaceUuid = config.getDocumentIdNamespace();
+        if (namespaceUuid != null && !namespaceUuid.isEmpty()) {
+            UUID uuid = UUID.fromString(namespaceUuid);
+            namespace = ByteBuffer.allocate(16)
+                    .putLong(uuid.getMostSignificantBits())
+                    .putLong(uuid.getLeastSignificantBits())
+                    .array();
+        }
+    }
+
+    @Override
+    public String getDocumentId(SinkRecord record, Map<String, Object> valueProperties) {
+        CanonicalEncoder encoder = CanonicalEncoder.get();
+        for (int i = 0; i < fieldNames.length; i++) {
+            Object source = fromKey[i] ? record.key() : record.value();
+            Object component = fieldNames[i] == null ? source : RecordFields.get(source, fieldNames[i]);
+            if (component == null) {
+                throw new DataException("No value for document id field " + fields[i] + " of the record at offset "
+                        + record.kafkaOffset() + " of " + record.topic() + "-" + record.kafkaPartition());
+            }
+            encoder.write(component);
+        }
+        if (namespace == null) {
+            return DeterministicUuid.nameUuid(encoder.buffer(), 0, encoder.length());
+        }
+        return DeterministicUuid.nameUuidV5(namespace, encoder.buffer(), 0, encoder.length());
+    }
+}
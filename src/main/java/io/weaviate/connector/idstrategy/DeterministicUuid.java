@@ -0,0 +1,127 @@
+/*
+ * Copyright © 2025 Weaviate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.weaviate.connector.idstrategy;
+
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Name based (version 3) UUIDs, identical to {@code UUID.nameUUIDFromBytes(name.getBytes(UTF_8)).toString()}
+ * but computed with a digest and buffers reused per thread, so that the returned string is the
+ * only allocation. Version 5 UUIDs of RFC 4122, hashing a namespace and the name with SHA-1, are
+ * computed the same way.
+ */
+public final class DeterministicUuid {
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+    private static final ThreadLocal<DeterministicUuid> INSTANCES = ThreadLocal.withInitial(DeterministicUuid::new);
+
+    private final MessageDigest md5;
+    private final MessageDigest sha1;
+    private final byte[] hash = new byte[20];
+    private final char[] chars = new char[36];
+    private byte[] buffer = new byte[256];
+
+    private DeterministicUuid() {
+        try {
+            md5 = MessageDigest.getInstance("MD5");
+            sha1 = MessageDigest.getInstance("SHA-1");
+        } catch (NoSuchAlgorithmException e) {
+            throw new InternalError("MD5 or SHA-1 not supported", e);
+        }
+    }
+
+    /**
+     * UUID of the UTF-8 encoding of {@code name}, unpaired surrogates encoded as {@code '?'} like
+     * {@link String#getBytes(java.nio.charset.Charset)} does.
+     */
+    public static String nameUuid(CharSequence name) {
+        DeterministicUuid instance = INSTANCES.get();
+        return instance.format(instance.digest(name));
+    }
+
+    public static String nameUuid(byte[] name, int offset, int length) {
+        DeterministicUuid instance = INSTANCES.get();
+        instance.md5.update(name, offset, length);
+        return instance.format(instance.finish(instance.md5, 3));
+    }
+
+    /**
+     * Version 5 UUID of {@code name} in the namespace given as its 16 big-endian bytes.
+     */
+    public static String nameUuidV5(byte[] namespace, byte[] name, int offset, int length) {
+        DeterministicUuid instance = INSTANCES.get();
+        instance.sha1.update(namespace);
+        instance.sha1.update(name, offset, length);
+        return instance.format(instance.finish(instance.sha1, 5));
+    }
+
+    private byte[] digest(CharSequence name) {
+        int length = name.length();
+        int position = 0;
+        for (int i = 0; i < length; i++) {
+            if (buffer.length - position < 4) {
+                md5.update(buffer, 0, position);
+                position = 0;
+            }
+            char c = name.charAt(i);
+            if (c < 0x80) {
+                buffer[position++] = (byte) c;
+            } else if (c < 0x800) {
+                buffer[position++] = (byte) (0xc0 | c >> 6);
+                buffer[position++] = (byte) (0x80 | c & 0x3f);
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(name.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, name.charAt(++i));
+                buffer[position++] = (byte) (0xf0 | codePoint >> 18);
+                buffer[position++] = (byte) (0x80 | codePoint >> 12 & 0x3f);
+                buffer[position++] = (byte) (0x80 | codePoint >> 6 & 0x3f);
+                buffer[position++] = (byte) (0x80 | codePoint & 0x3f);
+            } else if (Character.isSurrogate(c)) {
+                buffer[position++] = '?';
+            } else {
+                buffer[position++] = (byte) (0xe0 | c >> 12);
+                buffer[position++] = (byte) (0x80 | c >> 6 & 0x3f);
+                buffer[position++] = (byte) (0x80 | c & 0x3f);
+            }
+        }
+        md5.update(buffer, 0, position);
+        return finish(md5, 3);
+    }
+
+    private byte[] finish(MessageDigest digest, int version) {
+        try {
+            digest.digest(hash, 0, digest.getDigestLength());
+        } catch (DigestException e) {
+            throw new IllegalStateException(e);
+        }
+        // Version and IETF variant bits, as set by UUID.nameUUIDFromBytes for version 3
+        hash[6] = (byte) (hash[6] & 0x0f | version << 4);
+        hash[8] = (byte) (hash[8] & 0x3f | 0x80);
+        return hash;
+    }
+
+    private String format(byte[] bytes) {
+        int position = 0;
+        for (int i = 0; i < 16; i++) {
+            if (i == 4 || i == 6 || i == 8 || i == 10) {
+                chars[position++] = '-';
+            }
+            chars[position++] = HEX_DIGITS[bytes[i] >> 4 & 0x0f];
+            chars[position++] = HEX_DIGITS[bytes[i] & 0x0f];
+        }
+        return new String(chars);
+    }
+}
@@ -16,14 +16,14 @@
 package io.weaviate.connector.idstrategy;
 
 import io.weaviate.connector.WeaviateSinkConfig;
+import io.weaviate.connector.converter.DataConverter;
 import org.apache.kafka.connect.sink.SinkRecord;
 
-import java.nio.charset.StandardCharsets;
 import java.util.Map;
-import java.util.UUID;
 
 public class FieldIdStrategy implements IDStrategy {
     private String fieldName;
+    private DataConverter fieldConverter = new DataConverter();
 
     public FieldIdStrategy() {
     }
@@ -31,14 +31,21 @@ public class FieldIdStrategy implements IDStrategy {
     @Override
     public void configure(WeaviateSinkConfig config) {
         fieldName = config.getDocumentIdFieldName();
+        fieldConverter = new DataConverter(config.getSchemaCacheSize());
+    }
+
+    @Override
+    public String getSourceField() {
+        return fieldName;
     }
 
     @Override
     public String getDocumentId(SinkRecord record, Map<String, Object> valueProperties) {
         try {
-            String id = String.valueOf(valueProperties.get(fieldName));
-            valueProperties.remove(fieldName);
-            return UUID.nameUUIDFromBytes(id.getBytes(StandardCharsets.UTF_8)).toString();
+            // Converting the raw field, the converter skipped it
+            Object converted = valueProperties.remove(fieldName);
+            Object id = record != null && record.value() != null ? fieldConverter.convertField(record.value(), fieldName) : converted;
+            return DeterministicUuid.nameUuid(id instanceof CharSequence ? (CharSequence) id : String.valueOf(id));
         } catch (Exception e) {
             throw new RuntimeException("Cannot get document id from message", e);
         }
@@ -25,4 +25,12 @@ public interface IDStrategy {
 
     public default void configure(WeaviateSinkConfig config) {
     }
+
+    /**
+     * Top level value field the strategy reads from the record itself. It is left out of the
+     * converted properties instead of being converted and removed afterwards.
+     */
+    public default String getSourceField() {
+        return null;
+    }
 }
@@ -17,9 +17,7 @@ package io.weaviate.connector.idstrategy;
 
 import org.apache.kafka.connect.sink.SinkRecord;
 
-import java.nio.charset.StandardCharsets;
 import java.util.Map;
-import java.util.UUID;
 
 public class KafkaIdStrategy implements IDStrategy {
     public KafkaIdStrategy() {
@@ -28,7 +26,7 @@ public class KafkaIdStrategy implements IDStrategy {
     @Override
     public String getDocumentId(SinkRecord record, Map<String, Object> valueProperties) {
         if (record.key() instanceof String) {
-            return UUID.nameUUIDFromBytes(record.key().toString().getBytes(StandardCharsets.UTF_8)).toString();
+            return DeterministicUuid.nameUuid((String) record.key());
         }
 
         return String.valueOf(record.key());
@@ -0,0 +1,274 @@
+/*
+ * Copyright © 2025 Weaviate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.weaviate.connector.metrics;
+
+import org.apache.kafka.common.MetricName;
+import org.apache.kafka.common.metrics.Gauge;
+import org.apache.kafka.common.metrics.JmxReporter;
+import org.apache.kafka.common.metrics.KafkaMetricsContext;
+import org.apache.kafka.common.metrics.MetricConfig;
+import org.apache.kafka.common.metrics.Metrics;
+import org.apache.kafka.common.metrics.Sensor;
+import org.apache.kafka.common.metrics.stats.Avg;
+import org.apache.kafka.common.metrics.stats.Max;
+import org.apache.kafka.common.metrics.stats.Meter;
+import org.apache.kafka.common.metrics.stats.Percentile;
+import org.apache.kafka.common.metrics.stats.Percentiles;
+import org.apache.kafka.common.metrics.stats.WindowedCount;
+import org.apache.kafka.common.metrics.stats.WindowedSum;
+import org.apache.kafka.common.utils.Time;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Metrics of a sink task, exposed over JMX under the {@value #JMX_PREFIX} domain. Task metrics are
+ * tagged with the connector and task, collection metrics additionally with the collection.
+ * <p>
+ * Sensors are thread safe, metrics are recorded from the task thread as well as from the
+ * conversion and batch pools.
+ */
+public class SinkMetrics implements AutoCloseable {
+    public static final String JMX_PREFIX = "kafka.connect.weaviate";
+    public static final String TASK_GROUP = "sink-task-metrics";
+    public static final String COLLECTION_GROUP = "sink-collection-metrics";
+    // Histogram of batch latencies, buckets get wider towards the maximum
+    private static final int LATENCY_HISTOGRAM_BYTES = 16 * 1024;
+    private static final double LATENCY_HISTOGRAM_MAX_MS = 60_000;
+
+    private final Metrics metrics;
+    private final Map<String, String> taskTags;
+    private final Sensor conversionTime;
+    private final Sensor circuitBreakerOpened;
+    private final Map<String, CollectionMetrics> collections = new ConcurrentHashMap<>();
+
+    public SinkMetrics(Metrics metrics, String connector, String task) {
+        this.metrics = metrics;
+        Map<String, String> tags = new LinkedHashMap<>();
+        tags.put("connector", connector);
+        tags.put("task", task);
+        this.taskTags = Collections.unmodifiableMap(tags);
+
+        conversionTime = metrics.sensor(sensorName("conversion-time"));
+        conversionTime.add(taskMetric("conversion-time-avg", "Average time to convert a record into a write operation, in milliseconds"), new Avg());
+        conversionTime.add(taskMetric("conversion-time-max", "Maximum time to convert a record into a write operation, in milliseconds"), new Max());
+        conversionTime.add(new Meter(new WindowedCount(), taskMetric("records-converted-rate", "Records converted per second"),
+                taskMetric("records-converted-total", "Records converted")));
+        circuitBreakerOpened = metrics.sensor(sensorName("circuit-breaker-opened"));
+        circuitBreakerOpened.add(new Meter(new WindowedCount(), taskMetric("circuit-breaker-open-rate", "Times per second the circuit to Weaviate opened"),
+                taskMetric("circuit-breaker-open-total", "Times the circuit to Weaviate opened")));
+    }
+
+    /**
+     * Metrics registered on their own registry and reported over JMX.
+     */
+    public static SinkMetrics jmx(String connector, String task) {
+        Metrics metrics = new Metrics(new MetricConfig(), Collections.singletonList(new JmxReporter()), Time.SYSTEM,
+                new KafkaMetricsContext(JMX_PREFIX));
+        return new SinkMetrics(metrics, connector, task);
+    }
+
+    /**
+     * Metrics kept in memory only, for writers created outside of a task.
+     */
+    public static SinkMetrics unregistered() {
+        return new SinkMetrics(new Metrics(), "", "");
+    }
+
+    public Metrics metrics() {
+        return metrics;
+    }
+
+    public void recordConversion(long durationNanos) {
+        conversionTime.record(durationNanos / 1_000_000.0);
+    }
+
+    public void recordCircuitBreakerOpened() {
+        circuitBreakerOpened.record();
+    }
+
+    public void circuitBreakerState(Supplier<Integer> state) {
+        metrics.addMetric(taskMetric("circuit-breaker-state", "State of the circuit to Weaviate, 0 when closed, 1 when open and 2 while probing"),
+                (Gauge<Integer>) (config, now) -> state.get());
+    }
+
+    public void inFlightBatches(Supplier<Integer> inFlightBatches) {
+        metrics.addMetric(taskMetric("in-flight-batches", "Batches sent to Weaviate and not yet acknowledged"),
+                (Gauge<Integer>) (config, now) -> inFlightBatches.get());
+    }
+
+    public void contentCacheSize(Supplier<Integer> contentCacheSize) {
+        metrics.addMetric(taskMetric("content-cache-size", "Documents whose content hash is kept to skip unchanged writes"),
+                (Gauge<Integer>) (config, now) -> contentCacheSize.get());
+    }
+
+    public void backpressure(Supplier<Long> heldBytes, Supplier<Long> heldObjects, Supplier<Double> throttledRatio,
+                             Supplier<Boolean> paused) {
+        metrics.addMetric(taskMetric("held-bytes", "Estimated size of the operations buffered or sent to Weaviate and not yet acknowledged"),
+                (Gauge<Long>) (config, now) -> heldBytes.get());
+        metrics.addMetric(taskMetric("held-objects", "Operations buffered or sent to Weaviate and not yet acknowledged"),
+                (Gauge<Long>) (config, now) -> heldObjects.get());
+        metrics.addMetric(taskMetric("throttled-request-ratio", "Share of the recent requests throttled by Weaviate"),
+                (Gauge<Double>) (config, now) -> throttledRatio.get());
+        metrics.addMetric(taskMetric("paused", "1 while the task is paused by backpressure, 0 otherwise"),
+                (Gauge<Integer>) (config, now) -> paused.get() ? 1 : 0);
+    }
+
+    public CollectionMetrics collection(String collection) {
+        return collections.computeIfAbsent(collection, CollectionMetrics::new);
+    }
+
+    @Override
+    public void close() {
+        metrics.close();
+    }
+
+    private String sensorName(String name) {
+        return String.join(".", taskTags.values()) + "." + name;
+    }
+
+    private MetricName taskMetric(String name, String description) {
+        return metrics.metricName(name, TASK_GROUP, description, taskTags);
+    }
+
+    /**
+     * Write path metrics of a single collection.
+     */
+    public final class CollectionMetrics {
+        private final Sensor upserted;
+        private final Sensor deleted;
+        private final Sensor batchSize;
+        private final Sensor batchBytes;
+        private final Sensor batchLatency;
+        private final Sensor retried;
+        private final Sensor requestsRetried;
+        private final Sensor retriesDeferred;
+        private final Sensor rejected;
+        private final Sensor lag;
+        private final Sensor contentCacheHits;
+        private final Sensor contentCacheMisses;
+
+        private CollectionMetrics(String collection) {
+            Map<String, String> tags = new LinkedHashMap<>(taskTags);
+            tags.put("collection", collection);
+            String prefix = sensorName(collection) + ".";
+
+            upserted = metrics.sensor(prefix + "records-upserted");
+            upserted.add(new Meter(new WindowedSum(), metric("records-upserted-rate", "Records upserted per second", tags),
+                    metric("records-upserted-total", "Records upserted", tags)));
+            deleted = metrics.sensor(prefix + "records-deleted");
+            deleted.add(new Meter(new WindowedSum(), metric("records-deleted-rate", "Records deleted per second", tags),
+                    metric("records-deleted-total", "Records deleted", tags)));
+
+            batchSize = metrics.sensor(prefix + "batch-size");
+            batchSize.add(metric("batch-size-avg", "Average number of objects per batch", tags), new Avg());
+            batchSize.add(metric("batch-size-max", "Maximum number of objects per batch", tags), new Max());
+            batchBytes = metrics.sensor(prefix + "batch-bytes");
+            batchBytes.add(metric("batch-bytes-avg", "Average estimated size of upsert batches in bytes", tags), new Avg());
+            batchBytes.add(metric("batch-bytes-max", "Maximum estimated size of upsert batches in bytes", tags), new Max());
+
+            batchLatency = metrics.sensor(prefix + "batch-latency");
+            batchLatency.add(metric("batch-latency-avg", "Average time to send a batch, in milliseconds", tags), new Avg());
+            batchLatency.add(metric("batch-latency-max", "Maximum time to send a batch, in milliseconds", tags), new Max());
+            batchLatency.add(new Percentiles(LATENCY_HISTOGRAM_BYTES, LATENCY_HISTOGRAM_MAX_MS, Percentiles.BucketSizing.LINEAR,
+                    new Percentile(metric("batch-latency-p50", "Median time to send a batch, in milliseconds", tags), 50),
+                    new Percentile(metric("batch-latency-p99", "99th percentile of the time to send a batch, in milliseconds", tags), 99)));
+
+            retried = metrics.sensor(prefix + "objects-retried");
+            retried.add(new Meter(new WindowedSum(), metric("objects-retried-rate", "Rejected objects sent again per second", tags),
+                    metric("objects-retried-total", "Rejected objects sent again", tags)));
+            requestsRetried = metrics.sensor(prefix + "requests-retried");
+            requestsRetried.add(new Meter(new WindowedCount(), metric("requests-retried-rate", "Requests sent again per second", tags),
+                    metric("requests-retried-total", "Requests sent again", tags)));
+            retriesDeferred = metrics.sensor(prefix + "retries-deferred");
+            retriesDeferred.add(new Meter(new WindowedCount(), metric("retries-deferred-rate", "Retries per second delayed because the retry budget was spent", tags),
+                    metric("retries-deferred-total", "Retries delayed because the retry budget was spent", tags)));
+            rejected = metrics.sensor(prefix + "objects-rejected");
+            rejected.add(new Meter(new WindowedSum(), metric("objects-rejected-rate", "Objects rejected after all retries per second", tags),
+                    metric("objects-rejected-total", "Objects rejected after all retries", tags)));
+
+            lag = metrics.sensor(prefix + "record-lag");
+            lag.add(metric("record-lag-avg", "Average time from the record timestamp to its acknowledgement by Weaviate, in milliseconds", tags), new Avg());
+            lag.add(metric("record-lag-max", "Maximum time from the record timestamp to its acknowledgement by Weaviate, in milliseconds", tags), new Max());
+
+            contentCacheHits = metrics.sensor(prefix + "content-cache-hits");
+            contentCacheHits.add(new Meter(new WindowedCount(), metric("content-cache-hit-rate", "Records skipped per second because their object is unchanged", tags),
+                    metric("content-cache-hit-total", "Records skipped because their object is unchanged", tags)));
+            contentCacheMisses = metrics.sensor(prefix + "content-cache-misses");
+            contentCacheMisses.add(new Meter(new WindowedCount(), metric("content-cache-miss-rate", "Records written per second because their object is new or changed", tags),
+                    metric("content-cache-miss-total", "Records written because their object is new or changed", tags)));
+        }
+
+        public void recordUpsertBatch(int objects, long bytes, long latencyNanos) {
+            batchSize.record(objects);
+            batchBytes.record(bytes);
+            batchLatency.record(latencyNanos / 1_000_000.0);
+        }
+
+        public void recordDeleteBatch(int objects, long latencyNanos) {
+            batchSize.record(objects);
+            batchLatency.record(latencyNanos / 1_000_000.0);
+        }
+
+        public void recordUpserted(int records) {
+            upserted.record(records);
+        }
+
+        public void recordDeleted(int records) {
+            deleted.record(records);
+        }
+
+        public void recordRetried(int objects) {
+            retried.record(objects);
+        }
+
+        public void recordRequestRetried() {
+            requestsRetried.record();
+        }
+
+        public void recordRetryDeferred() {
+            retriesDeferred.record();
+        }
+
+        public void recordRejected(int objects) {
+            rejected.record(objects);
+        }
+
+        public void recordContentCacheHit() {
+            contentCacheHits.record();
+        }
+
+        public void recordContentCacheMiss() {
+            contentCacheMisses.record();
+        }
+
+        /**
+         * @param timestamp record timestamp, ignored when the record has none
+         */
+        public void recordAcknowledged(Long timestamp, long now) {
+            if (timestamp != null && timestamp >= 0) {
+                lag.record(Math.max(0, now - timestamp), now);
+            }
+        }
+
+        private MetricName metric(String name, String description, Map<String, String> tags) {
+            return metrics.metricName(name, COLLECTION_GROUP, description, tags);
+        }
+    }
+}
@@ -0,0 +1,257 @@
+/*
+ * Copyright © 2025 Weaviate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.weaviate.connector.routing;
+
+import io.weaviate.connector.converter.RecordFields;
+import org.apache.kafka.connect.errors.DataException;
+import org.apache.kafka.connect.header.Header;
+import org.apache.kafka.connect.sink.SinkRecord;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Resolves the collection of a record from a {@code collection.mapping} template, compiled once.
+ * Templates hold variables between <code>${</code> and <code>}</code>:
+ * <ul>
+ *     <li>{@code topic}, and {@code topic.<n>} for the n-th group of the topic pattern</li>
+ *     <li>{@code partition}</li>
+ *     <li>{@code key} for the whole key, {@code key.<field>} and {@code value.<field>} for a top level field</li>
+ *     <li>{@code header.<name>} for the last header with that name</li>
+ * </ul>
+ * A variable may be followed by {@code :<default>}, used when the record has no value for it.
+ * Other text, unknown variables included, is kept as is.
+ * <p>
+ * The template is specialized once per topic, the topic variables being replaced by their value.
+ * When no variable depends on the record, the collection of a topic is resolved a single time,
+ * otherwise only the record variables are evaluated per record. Values taken from a record must be
+ * valid collection name characters, letters, digits and underscores, so that a malformed record
+ * fails on its own instead of failing the batch it would be sent in.
+ */
+public class CollectionRouter {
+    private static final Pattern VARIABLE = Pattern.compile("\\$\\{([^}:]*)(?::([^}]*))?}");
+    private static final Pattern TOPIC_GROUP = Pattern.compile("topic\\.(\\d+)");
+    private static final Pattern NAME_CHARACTERS = Pattern.compile("[_0-9A-Za-z]+");
+
+    /**
+     * Part of a template, topic parts have a {@code topicGroup}, record parts a {@code value}.
+     */
+    private static final class Segment {
+        final String literal;
+        final int topicGroup;
+        final String variable;
+        final Function<SinkRecord, Object> value;
+        final String defaultValue;
+
+        Segment(String literal, int topicGroup, String variable, Function<SinkRecord, Object> value, String defaultValue) {
+            this.literal = literal;
+            this.topicGroup = topicGroup;
+            this.variable = variable;
+            this.value = value;
+            this.defaultValue = defaultValue;
+        }
+
+        String resolve(SinkRecord record) {
+            String resolved = RecordFields.name(value.apply(record));
+            if (resolved == null) {
+                if (defaultValue == null) {
+                    throw new DataException("No value for ${" + variable + "} to route the record at offset " + record.kafkaOffset()
+                            + " of " + record.topic() + "-" + record.kafkaPartition() + " to a collection");
+                }
+                return defaultValue;
+            }
+            if (!NAME_CHARACTERS.matcher(resolved).matches()) {
+                throw new DataException("Invalid collection name characters in ${" + variable + "} value " + resolved
+                        + " of the record at offset " + record.kafkaOffset() + " of " + record.topic() + "-" + record.kafkaPartition());
+            }
+            return resolved;
+        }
+    }
+
+    /**
+     * Template specialized for a topic, either a collection name or literals and record segments.
+     */
+    private static final class Route {
+        final String collection;
+        final Object[] parts;
+
+        Route(String collection, Object[] parts) {
+            this.collection = collection;
+            this.parts = parts;
+        }
+
+        String resolve(SinkRecord record) {
+            if (collection != null) {
+                return collection;
+            }
+            StringBuilder name = new StringBuilder();
+            for (Object part : parts) {
+                if (part instanceof String) {
+                    name.append((String) part);
+                } else {
+                    name.append(((Segment) part).resolve(record));
+                }
+            }
+            return name.toString();
+        }
+    }
+
+    private final String template;
+    private final Pattern topicPattern;
+    private final List<Segment> segments;
+    private final boolean usesTopicGroups;
+    private final Map<String, Route> routes = new ConcurrentHashMap<>();
+
+    private CollectionRouter(String template, Pattern topicPattern, List<Segment> segments) {
+        this.template = template;
+        this.topicPattern = topicPattern;
+        this.segments = segments;
+        this.usesTopicGroups = segments.stream().anyMatch(segment -> segment.topicGroup > 0);
+    }
+
+    /**
+     * @throws IllegalArgumentException when the template uses a group that {@code topicPattern}
+     *                                  does not have or a default that is not a collection name
+     */
+    public static CollectionRouter compile(String template, Pattern topicPattern) {
+        List<Segment> segments = new ArrayList<>();
+        Matcher matcher = VARIABLE.matcher(template);
+        int end = 0;
+        while (matcher.find()) {
+            Segment variable = variable(matcher.group(1), matcher.group(2), topicPattern);
+            if (variable != null) {
+                addLiteral(segments, template.substring(end, matcher.start()));
+                segments.add(variable);
+                end = matcher.end();
+            }
+        }
+        addLiteral(segments, template.substring(end));
+        return new CollectionRouter(template, topicPattern, segments);
+    }
+
+    private static void addLiteral(List<Segment> segments, String literal) {
+        if (!literal.isEmpty()) {
+            segments.add(new Segment(literal, -1, null, null, null));
+        }
+    }
+
+    /**
+     * The segment of a variable, null for unknown variables that are kept as literal text.
+     */
+    private static Segment variable(String variable, String defaultValue, Pattern topicPattern) {
+        Segment segment = knownVariable(variable, defaultValue, topicPattern);
+        if (segment != null && defaultValue != null && !NAME_CHARACTERS.matcher(defaultValue).matches()) {
+            throw new IllegalArgumentException("Invalid collection name characters in default of ${" + variable + "}: " + defaultValue);
+        }
+        return segment;
+    }
+
+    private static Segment knownVariable(String variable, String defaultValue, Pattern topicPattern) {
+        if (variable.equals("topic")) {
+            return new Segment(null, 0, variable, null, null);
+        }
+        Matcher topicGroup = TOPIC_GROUP.matcher(variable);
+        if (topicGroup.matches()) {
+            int group = Integer.parseInt(topicGroup.group(1));
+            if (group > topicPattern.matcher("").groupCount()) {
+                throw new IllegalArgumentException("${" + variable + "} refers to group " + group + " but topic pattern "
+                        + topicPattern.pattern() + " has " + topicPattern.matcher("").groupCount());
+            }
+            return new Segment(null, group, variable, null, null);
+        }
+        if (variable.equals("partition")) {
+            return new Segment(null, -1, variable, SinkRecord::kafkaPartition, defaultValue);
+        }
+        if (variable.equals("key")) {
+            return new Segment(null, -1, variable, SinkRecord::key, defaultValue);
+        }
+        if (variable.startsWith("key.") && variable.length() > 4) {
+            String field = variable.substring(4);
+            return new Segment(null, -1, variable, record -> RecordFields.get(record.key(), field), defaultValue);
+        }
+        if (variable.startsWith("value.") && variable.length() > 6) {
+            String field = variable.substring(6);
+            return new Segment(null, -1, variable, record -> RecordFields.get(record.value(), field), defaultValue);
+        }
+        if (variable.startsWith("header.") && variable.length() > 7) {
+            String name = variable.substring(7);
+            return new Segment(null, -1, variable, record -> {
+                Header header = record.headers().lastWithName(name);
+                return header == null ? null : header.value();
+            }, defaultValue);
+        }
+        return null;
+    }
+
+    /**
+     * Whether routing reads a field of the record value. Tombstones have none, their deletes would
+     * resolve to another collection than the upserts of the same object.
+     */
+    public boolean usesValue() {
+        return segments.stream().anyMatch(segment -> segment.variable != null && segment.variable.startsWith("value."));
+    }
+
+    /**
+     * @throws DataException when the record lacks a value without default or has a value that is
+     *                       not a collection name
+     */
+    public String collection(SinkRecord record) {
+        return routes.computeIfAbsent(record.topic(), this::route).resolve(record);
+    }
+
+    private Route route(String topic) {
+        Matcher matcher = null;
+        if (usesTopicGroups) {
+            matcher = topicPattern.matcher(topic);
+            if (!matcher.matches()) {
+                throw new DataException("Topic " + topic + " does not match collection mapping topic pattern " + topicPattern.pattern());
+            }
+        }
+        List<Object> parts = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        for (Segment segment : segments) {
+            if (segment.value != null) {
+                if (literal.length() > 0) {
+                    parts.add(literal.toString());
+                    literal.setLength(0);
+                }
+                parts.add(segment);
+            } else if (segment.topicGroup == 0) {
+                literal.append(topic);
+            } else if (segment.topicGroup > 0) {
+                String group = matcher.group(segment.topicGroup);
+                literal.append(group == null ? "" : group);
+            } else {
+                literal.append(segment.literal);
+            }
+        }
+        if (parts.isEmpty()) {
+            if (literal.length() == 0) {
+                throw new DataException("Collection mapping " + template + " resolves to an empty collection name for topic " + topic);
+            }
+            return new Route(literal.toString(), null);
+        }
+        if (literal.length() > 0) {
+            parts.add(literal.toString());
+        }
+        return new Route(null, parts.toArray());
+    }
+}
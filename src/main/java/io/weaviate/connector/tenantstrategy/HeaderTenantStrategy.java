@@ -0,0 +1,41 @@
+/*
+ * Copyright © 2025 Weaviate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.weaviate.connector.tenantstrategy;
+
+import io.weaviate.connector.WeaviateSinkConfig;
+import org.apache.kafka.connect.header.Header;
+import org.apache.kafka.connect.sink.SinkRecord;
+
+/**
+ * Tenant taken from the last {@code tenant.header.name} header of the record.
+ */
+public class HeaderTenantStrategy implements TenantStrategy {
+    private String headerName;
+
+    public HeaderTenantStrategy() {
+    }
+
+    @Override
+    public void configure(WeaviateSinkConfig config) {
+        headerName = config.getTenantHeaderName();
+    }
+
+    @Override
+    public String getTenant(SinkRecord record) {
+        Header header = record.headers().lastWithName(headerName);
+        return TenantNames.of(header == null ? null : header.value(), "header " + headerName);
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright © 2025 Weaviate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.weaviate.connector.tenantstrategy;
+
+import io.weaviate.connector.WeaviateSinkConfig;
+import io.weaviate.connector.converter.RecordFields;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.sink.SinkRecord;
+
+import java.util.Map;
+
+/**
+ * Tenant taken from the record key, or from its {@code tenant.field.name} field when the key is a
+ * Struct or a Map.
+ */
+public class KeyTenantStrategy implements TenantStrategy {
+    private String fieldName;
+
+    public KeyTenantStrategy() {
+    }
+
+    @Override
+    public void configure(WeaviateSinkConfig config) {
+        fieldName = config.getTenantFieldName();
+    }
+
+    @Override
+    public String getTenant(SinkRecord record) {
+        Object key = record.key();
+        if (key instanceof Struct || key instanceof Map) {
+            return TenantNames.of(RecordFields.get(key, fieldName), "key field " + fieldName);
+        }
+        return TenantNames.of(key, "record key");
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright © 2025 Weaviate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.weaviate.connector.tenantstrategy;
+
+import io.weaviate.connector.converter.RecordFields;
+import org.apache.kafka.connect.errors.DataException;
+
+final class TenantNames {
+    private TenantNames() {
+    }
+
+    /**
+     * Tenant name held by a record value, key or header, bytes being read as UTF-8.
+     */
+    static String of(Object value, String source) {
+        String tenant = RecordFields.name(value);
+        if (tenant == null) {
+            throw new DataException("No tenant found in " + source);
+        }
+        return tenant;
+    }
+}
@@ -0,0 +1,30 @@
+/*
+ * Copyright © 2025 Weaviate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.weaviate.connector.tenantstrategy;
+
+import io.weaviate.connector.WeaviateSinkConfig;
+import org.apache.kafka.connect.sink.SinkRecord;
+
+public interface TenantStrategy {
+    /**
+     * Tenant of the multi-tenant collection the record is written to, null when the collection
+     * does not use multi-tenancy.
+     */
+    public String getTenant(SinkRecord record);
+
+    public default void configure(WeaviateSinkConfig config) {
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright © 2025 Weaviate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.weaviate.connector.tenantstrategy;
+
+import io.weaviate.connector.WeaviateSinkConfig;
+import org.apache.kafka.connect.errors.DataException;
+import org.apache.kafka.connect.sink.SinkRecord;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Tenant captured from the topic by {@code tenant.topic.pattern}, the first group of the pattern
+ * or the whole topic when it has none. Tenants are resolved once per topic.
+ */
+public class TopicTenantStrategy implements TenantStrategy {
+    private final Map<String, String> tenantsByTopic = new ConcurrentHashMap<>();
+    private Pattern pattern;
+
+    public TopicTenantStrategy() {
+    }
+
+    @Override
+    public void configure(WeaviateSinkConfig config) {
+        pattern = Pattern.compile(config.getTenantTopicPattern());
+    }
+
+    @Override
+    public String getTenant(SinkRecord record) {
+        return tenantsByTopic.computeIfAbsent(record.topic(), this::tenantOf);
+    }
+
+    private String tenantOf(String topic) {
+        Matcher matcher = pattern.matcher(topic);
+        if (!matcher.matches()) {
+            throw new DataException("Topic " + topic + " does not match tenant pattern " + pattern.pattern());
+        }
+        return TenantNames.of(matcher.groupCount() > 0 ? matcher.group(1) : topic, "topic " + topic);
+    }
+}
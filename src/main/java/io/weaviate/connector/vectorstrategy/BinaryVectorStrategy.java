@@ -0,0 +1,154 @@
+/*
+ * Copyright © 2025 Weaviate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.weaviate.connector.vectorstrategy;
+
+import io.weaviate.connector.WeaviateSinkConfig;
+import io.weaviate.connector.converter.RecordFields;
+import org.apache.kafka.connect.errors.DataException;
+import org.apache.kafka.connect.sink.SinkRecord;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.ShortBuffer;
+import java.util.Map;
+
+/**
+ * Embedding stored in a bytes field as packed little-endian values, see
+ * {@link WeaviateSinkConfig.VectorEncoding} for the supported encodings. The bytes are decoded
+ * through buffer views, without copying them first.
+ */
+public class BinaryVectorStrategy implements VectorStrategy {
+    private String fieldName;
+    private WeaviateSinkConfig.VectorEncoding encoding;
+    private float int8Scale;
+
+    public BinaryVectorStrategy() {
+    }
+
+    @Override
+    public void configure(WeaviateSinkConfig config) {
+        fieldName = config.getVectorFieldName();
+        encoding = config.getVectorEncoding();
+        int8Scale = (float) config.getVectorInt8Scale();
+    }
+
+    @Override
+    public String getSourceField() {
+        return fieldName;
+    }
+
+    @Override
+    public Float[] getDocumentVector(SinkRecord record, Map<String, Object> valueProperties) {
+        float[] vector = getVector(record, valueProperties);
+        if (vector == null) {
+            return null;
+        }
+        Float[] boxedVector = new Float[vector.length];
+        for (int i = 0; i < vector.length; i++) {
+            boxedVector[i] = vector[i];
+        }
+        return boxedVector;
+    }
+
+    @Override
+    public float[] getVector(SinkRecord record, Map<String, Object> valueProperties) {
+        Object converted = valueProperties.remove(fieldName);
+        Object object = record != null && record.value() != null ? RecordFields.get(record.value(), fieldName) : converted;
+        if (object == null) {
+            return null;
+        }
+        ByteBuffer bytes;
+        if (object instanceof byte[]) {
+            bytes = ByteBuffer.wrap((byte[]) object);
+        } else if (object instanceof ByteBuffer) {
+            // Reading from a duplicate leaves the position and byte order of the record value untouched
+            bytes = ((ByteBuffer) object).duplicate();
+        } else {
+            throw new DataException("Can't decode " + object.getClass() + " as a binary vector, expected bytes");
+        }
+        return decode(bytes.order(ByteOrder.LITTLE_ENDIAN), encoding, int8Scale);
+    }
+
+    static float[] decode(ByteBuffer bytes, WeaviateSinkConfig.VectorEncoding encoding, float int8Scale) {
+        int width = width(encoding);
+        if (bytes.remaining() % width != 0) {
+            throw new DataException("Binary vector of " + bytes.remaining() + " bytes is not a multiple of " + width + " bytes for " + encoding);
+        }
+        float[] vector = new float[bytes.remaining() / width];
+        switch (encoding) {
+            case FLOAT32:
+                bytes.asFloatBuffer().get(vector);
+                break;
+            case FLOAT16: {
+                ShortBuffer halves = bytes.asShortBuffer();
+                for (int i = 0; i < vector.length; i++) {
+                    vector[i] = float16ToFloat(halves.get(i));
+                }
+                break;
+            }
+            case BFLOAT16: {
+                ShortBuffer halves = bytes.asShortBuffer();
+                for (int i = 0; i < vector.length; i++) {
+                    // bfloat16 is the upper half of a float32
+                    vector[i] = Float.intBitsToFloat((halves.get(i) & 0xffff) << 16);
+                }
+                break;
+            }
+            case INT8: {
+                int offset = bytes.position();
+                for (int i = 0; i < vector.length; i++) {
+                    vector[i] = bytes.get(offset + i) * int8Scale;
+                }
+                break;
+            }
+            default:
+                throw new DataException("Unsupported vector encoding " + encoding);
+        }
+        return vector;
+    }
+
+    private static int width(WeaviateSinkConfig.VectorEncoding encoding) {
+        switch (encoding) {
+            case FLOAT32:
+                return Float.BYTES;
+            case FLOAT16:
+            case BFLOAT16:
+                return Short.BYTES;
+            default:
+                return Byte.BYTES;
+        }
+    }
+
+    /**
+     * IEEE 754 binary16 to float conversion, {@code Float.float16ToFloat} is only available from Java 20.
+     */
+    static float float16ToFloat(short half) {
+        int bits = half & 0xffff;
+        int sign = (bits & 0x8000) << 16;
+        int exponent = (bits >>> 10) & 0x1f;
+        int mantissa = bits & 0x3ff;
+        if (exponent == 0x1f) {
+            // Infinity or NaN, keeping the NaN payload
+            return Float.intBitsToFloat(sign | 0x7f800000 | (mantissa << 13));
+        }
+        if (exponent == 0) {
+            // Zero or subnormal, the value is mantissa * 2^-24
+            float value = mantissa * 0x1p-24f;
+            return sign == 0 ? value : -value;
+        }
+        return Float.intBitsToFloat(sign | ((exponent + 112) << 23) | (mantissa << 13));
+    }
+}
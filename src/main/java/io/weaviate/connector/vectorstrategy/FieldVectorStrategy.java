@@ -16,9 +16,11 @@
 package io.weaviate.connector.vectorstrategy;
 
 import io.weaviate.connector.WeaviateSinkConfig;
+import io.weaviate.connector.converter.RecordFields;
 import org.apache.kafka.connect.sink.SinkRecord;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -33,6 +35,11 @@ public class FieldVectorStrategy implements VectorStrategy {
         fieldName = config.getVectorFieldName();
     }
 
+    @Override
+    public String getSourceField() {
+        return fieldName;
+    }
+
     @Override
     public Float[] getDocumentVector(SinkRecord record, Map<String, Object> valueProperties) {
         if (valueProperties.get(fieldName) == null) {
@@ -63,4 +70,47 @@ public class FieldVectorStrategy implements VectorStrategy {
         }
         throw new UnsupportedOperationException("Can't convert " + object + " to Float[]");
     }
+
+    @Override
+    public float[] getVector(SinkRecord record, Map<String, Object> valueProperties) {
+        // Reading the raw field, the converter skipped it so it never went through boxed Double lists
+        Object converted = valueProperties.remove(fieldName);
+        Object object = record != null && record.value() != null ? RecordFields.get(record.value(), fieldName) : converted;
+        if (object == null) {
+            return null;
+        }
+        return toFloatArray(object);
+    }
+
+    static float[] toFloatArray(Object object) {
+        if (object instanceof float[]) {
+            return (float[]) object;
+        }
+        if (object instanceof Float[]) {
+            Float[] boxed = (Float[]) object;
+            float[] vector = new float[boxed.length];
+            for (int i = 0; i < boxed.length; i++) {
+                vector[i] = boxed[i];
+            }
+            return vector;
+        }
+        if (object instanceof double[]) {
+            double[] doubles = (double[]) object;
+            float[] vector = new float[doubles.length];
+            for (int i = 0; i < doubles.length; i++) {
+                vector[i] = (float) doubles[i];
+            }
+            return vector;
+        }
+        if (object instanceof Collection) {
+            Collection<?> collection = (Collection<?>) object;
+            float[] vector = new float[collection.size()];
+            int i = 0;
+            for (Object o : collection) {
+                vector[i++] = ((Number) o).floatValue();
+            }
+            return vector;
+        }
+        throw new UnsupportedOperationException("Can't convert " + object + " to float[]");
+    }
 }
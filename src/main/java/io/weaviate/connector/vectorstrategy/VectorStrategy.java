@@ -24,4 +24,28 @@ public interface VectorStrategy {
     public void configure(WeaviateSinkConfig config);
 
     public Float[] getDocumentVector(SinkRecord record, Map<String, Object> valueProperties);
+
+    /**
+     * Primitive variant of {@link #getDocumentVector(SinkRecord, Map)} used by the task, strategies
+     * reading embeddings should override it to avoid boxing every dimension.
+     */
+    public default float[] getVector(SinkRecord record, Map<String, Object> valueProperties) {
+        Float[] vector = getDocumentVector(record, valueProperties);
+        if (vector == null) {
+            return null;
+        }
+        float[] primitiveVector = new float[vector.length];
+        for (int i = 0; i < vector.length; i++) {
+            primitiveVector[i] = vector[i];
+        }
+        return primitiveVector;
+    }
+
+    /**
+     * Top level value field the strategy reads from the record itself. It is left out of the
+     * converted properties instead of being converted and removed afterwards.
+     */
+    public default String getSourceField() {
+        return null;
+    }
 }
@@ -0,0 +1,58 @@
+/*
+ * Copyright © 2025 Weaviate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.weaviate.connector.writer;
+
+/**
+ * Additive increase, multiplicative decrease of a batch size within bounds. The size grows by
+ * {@code minSize} after each full batch acknowledged within the latency target, and is halved
+ * after a slower or failed batch. Batches that were not full do not grow it, they tell nothing
+ * about how a larger batch would behave.
+ * <p>
+ * Updated from the sending threads and read from the task thread.
+ */
+class AdaptiveBatchSize {
+    private final int minSize;
+    private final int maxSize;
+    private final long targetLatencyNanos;
+    private int size;
+
+    AdaptiveBatchSize(int initialSize, int minSize, int maxSize, long targetLatencyMs) {
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.targetLatencyNanos = targetLatencyMs * 1_000_000L;
+        this.size = Math.max(minSize, Math.min(maxSize, initialSize));
+    }
+
+    synchronized int current() {
+        return size;
+    }
+
+    synchronized void onSuccess(int batchSize, long latencyNanos) {
+        if (latencyNanos > targetLatencyNanos) {
+            decrease();
+        } else if (batchSize >= size) {
+            size = Math.min(maxSize, size + minSize);
+        }
+    }
+
+    synchronized void onFailure() {
+        decrease();
+    }
+
+    private void decrease() {
+        size = Math.max(minSize, size / 2);
+    }
+}
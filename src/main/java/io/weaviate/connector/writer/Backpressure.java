@@ -0,0 +1,180 @@
+/*
+ * Copyright © 2025 Weaviate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.weaviate.connector.writer;
+
+import io.weaviate.client.base.WeaviateError;
+import io.weaviate.client.base.WeaviateErrorMessage;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Decides when a task should stop consuming because Weaviate does not keep up. The writer reports
+ * the operations it holds, buffered or in flight, and the outcome of each request sent to Weaviate.
+ * The task is paused once the operations held exceed {@code maxBytes} or {@code maxObjects}, or
+ * once the share of requests throttled over the last {@code windowMs} exceeds
+ * {@code maxThrottledRatio}. It is resumed when the operations held dropped to half the limits and
+ * the throttled share to half its threshold, so that it does not flap around a limit.
+ * <p>
+ * Only the latest {@value #MAX_OUTCOMES} request outcomes are kept. Updated from the sending
+ * threads and read from the task thread.
+ */
+public class Backpressure {
+    static final int MAX_OUTCOMES = 256;
+
+    private final long maxBytes;
+    private final long maxObjects;
+    private final double maxThrottledRatio;
+    private final long windowNanos;
+    private final AtomicLong bytes = new AtomicLong();
+    private final AtomicLong objects = new AtomicLong();
+    private final long[] outcomeNanos = new long[MAX_OUTCOMES];
+    private final boolean[] outcomeThrottled = new boolean[MAX_OUTCOMES];
+    private int outcomes;
+    private int nextOutcome;
+    private volatile boolean paused;
+
+    /**
+     * @param maxBytes   estimated bytes held above which the task is paused, 0 for no limit
+     * @param maxObjects operations held above which the task is paused, 0 for no limit
+     */
+    public Backpressure(long maxBytes, long maxObjects, double maxThrottledRatio, long windowMs) {
+        this.maxBytes = maxBytes;
+        this.maxObjects = maxObjects;
+        this.maxThrottledRatio = maxThrottledRatio;
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMs);
+    }
+
+    void held(long bytes, int objects) {
+        this.bytes.addAndGet(bytes);
+        this.objects.addAndGet(objects);
+    }
+
+    void released(long bytes, int objects) {
+        this.bytes.addAndGet(-bytes);
+        this.objects.addAndGet(-objects);
+    }
+
+    void recordRequest(boolean throttled) {
+        recordRequest(throttled, System.nanoTime());
+    }
+
+    synchronized void recordRequest(boolean throttled, long nowNanos) {
+        outcomeNanos[nextOutcome] = nowNanos;
+        outcomeThrottled[nextOutcome] = throttled;
+        nextOutcome = (nextOutcome + 1) % MAX_OUTCOMES;
+        outcomes = Math.min(outcomes + 1, MAX_OUTCOMES);
+    }
+
+    /**
+     * Estimated size of the operations buffered or in flight.
+     */
+    public long heldBytes() {
+        return bytes.get();
+    }
+
+    public long heldObjects() {
+        return objects.get();
+    }
+
+    /**
+     * Share of the requests of the window that Weaviate throttled, 0 when none was sent.
+     */
+    public double throttledRatio() {
+        return throttledRatio(System.nanoTime());
+    }
+
+    synchronized double throttledRatio(long nowNanos) {
+        int requests = 0;
+        int throttled = 0;
+        for (int i = 0; i < outcomes; i++) {
+            if (nowNanos - outcomeNanos[i] <= windowNanos) {
+                requests++;
+                if (outcomeThrottled[i]) {
+                    throttled++;
+                }
+            }
+        }
+        return requests == 0 ? 0 : (double) throttled / requests;
+    }
+
+    public boolean isPaused() {
+        return paused;
+    }
+
+    /**
+     * Pauses or resumes according to the current state, returning whether it changed.
+     */
+    public boolean update() {
+        return update(System.nanoTime());
+    }
+
+    boolean update(long nowNanos) {
+        double throttled = throttledRatio(nowNanos);
+        if (!paused && (exceeds(bytes.get(), maxBytes) || exceeds(objects.get(), maxObjects) || throttled > maxThrottledRatio)) {
+            paused = true;
+            return true;
+        }
+        if (paused && !exceeds(2 * bytes.get(), maxBytes) && !exceeds(2 * objects.get(), maxObjects)
+                && throttled <= maxThrottledRatio / 2) {
+            paused = false;
+            return true;
+        }
+        return false;
+    }
+
+    private static boolean exceeds(long held, long limit) {
+        return limit > 0 && held > limit;
+    }
+
+    /**
+     * Whether a request that failed as a whole was rejected because Weaviate is overloaded or did
+     * not answer in time, rather than because of the request itself.
+     */
+    static boolean isThrottling(WeaviateError error) {
+        if (error == null) {
+            return false;
+        }
+        int status = error.getStatusCode();
+        if (status == 429 || status == 503 || status == 504) {
+            return true;
+        }
+        if (error.getMessages() != null) {
+            for (WeaviateErrorMessage message : error.getMessages()) {
+                if (isThrottling(message.getMessage())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Whether an error message, of a request or of a single object, tells that Weaviate or one of
+     * its modules is rate limiting or timing out.
+     */
+    static boolean isThrottling(String message) {
+        if (message == null) {
+            return false;
+        }
+        String lowerCase = message.toLowerCase(Locale.ROOT);
+        return lowerCase.contains("429") || lowerCase.contains("too many requests") || lowerCase.contains("rate limit")
+                || lowerCase.contains("503") || lowerCase.contains("unavailable")
+                || lowerCase.contains("deadline exceeded") || lowerCase.contains("deadline_exceeded")
+                || lowerCase.contains("timed out") || lowerCase.contains("timeout");
+    }
+}
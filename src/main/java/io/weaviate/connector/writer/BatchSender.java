@@ -0,0 +1,44 @@
+/*
+ * Copyright © 2025 Weaviate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.weaviate.connector.writer;
+
+import io.weaviate.client.base.Result;
+import io.weaviate.client.v1.batch.model.BatchDeleteResponse;
+import io.weaviate.client.v1.batch.model.ObjectGetResponse;
+import io.weaviate.client.v1.data.model.WeaviateObject;
+
+import java.util.List;
+
+/**
+ * Sends a single, already formed batch to Weaviate. Implementations are called concurrently from
+ * the {@link BatchWriter} pool and must be thread safe.
+ */
+public interface BatchSender {
+    public Result<ObjectGetResponse[]> upsert(List<WeaviateObject> objects);
+
+    /**
+     * Deletes objects of {@code collection}, from {@code tenant} for multi-tenant collections and
+     * {@code tenant} being null for collections that do not use multi-tenancy.
+     */
+    public Result<BatchDeleteResponse> delete(String collection, String tenant, List<String> documentIds);
+
+    /**
+     * Creates {@code tenant} in {@code collection} when it does not exist and activates it when it
+     * is inactive, so that objects can be written to it.
+     */
+    public default void activateTenant(String collection, String tenant) {
+    }
+}
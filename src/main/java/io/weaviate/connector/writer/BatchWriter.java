@@ -0,0 +1,957 @@
+/*
+ * Copyright © 2025 Weaviate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.weaviate.connector.writer;
+
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.weaviate.client.base.Result;
+import io.weaviate.client.base.WeaviateError;
+import io.weaviate.client.base.WeaviateErrorMessage;
+import io.weaviate.client.v1.batch.model.BatchDeleteResponse;
+import io.weaviate.client.v1.batch.model.ObjectGetResponse;
+import io.weaviate.client.v1.batch.model.ObjectsGetResponseAO2Result;
+import io.weaviate.client.v1.data.model.WeaviateObject;
+import io.weaviate.connector.WeaviateSinkConfig;
+import io.weaviate.connector.metrics.SinkMetrics;
+import org.apache.kafka.connect.errors.ConnectException;
+import org.apache.kafka.connect.sink.ErrantRecordReporter;
+import org.apache.kafka.connect.sink.SinkRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Groups write operations into batches and sends them to Weaviate on a dedicated pool, keeping at
+ * most {@code maxInFlight} batches outstanding. Records are marked as completed in the
+ * {@link OffsetTracker} once the batch holding them is acknowledged.
+ * <p>
+ * Operations are buffered per collection, so a large or slow collection does not hold back the
+ * batches of the others. Upsert batches are closed at the batch size or, when configured, once
+ * their estimated size reaches the byte limit. Each collection has its own batch size and in-flight limit on top of the
+ * shared one, slots of the shared limit are handed out in dispatch order. Upserts and tombstones
+ * are batched separately, tombstones being sent as a single batch delete. A batch touching a
+ * document ID that is still part of an in-flight batch is only sent once that batch completed, so
+ * operations on the same object are applied in record order.
+ * <p>
+ * Operations on a tenant of a multi-tenant collection are batched per tenant, since a batch delete
+ * targets a single tenant, the tenants of a collection sharing its batch size, in-flight limit,
+ * retry budget and metrics. When {@code tenant.auto.create} is set, a tenant is created or
+ * activated before its first batch is sent, the tenants known to exist being cached.
+ * <p>
+ * Requests failing as a whole for a transient reason, Weaviate being unreachable, timing out or
+ * throttling, are sent again up to {@code max.connection.retries} or {@code max.timeout.retries}
+ * times. Objects rejected individually in a batch response are sent again on their own, the rest
+ * of the batch being acknowledged. Once out of retries, their records go to the errant record
+ * reporter when there is one, otherwise the writer fails. Retries wait for a {@link RetryBackoff}
+ * and are bounded by a {@link RetryBudget} of the writer and of each collection, and no request is
+ * sent while the {@link CircuitBreaker} is open.
+ * When deduplication is enabled, an operation replaces any buffered operation on the same object
+ * instead, so only the last write of the not yet sent window reaches Weaviate. When given a
+ * {@link ContentHashCache}, upserts whose object has the same content as the latest write of the
+ * document are dropped, their records being completed right away.
+ * <p>
+ * When backpressure is enabled, the operations held and the outcome of each request are reported
+ * to a {@link Backpressure} telling the task when to pause.
+ * <p>
+ * Apart from the completion callbacks, the writer is only accessed from the task thread.
+ */
+public class BatchWriter implements AutoCloseable {
+    // Weaviate refuses batch deletes matching more objects than QUERY_MAXIMUM_RESULTS (10000 by default)
+    static final int MAX_DELETE_BATCH_SIZE = 10000;
+    private static final Logger log = LoggerFactory.getLogger(BatchWriter.class);
+    private static final AtomicInteger POOL_COUNTER = new AtomicInteger();
+
+    private final BatchSender sender;
+    private final OffsetTracker offsetTracker;
+    private final WeaviateSinkConfig config;
+    private final int batchSize;
+    private final int maxInFlight;
+    private final long maxBytes;
+    private final int maxObjectRetries;
+    private final int maxConnectionRetries;
+    private final int maxTimeoutRetries;
+    private final RetryBackoff backoff;
+    private final RetryBudget retryBudget;
+    private final CircuitBreaker circuitBreaker;
+    private final ErrantRecordReporter errantRecordReporter;
+    private final SinkMetrics metrics;
+    private final ContentHashCache contentHashCache;
+    private final Map<String, Integer> collectionBatchSizes;
+    private final Map<String, Integer> collectionMaxInFlight;
+    private final int awaitTerminationMs;
+    private final long lingerNanos;
+    private final Backpressure backpressure;
+    private final ExecutorService executor;
+    private final Semaphore inFlight;
+    private final Set<CompletableFuture<Void>> inFlightBatches = ConcurrentHashMap.newKeySet();
+    private final Map<String, CompletableFuture<Void>> inFlightDocuments = new ConcurrentHashMap<>();
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+    private final AtomicLong elidedWrites = new AtomicLong();
+    private final boolean deduplicate;
+    private final Map<String, CollectionLane> lanes = new LinkedHashMap<>();
+    private final Map<String, Boolean> knownTenants;
+    private long anonymousOperations;
+
+    /**
+     * Operations buffered for a single collection, or a single tenant of it, keyed by document.
+     * Operations without an ID get a unique key.
+     */
+    private static final class CollectionLane {
+        final String collection;
+        final String tenant;
+        final int batchSize;
+        final int deleteBatchSize;
+        final AdaptiveBatchSize adaptiveBatchSize;
+        final SinkMetrics.CollectionMetrics metrics;
+        final Semaphore inFlight;
+        final RetryBudget retryBudget;
+        final Map<String, WriteOperation> upserts = new LinkedHashMap<>();
+        final Map<String, WriteOperation> deletes = new LinkedHashMap<>();
+        long upsertBytes;
+        // Time the oldest buffered operation of each kind was written
+        long upsertsSinceNanos;
+        long deletesSinceNanos;
+
+        CollectionLane(String collection, int batchSize, int maxInFlight, AdaptiveBatchSize adaptiveBatchSize,
+                       RetryBudget retryBudget, SinkMetrics.CollectionMetrics metrics) {
+            this.collection = collection;
+            this.tenant = null;
+            this.batchSize = batchSize;
+            this.deleteBatchSize = Math.min(batchSize, MAX_DELETE_BATCH_SIZE);
+            this.adaptiveBatchSize = adaptiveBatchSize;
+            this.retryBudget = retryBudget;
+            this.metrics = metrics;
+            this.inFlight = new Semaphore(maxInFlight, true);
+        }
+
+        /**
+         * Lane of a tenant, sharing the limits, budget and metrics of the collection lane.
+         */
+        CollectionLane(CollectionLane collectionLane, String tenant) {
+            this.collection = collectionLane.collection;
+            this.tenant = tenant;
+            this.batchSize = collectionLane.batchSize;
+            this.deleteBatchSize = collectionLane.deleteBatchSize;
+            this.adaptiveBatchSize = collectionLane.adaptiveBatchSize;
+            this.retryBudget = collectionLane.retryBudget;
+            this.metrics = collectionLane.metrics;
+            this.inFlight = collectionLane.inFlight;
+        }
+
+        String describe() {
+            return tenant == null ? collection : collection + " (tenant " + tenant + ")";
+        }
+
+        int upsertBatchSize() {
+            return adaptiveBatchSize == null ? batchSize : adaptiveBatchSize.current();
+        }
+    }
+
+    public BatchWriter(BatchSender sender, OffsetTracker offsetTracker, WeaviateSinkConfig config) {
+        this(sender, offsetTracker, config, null, SinkMetrics.unregistered());
+    }
+
+    /**
+     * @param errantRecordReporter receives the records of objects still rejected after
+     *                             {@code max.object.retries}, null to fail instead
+     */
+    public BatchWriter(BatchSender sender, OffsetTracker offsetTracker, WeaviateSinkConfig config,
+                       ErrantRecordReporter errantRecordReporter, SinkMetrics metrics) {
+        this(sender, offsetTracker, config, errantRecordReporter, metrics, null);
+    }
+
+    /**
+     * @param contentHashCache hashes of the latest writes, to skip unchanged objects, null to write them all
+     */
+    public BatchWriter(BatchSender sender, OffsetTracker offsetTracker, WeaviateSinkConfig config,
+                       ErrantRecordReporter errantRecordReporter, SinkMetrics metrics, ContentHashCache contentHashCache) {
+        this.sender = sender;
+        this.metrics = metrics;
+        this.contentHashCache = contentHashCache;
+        this.errantRecordReporter = errantRecordReporter;
+        this.offsetTracker = offsetTracker;
+        this.config = config;
+        this.batchSize = config.getBatchSize();
+        this.maxInFlight = config.getMaxInFlightBatches();
+        this.maxBytes = config.getBatchMaxBytes();
+        this.maxObjectRetries = config.getMaxObjectRetries();
+        this.maxConnectionRetries = config.getMaxConnectionRetries();
+        this.maxTimeoutRetries = config.getMaxTimeoutRetries();
+        this.backoff = new RetryBackoff(config.getRetryInterval(), config.getRetryBackoffMaxMs());
+        this.retryBudget = newRetryBudget();
+        this.circuitBreaker = new CircuitBreaker(config.getCircuitBreakerFailureThreshold(), config.getCircuitBreakerOpenMs());
+        this.collectionBatchSizes = config.getCollectionBatchSizes();
+        this.collectionMaxInFlight = config.getCollectionMaxInFlightBatches();
+        this.awaitTerminationMs = config.getAwaitTerminationMs();
+        this.deduplicate = config.getDeduplicationEnabled();
+        this.lingerNanos = TimeUnit.MILLISECONDS.toNanos(config.getLingerMs());
+        this.backpressure = config.getBackpressureEnabled()
+                ? new Backpressure(config.getBackpressureMaxBytes(), config.getBackpressureMaxObjects(),
+                        config.getBackpressureThrottledRatio(), config.getBackpressureWindowMs())
+                : null;
+        this.inFlight = new Semaphore(maxInFlight, true);
+        int tenantCacheSize = config.getTenantCacheSize();
+        this.knownTenants = config.getTenantAutoCreate()
+                ? new LinkedHashMap<>(16, 0.75f, true) {
+                    private static final long serialVersionUID = 1L;
+
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                        return size() > tenantCacheSize;
+                    }
+                }
+                : null;
+        int poolSize = config.getPoolSize();
+        String poolName = "weaviate-sink-batch-" + POOL_COUNTER.incrementAndGet() + "-";
+        AtomicInteger threadCounter = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(poolSize, runnable -> {
+            Thread thread = new Thread(runnable, poolName + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        metrics.inFlightBatches(this::inFlightBatches);
+        metrics.circuitBreakerState(() -> circuitBreaker.state().ordinal());
+        if (contentHashCache != null) {
+            metrics.contentCacheSize(contentHashCache::size);
+        }
+        if (backpressure != null) {
+            metrics.backpressure(backpressure::heldBytes, backpressure::heldObjects, backpressure::throttledRatio, backpressure::isPaused);
+        }
+    }
+
+    public void write(WriteOperation operation) {
+        ensureHealthy();
+        offsetTracker.track(operation.getRecord());
+        if (operation.isDelete() && operation.getDocumentId() == null) {
+            offsetTracker.complete(operation.getRecord());
+            return;
+        }
+        CollectionLane lane = lane(operation.getCollection(), operation.getTenant());
+        String documentKey = documentKey(operation);
+        if (contentHashCache != null && documentKey != null && skipUnchanged(lane, documentKey, operation)) {
+            offsetTracker.complete(operation.getRecord());
+            return;
+        }
+        if (documentKey == null) {
+            documentKey = "#" + anonymousOperations++;
+        } else {
+            resolveBufferedConflict(lane, documentKey, operation);
+        }
+        if (backpressure != null) {
+            backpressure.held(operation.getEstimatedBytes(), 1);
+        }
+        if (operation.isDelete()) {
+            if (lane.deletes.isEmpty()) {
+                lane.deletesSinceNanos = System.nanoTime();
+            }
+            lane.deletes.put(documentKey, operation);
+            if (lane.deletes.size() >= lane.deleteBatchSize) {
+                dispatchDeletes(lane);
+            }
+            return;
+        }
+        if (maxBytes > 0 && !lane.upserts.isEmpty() && lane.upsertBytes + operation.getEstimatedBytes() > maxBytes) {
+            // Closing the batch before it grows past the limit, the operation starts the next one
+            dispatchUpserts(lane);
+        }
+        if (lane.upserts.isEmpty()) {
+            lane.upsertsSinceNanos = System.nanoTime();
+        }
+        lane.upserts.put(documentKey, operation);
+        lane.upsertBytes += operation.getEstimatedBytes();
+        if (lane.upserts.size() >= lane.upsertBatchSize() || (maxBytes > 0 && lane.upsertBytes >= maxBytes)) {
+            dispatchUpserts(lane);
+        }
+    }
+
+    private boolean skipUnchanged(CollectionLane lane, String documentKey, WriteOperation operation) {
+        if (operation.isDelete()) {
+            contentHashCache.invalidate(documentKey);
+            return false;
+        }
+        long hash = operation.getVector() != null
+                ? ContentHash.of(operation.getObject().getProperties(), operation.getVector())
+                : ContentHash.of(operation.getObject().getProperties(), operation.getObject().getVector());
+        if (contentHashCache.isUnchanged(documentKey, hash)) {
+            lane.metrics.recordContentCacheHit();
+            return true;
+        }
+        lane.metrics.recordContentCacheMiss();
+        operation.setContentHash(hash);
+        contentHashCache.written(documentKey, OffsetTracker.topicPartition(operation.getRecord()), hash);
+        return false;
+    }
+
+    private CollectionLane lane(String collection, String tenant) {
+        CollectionLane collectionLane = lanes.computeIfAbsent(collection, this::newLane);
+        if (tenant == null) {
+            return collectionLane;
+        }
+        return lanes.computeIfAbsent(collection + "/" + tenant, ignored -> new CollectionLane(collectionLane, tenant));
+    }
+
+    private CollectionLane newLane(String collection) {
+        int laneBatchSize = collectionBatchSizes.getOrDefault(collection, batchSize);
+        AdaptiveBatchSize adaptiveBatchSize = null;
+        if (config.getAdaptiveBatchSizeEnabled()) {
+            adaptiveBatchSize = new AdaptiveBatchSize(laneBatchSize, config.getAdaptiveBatchSizeMin(),
+                    config.getAdaptiveBatchSizeMax(), config.getAdaptiveBatchLatencyTargetMs());
+        }
+        return new CollectionLane(collection, laneBatchSize,
+                Math.min(collectionMaxInFlight.getOrDefault(collection, maxInFlight), maxInFlight), adaptiveBatchSize,
+                newRetryBudget(), metrics.collection(collection));
+    }
+
+    private RetryBudget newRetryBudget() {
+        return new RetryBudget(config.getRetryBudgetRatio(), config.getRetryBudgetMinRetries(), config.getRetryBudgetWindowMs());
+    }
+
+    private void resolveBufferedConflict(CollectionLane lane, String documentKey, WriteOperation operation) {
+        boolean bufferedUpsert = lane.upserts.containsKey(documentKey);
+        boolean bufferedDelete = lane.deletes.containsKey(documentKey);
+        if (!bufferedUpsert && !bufferedDelete) {
+            return;
+        }
+        if (deduplicate) {
+            // Last write wins, the superseded operation is acknowledged together with this one
+            WriteOperation superseded = bufferedUpsert ? lane.upserts.remove(documentKey) : lane.deletes.remove(documentKey);
+            if (bufferedUpsert) {
+                // Buffered deletes do not count towards the size of the upsert batch
+                lane.upsertBytes -= superseded.getEstimatedBytes();
+            }
+            if (backpressure != null) {
+                backpressure.released(superseded.getEstimatedBytes(), 1);
+            }
+            operation.supersede(superseded);
+            elidedWrites.incrementAndGet();
+        } else if (bufferedUpsert) {
+            // The buffered operation has to reach Weaviate first, dispatching it orders this one after it
+            dispatchUpserts(lane);
+        } else {
+            dispatchDeletes(lane);
+        }
+    }
+
+    /**
+     * Number of writes dropped because a later operation on the same object superseded them.
+     */
+    public long elidedWrites() {
+        return elidedWrites.get();
+    }
+
+    /**
+     * Sends the buffered operations and waits for every outstanding batch to be acknowledged.
+     */
+    public void flush() {
+        dispatchBuffered();
+        awaitInFlight();
+    }
+
+    /**
+     * Sends the buffered operations, partial batches included, without waiting for them.
+     */
+    public void dispatchBuffered() {
+        for (Iterator<CollectionLane> iterator = lanes.values().iterator(); iterator.hasNext(); ) {
+            CollectionLane lane = iterator.next();
+            dispatchUpserts(lane);
+            dispatchDeletes(lane);
+            if (isIdleTenantLane(lane)) {
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Sends the partial batches buffered for at least {@code linger.ms}, the others keep filling up.
+     */
+    public void dispatchExpired() {
+        dispatchExpired(System.nanoTime());
+    }
+
+    void dispatchExpired(long nowNanos) {
+        for (Iterator<CollectionLane> iterator = lanes.values().iterator(); iterator.hasNext(); ) {
+            CollectionLane lane = iterator.next();
+            if (!lane.upserts.isEmpty() && nowNanos - lane.upsertsSinceNanos >= lingerNanos) {
+                dispatchUpserts(lane);
+            }
+            if (!lane.deletes.isEmpty() && nowNanos - lane.deletesSinceNanos >= lingerNanos) {
+                dispatchDeletes(lane);
+            }
+            if (isIdleTenantLane(lane)) {
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Whether the lane is the lane of a tenant with nothing buffered. It can be dropped, its batches
+     * in flight hold on to it and count against the limits of the collection lane, and a new lane is
+     * created by the next write to the tenant.
+     */
+    private static boolean isIdleTenantLane(CollectionLane lane) {
+        return lane.tenant != null && lane.upserts.isEmpty() && lane.deletes.isEmpty();
+    }
+
+    /**
+     * Number of lanes of collections and tenants kept.
+     */
+    int laneCount() {
+        return lanes.size();
+    }
+
+    /**
+     * Milliseconds until the next partial batch is due, or -1 when nothing is buffered.
+     */
+    public long lingerRemainingMs() {
+        long nowNanos = System.nanoTime();
+        long remainingNanos = -1;
+        for (CollectionLane lane : lanes.values()) {
+            if (!lane.upserts.isEmpty()) {
+                remainingNanos = earliest(remainingNanos, lane.upsertsSinceNanos + lingerNanos - nowNanos);
+            }
+            if (!lane.deletes.isEmpty()) {
+                remainingNanos = earliest(remainingNanos, lane.deletesSinceNanos + lingerNanos - nowNanos);
+            }
+        }
+        // Rounding up, waking up before the deadline would find nothing to send
+        return remainingNanos < 0 ? -1 : TimeUnit.NANOSECONDS.toMillis(remainingNanos + 999_999);
+    }
+
+    private static long earliest(long remainingNanos, long laneRemainingNanos) {
+        laneRemainingNanos = Math.max(0, laneRemainingNanos);
+        return remainingNanos < 0 ? laneRemainingNanos : Math.min(remainingNanos, laneRemainingNanos);
+    }
+
+    /**
+     * Waits for every outstanding batch to be acknowledged, without sending the buffered operations.
+     */
+    public void awaitInFlight() {
+        for (CompletableFuture<Void> batch : new ArrayList<>(inFlightBatches)) {
+            try {
+                batch.join();
+            } catch (CompletionException e) {
+                // Recorded in the failure reference by the completion callback
+            }
+        }
+        ensureHealthy();
+    }
+
+    /**
+     * Throws the first error raised by a batch sent in the background, if any.
+     */
+    public void ensureHealthy() {
+        Throwable error = failure.get();
+        if (error instanceof ConnectException) {
+            throw (ConnectException) error;
+        }
+        if (error != null) {
+            throw new ConnectException("Failed to write batch to Weaviate", error);
+        }
+    }
+
+    public int inFlightBatches() {
+        return inFlightBatches.size();
+    }
+
+    /**
+     * Tells when to pause consuming, null when backpressure is disabled.
+     */
+    public Backpressure backpressure() {
+        return backpressure;
+    }
+
+    @Override
+    public void close() {
+        try {
+            flush();
+        } finally {
+            executor.shutdown();
+            try {
+                if (!executor.awaitTermination(awaitTerminationMs, TimeUnit.MILLISECONDS)) {
+                    executor.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                executor.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void dispatchUpserts(CollectionLane lane) {
+        if (lane.upserts.isEmpty()) {
+            return;
+        }
+        List<WriteOperation> batch = new ArrayList<>(lane.upserts.values());
+        lane.upserts.clear();
+        lane.upsertBytes = 0;
+        dispatch(lane, batch, operations -> upsert(lane, operations));
+    }
+
+    private void dispatchDeletes(CollectionLane lane) {
+        if (lane.deletes.isEmpty()) {
+            return;
+        }
+        List<WriteOperation> batch = new ArrayList<>(lane.deletes.values());
+        lane.deletes.clear();
+        dispatch(lane, batch, operations -> delete(lane, operations));
+    }
+
+    private void dispatch(CollectionLane lane, List<WriteOperation> batch, Consumer<List<WriteOperation>> send) {
+        try {
+            lane.inFlight.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConnectException("Interrupted while waiting for an in-flight batch slot of " + lane.describe(), e);
+        }
+        try {
+            inFlight.acquire();
+        } catch (InterruptedException e) {
+            lane.inFlight.release();
+            Thread.currentThread().interrupt();
+            throw new ConnectException("Interrupted while waiting for an in-flight batch slot", e);
+        }
+        // Registering the batch before sending it, so that its completion always unregisters it
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        List<CompletableFuture<Void>> dependencies = new ArrayList<>();
+        for (WriteOperation operation : batch) {
+            String documentKey = documentKey(operation);
+            if (documentKey != null) {
+                CompletableFuture<Void> previous = inFlightDocuments.put(documentKey, done);
+                if (previous != null && previous != done) {
+                    dependencies.add(previous);
+                }
+            }
+        }
+        inFlightBatches.add(done);
+        done.whenComplete((ignored, error) -> {
+            for (WriteOperation operation : batch) {
+                String documentKey = documentKey(operation);
+                if (documentKey != null) {
+                    inFlightDocuments.remove(documentKey, done);
+                }
+            }
+            inFlightBatches.remove(done);
+            inFlight.release();
+            lane.inFlight.release();
+            if (error != null) {
+                failure.compareAndSet(null, error);
+            }
+        });
+
+        CompletableFuture<Void> ready = dependencies.isEmpty()
+                ? CompletableFuture.completedFuture(null)
+                : CompletableFuture.allOf(dependencies.toArray(new CompletableFuture<?>[0])).handle((ignored, error) -> null);
+        ready.thenRunAsync(() -> send.accept(batch), executor).whenComplete((ignored, error) -> {
+            // Released before completing the batch, so that it is no longer held once flush returns
+            if (backpressure != null) {
+                backpressure.released(estimatedBytes(batch), batch.size());
+            }
+            if (error == null) {
+                done.complete(null);
+            } else {
+                forgetPendingHashes(batch);
+                done.completeExceptionally(error instanceof CompletionException ? error.getCause() : error);
+            }
+        });
+    }
+
+    private void upsert(CollectionLane lane, List<WriteOperation> batch) {
+        ensureTenant(lane);
+        recordFirstAttempt(lane);
+        List<WriteOperation> pending = batch;
+        for (int attempt = 0; ; attempt++) {
+            List<WriteOperation> sent = pending;
+            Result<ObjectGetResponse[]> result = withRetries(lane, () -> send(lane, sent));
+            ObjectGetResponse[] responses = result == null ? null : result.getResult();
+            // Rejected objects come with per-object results, a request that failed as a whole does not
+            if (result != null && result.hasErrors() && responses == null) {
+                throw new ConnectException("Failed to write batch of " + pending.size() + " objects to Weaviate: " + describe(result.getError()));
+            }
+            Map<WriteOperation, String> failures = objectFailures(pending, responses);
+            recordRequestOutcome(failures.values().stream().anyMatch(Backpressure::isThrottling));
+            int upserted = 0;
+            for (WriteOperation operation : pending) {
+                if (!failures.containsKey(operation)) {
+                    upserted += complete(lane, operation);
+                }
+            }
+            lane.metrics.recordUpserted(upserted);
+            if (failures.isEmpty()) {
+                return;
+            }
+            if (attempt >= maxObjectRetries) {
+                reject(lane, failures);
+                return;
+            }
+            long backoffMs = backoff.delayMs(attempt);
+            log.warn("{} out of {} objects rejected by Weaviate for {}, sending them again in {} ms: {}",
+                    failures.size(), pending.size(), lane.describe(), backoffMs, failures.values().iterator().next());
+            awaitRetry(lane, attempt, backoffMs);
+            lane.metrics.recordRetried(failures.size());
+            pending = new ArrayList<>(failures.keySet());
+        }
+    }
+
+    private Result<ObjectGetResponse[]> send(CollectionLane lane, List<WriteOperation> batch) {
+        List<WeaviateObject> objects = new ArrayList<>(batch.size());
+        long bytes = 0;
+        for (WriteOperation operation : batch) {
+            objects.add(operation.toWeaviateObject());
+            bytes += operation.getEstimatedBytes();
+        }
+        long start = System.nanoTime();
+        Result<ObjectGetResponse[]> result;
+        try {
+            result = sender.upsert(objects);
+        } catch (RuntimeException e) {
+            if (lane.adaptiveBatchSize != null) {
+                lane.adaptiveBatchSize.onFailure();
+            }
+            throw e;
+        }
+        long latency = System.nanoTime() - start;
+        lane.metrics.recordUpsertBatch(batch.size(), bytes, latency);
+        if (lane.adaptiveBatchSize != null) {
+            if (result != null && result.hasErrors() && result.getResult() == null) {
+                lane.adaptiveBatchSize.onFailure();
+            } else {
+                lane.adaptiveBatchSize.onSuccess(batch.size(), latency);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Operations whose object was rejected, with the reason. Results are matched by position and,
+     * when the response does not hold one result per object, by ID.
+     */
+    static Map<WriteOperation, String> objectFailures(List<WriteOperation> batch, ObjectGetResponse[] responses) {
+        Map<WriteOperation, String> failures = new LinkedHashMap<>();
+        if (responses == null) {
+            return failures;
+        }
+        if (responses.length == batch.size()) {
+            for (int i = 0; i < responses.length; i++) {
+                String error = objectError(responses[i]);
+                if (error != null) {
+                    failures.put(batch.get(i), error);
+                }
+            }
+            return failures;
+        }
+        Map<String, String> errorsById = new HashMap<>();
+        for (ObjectGetResponse response : responses) {
+            String error = objectError(response);
+            if (error != null && response.getId() != null) {
+                errorsById.put(response.getId(), error);
+            }
+        }
+        for (WriteOperation operation : batch) {
+            String error = errorsById.get(operation.getDocumentId());
+            if (error != null) {
+                failures.put(operation, error);
+            }
+        }
+        return failures;
+    }
+
+    private static String objectError(ObjectGetResponse response) {
+        if (response == null || response.getResult() == null || response.getResult().getErrors() == null
+                || response.getResult().getErrors().getError() == null || response.getResult().getErrors().getError().isEmpty()) {
+            return null;
+        }
+        StringBuilder error = new StringBuilder();
+        for (ObjectsGetResponseAO2Result.ErrorItem item : response.getResult().getErrors().getError()) {
+            if (error.length() > 0) {
+                error.append(", ");
+            }
+            error.append(item.getMessage());
+        }
+        return error.toString();
+    }
+
+    private void reject(CollectionLane lane, Map<WriteOperation, String> failures) {
+        lane.metrics.recordRejected(failures.size());
+        if (contentHashCache != null) {
+            for (WriteOperation operation : failures.keySet()) {
+                if (operation.getDocumentId() != null) {
+                    contentHashCache.invalidate(documentKey(operation));
+                }
+            }
+        }
+        if (errantRecordReporter == null) {
+            throw new ConnectException("Failed to write " + failures.size() + " objects to " + lane.describe() + " after "
+                    + maxObjectRetries + " retries: " + failures.values().iterator().next());
+        }
+        for (Map.Entry<WriteOperation, String> failure : failures.entrySet()) {
+            ConnectException error = new ConnectException("Object rejected by Weaviate: " + failure.getValue());
+            // Connect waits for reported records to be written before committing their offsets
+            for (SinkRecord record : failure.getKey().getRecords()) {
+                errantRecordReporter.report(record, error);
+            }
+            for (SinkRecord record : failure.getKey().getRecords()) {
+                offsetTracker.complete(record);
+            }
+        }
+    }
+
+    private void delete(CollectionLane lane, List<WriteOperation> batch) {
+        String collection = lane.describe();
+        List<String> documentIds = new ArrayList<>(batch.size());
+        for (WriteOperation operation : batch) {
+            documentIds.add(operation.getDocumentId());
+        }
+        ensureTenant(lane);
+        recordFirstAttempt(lane);
+        Result<BatchDeleteResponse> result = withRetries(lane, () -> {
+            long start = System.nanoTime();
+            Result<BatchDeleteResponse> attempt = sender.delete(lane.collection, lane.tenant, documentIds);
+            lane.metrics.recordDeleteBatch(batch.size(), System.nanoTime() - start);
+            return attempt;
+        });
+        if (result != null && result.hasErrors()) {
+            throw new ConnectException("Failed to delete batch of " + batch.size() + " objects from " + collection + ": " + describe(result.getError()));
+        }
+        recordRequestOutcome(false);
+        // Deleting objects that do not exist is not an error for a sink, they are simply not matched
+        if (result != null && result.getResult() != null && result.getResult().getResults() != null) {
+            Long failed = result.getResult().getResults().getFailed();
+            if (failed != null && failed > 0) {
+                throw new ConnectException("Failed to delete " + failed + " out of " + batch.size() + " objects from " + collection);
+            }
+        }
+        int deleted = 0;
+        for (WriteOperation operation : batch) {
+            deleted += complete(lane, operation);
+        }
+        lane.metrics.recordDeleted(deleted);
+    }
+
+    /**
+     * Forgets the content hashes of a batch that failed, its writes will never be acknowledged.
+     */
+    private void forgetPendingHashes(List<WriteOperation> batch) {
+        if (contentHashCache == null) {
+            return;
+        }
+        for (WriteOperation operation : batch) {
+            if (!operation.isDelete() && operation.getDocumentId() != null) {
+                contentHashCache.failed(documentKey(operation), operation.getContentHash());
+            }
+        }
+    }
+
+    /**
+     * Creates or activates the tenant of the lane unless it is known to exist already.
+     */
+    private void ensureTenant(CollectionLane lane) {
+        if (knownTenants == null || lane.tenant == null) {
+            return;
+        }
+        String key = lane.collection + "/" + lane.tenant;
+        synchronized (knownTenants) {
+            if (knownTenants.get(key) != null) {
+                return;
+            }
+        }
+        // Concurrent batches of a new tenant may both activate it, which is harmless
+        sender.activateTenant(lane.collection, lane.tenant);
+        synchronized (knownTenants) {
+            knownTenants.put(key, Boolean.TRUE);
+        }
+    }
+
+    /**
+     * Marks the records of an acknowledged operation as completed, returning how many there were.
+     */
+    private int complete(CollectionLane lane, WriteOperation operation) {
+        if (contentHashCache != null && !operation.isDelete() && operation.getDocumentId() != null) {
+            contentHashCache.acknowledged(documentKey(operation), operation.getContentHash());
+        }
+        long now = System.currentTimeMillis();
+        List<SinkRecord> records = operation.getRecords();
+        for (SinkRecord record : records) {
+            offsetTracker.complete(record);
+            lane.metrics.recordAcknowledged(record.timestamp(), now);
+        }
+        return records.size();
+    }
+
+    /**
+     * Sends a request, sending it again while it fails as a whole for a transient reason and
+     * retries are left. Returns the last result, which may be an error.
+     */
+    private <T> Result<T> withRetries(CollectionLane lane, Supplier<Result<T>> request) {
+        for (int attempt = 0; ; attempt++) {
+            awaitClosedCircuit();
+            Result<T> result;
+            try {
+                result = request.get();
+            } catch (RuntimeException e) {
+                onTransientFailure();
+                recordRequestOutcome(Backpressure.isThrottling(e.getMessage()));
+                throw e;
+            }
+            WeaviateError error = result != null && result.hasErrors() && result.getResult() == null ? result.getError() : null;
+            boolean connectionError = isConnectionError(error);
+            boolean throttled = Backpressure.isThrottling(error);
+            if (!connectionError && !throttled) {
+                // Answered by Weaviate, whether successfully or not
+                circuitBreaker.onSuccess();
+                if (error != null) {
+                    recordRequestOutcome(false);
+                }
+                return result;
+            }
+            onTransientFailure();
+            recordRequestOutcome(throttled);
+            if (attempt >= (connectionError ? maxConnectionRetries : maxTimeoutRetries)) {
+                return result;
+            }
+            long backoffMs = backoff.delayMs(attempt);
+            log.warn("Request to Weaviate for {} failed, sending it again in {} ms: {}", lane.describe(), backoffMs, describe(error));
+            awaitRetry(lane, attempt, backoffMs);
+        }
+    }
+
+    private void onTransientFailure() {
+        if (circuitBreaker.onFailure()) {
+            metrics.recordCircuitBreakerOpened();
+            log.warn("Circuit to Weaviate opened after {} consecutive failed requests, sending no request for {} ms",
+                    config.getCircuitBreakerFailureThreshold(), config.getCircuitBreakerOpenMs());
+        }
+    }
+
+    private void awaitClosedCircuit() {
+        try {
+            circuitBreaker.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConnectException("Interrupted while waiting for the circuit to Weaviate to close", e);
+        }
+    }
+
+    /**
+     * Waits {@code backoffMs}, then until the retry budgets of the writer and of the lane allow one
+     * more retry.
+     */
+    private void awaitRetry(CollectionLane lane, int attempt, long backoffMs) {
+        sleep(backoffMs);
+        while (!tryRetry(lane)) {
+            lane.metrics.recordRetryDeferred();
+            sleep(backoff.delayMs(attempt));
+        }
+        lane.metrics.recordRequestRetried();
+    }
+
+    private boolean tryRetry(CollectionLane lane) {
+        long nowNanos = System.nanoTime();
+        synchronized (retryBudget) {
+            if (!retryBudget.canRetry(nowNanos) || !lane.retryBudget.canRetry(nowNanos)) {
+                return false;
+            }
+            retryBudget.recordRetry(nowNanos);
+            lane.retryBudget.recordRetry(nowNanos);
+            return true;
+        }
+    }
+
+    private void recordFirstAttempt(CollectionLane lane) {
+        long nowNanos = System.nanoTime();
+        retryBudget.recordRequest(nowNanos);
+        lane.retryBudget.recordRequest(nowNanos);
+    }
+
+    private static void sleep(long ms) {
+        try {
+            Thread.sleep(ms);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConnectException("Interrupted while waiting to send a request to Weaviate again", e);
+        }
+    }
+
+    private void recordRequestOutcome(boolean throttled) {
+        if (backpressure != null) {
+            backpressure.recordRequest(throttled);
+        }
+    }
+
+    /**
+     * Whether a request failed because Weaviate could not be reached at all.
+     */
+    static boolean isConnectionError(WeaviateError error) {
+        if (error == null || error.getMessages() == null) {
+            return false;
+        }
+        for (WeaviateErrorMessage message : error.getMessages()) {
+            Throwable throwable = message.getThrowable();
+            if (throwable instanceof java.net.ConnectException || throwable instanceof java.net.UnknownHostException
+                    || (throwable instanceof StatusRuntimeException && ((StatusRuntimeException) throwable).getStatus().getCode() == Status.Code.UNAVAILABLE)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static long estimatedBytes(List<WriteOperation> batch) {
+        long bytes = 0;
+        for (WriteOperation operation : batch) {
+            bytes += operation.getEstimatedBytes();
+        }
+        return bytes;
+    }
+
+    private static String documentKey(WriteOperation operation) {
+        if (operation.getDocumentId() == null) {
+            return null;
+        }
+        if (operation.getTenant() != null) {
+            return operation.getCollection() + "/" + operation.getTenant() + "/" + operation.getDocumentId();
+        }
+        return operation.getCollection() + "/" + operation.getDocumentId();
+    }
+
+    static String describe(WeaviateError error) {
+        if (error == null) {
+            return "unknown error";
+        }
+        StringBuilder description = new StringBuilder("status ").append(error.getStatusCode());
+        if (error.getMessages() != null) {
+            error.getMessages().forEach(message -> description.append(", ").append(message.getMessage()));
+        }
+        return description.toString();
+    }
+}
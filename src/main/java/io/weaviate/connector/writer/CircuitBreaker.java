@@ -0,0 +1,94 @@
+/*
+ * Copyright © 2025 Weaviate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.weaviate.connector.writer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Stops sending requests to Weaviate after {@code failureThreshold} consecutive requests failed
+ * for a transient reason. The circuit then stays open for {@code openMs}, requests waiting instead
+ * of being sent, before a single probe request is let through. The circuit closes if the probe
+ * succeeds and opens again otherwise.
+ * <p>
+ * Requests answered by Weaviate, even with an error, count as successes: Weaviate is reachable.
+ */
+class CircuitBreaker {
+    enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openNanos;
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openUntilNanos;
+
+    /**
+     * @param failureThreshold consecutive failures opening the circuit, 0 to never open it
+     */
+    CircuitBreaker(int failureThreshold, long openMs) {
+        this.failureThreshold = failureThreshold;
+        this.openNanos = TimeUnit.MILLISECONDS.toNanos(openMs);
+    }
+
+    /**
+     * Waits until a request may be sent, the caller being the probe when the circuit was open.
+     */
+    synchronized void acquire() throws InterruptedException {
+        while (true) {
+            if (state == State.CLOSED) {
+                return;
+            }
+            if (state == State.OPEN) {
+                long remainingNanos = openUntilNanos - System.nanoTime();
+                if (remainingNanos <= 0) {
+                    state = State.HALF_OPEN;
+                    return;
+                }
+                TimeUnit.NANOSECONDS.timedWait(this, remainingNanos);
+            } else {
+                // A probe is in flight, its outcome decides for the others
+                wait();
+            }
+        }
+    }
+
+    synchronized void onSuccess() {
+        consecutiveFailures = 0;
+        if (state != State.CLOSED) {
+            state = State.CLOSED;
+            notifyAll();
+        }
+    }
+
+    /**
+     * Records a request that failed for a transient reason, returning whether it opened the circuit.
+     */
+    synchronized boolean onFailure() {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || (state == State.CLOSED && failureThreshold > 0 && consecutiveFailures >= failureThreshold)) {
+            state = State.OPEN;
+            openUntilNanos = System.nanoTime() + openNanos;
+            notifyAll();
+            return true;
+        }
+        return false;
+    }
+
+    synchronized State state() {
+        return state;
+    }
+}
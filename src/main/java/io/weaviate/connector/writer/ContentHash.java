@@ -0,0 +1,123 @@
+/*
+ * Copyright © 2025 Weaviate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.weaviate.connector.writer;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+
+/**
+ * 64-bit hash of the content of an object, its properties and vector, used to recognize objects
+ * written again unchanged. Entries of maps are combined independently of their order, so the
+ * iteration order of the converted properties does not matter. No allocation is made.
+ */
+final class ContentHash {
+    private static final long SEED = 0x9e3779b97f4a7c15L;
+    private static final long NULL_HASH = 0x2545f4914f6cdd1dL;
+
+    private ContentHash() {
+    }
+
+    static long of(Map<String, Object> properties, float[] vector) {
+        long hash = mix(hashValue(properties));
+        if (vector != null) {
+            long vectorHash = SEED ^ vector.length;
+            for (float value : vector) {
+                vectorHash = vectorHash * 31 + Float.floatToIntBits(value);
+            }
+            hash = mix(hash * 31 + mix(vectorHash));
+        }
+        return hash;
+    }
+
+    static long of(Map<String, Object> properties, Float[] vector) {
+        if (vector == null) {
+            return of(properties, (float[]) null);
+        }
+        float[] unboxed = new float[vector.length];
+        for (int i = 0; i < vector.length; i++) {
+            unboxed[i] = vector[i];
+        }
+        return of(properties, unboxed);
+    }
+
+    private static long hashValue(Object value) {
+        if (value == null) {
+            return NULL_HASH;
+        }
+        if (value instanceof CharSequence) {
+            CharSequence chars = (CharSequence) value;
+            long hash = 1;
+            for (int i = 0; i < chars.length(); i++) {
+                hash = hash * 31 + chars.charAt(i);
+            }
+            return mix(hash ^ chars.length()) + 1;
+        }
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return mix(((Number) value).longValue()) + 2;
+        }
+        if (value instanceof Double || value instanceof Float) {
+            return mix(Double.doubleToLongBits(((Number) value).doubleValue())) + 3;
+        }
+        if (value instanceof Boolean) {
+            return (Boolean) value ? 4 : 5;
+        }
+        if (value instanceof byte[]) {
+            byte[] bytes = (byte[]) value;
+            long hash = 1;
+            for (byte b : bytes) {
+                hash = hash * 31 + b;
+            }
+            return mix(hash ^ bytes.length) + 6;
+        }
+        if (value instanceof ByteBuffer) {
+            ByteBuffer bytes = (ByteBuffer) value;
+            long hash = 1;
+            for (int i = bytes.position(); i < bytes.limit(); i++) {
+                hash = hash * 31 + bytes.get(i);
+            }
+            return mix(hash ^ bytes.remaining()) + 6;
+        }
+        if (value instanceof Map) {
+            long hash = 0;
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                // Summing entry hashes makes the result independent of the iteration order
+                hash += mix(hashValue(entry.getKey()) * 31 + hashValue(entry.getValue()));
+            }
+            return mix(hash ^ ((Map<?, ?>) value).size()) + 7;
+        }
+        if (value instanceof Iterable) {
+            long hash = 1;
+            for (Object element : (Iterable<?>) value) {
+                hash = hash * 31 + hashValue(element);
+            }
+            return mix(hash) + 8;
+        }
+        if (value instanceof float[]) {
+            return of(null, (float[]) value) + 9;
+        }
+        return mix(value.hashCode()) + 10;
+    }
+
+    /**
+     * Finalizer of SplitMix64, spreading every input bit over the whole hash.
+     */
+    private static long mix(long value) {
+        long z = value + SEED;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright © 2025 Weaviate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.weaviate.connector.writer;
+
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Bounded, least recently used map from document to the {@link ContentHash} of its last write,
+ * used to skip writing objects again unchanged. The hash of a write is pending until Weaviate
+ * acknowledged it and only acknowledged hashes are persisted. A pending hash takes precedence, so
+ * a record is only skipped when it matches the latest write of its document. Deleted and rejected
+ * documents are forgotten, as are the pending hashes of writes that failed.
+ * <p>
+ * Hashes are kept with the partition of the record written, another task may write the documents
+ * of a partition once it is revoked, so its hashes are dropped by {@link #revoke}. A saved cache
+ * is only restored when the task is assigned the same partitions it had when saving.
+ */
+public class ContentHashCache {
+    private static final Logger log = LoggerFactory.getLogger(ContentHashCache.class);
+    private static final int FILE_FORMAT_VERSION = 2;
+
+    private static final class CachedHash {
+        final long hash;
+        final TopicPartition partition;
+
+        CachedHash(long hash, TopicPartition partition) {
+            this.hash = hash;
+            this.partition = partition;
+        }
+    }
+
+    private final int maxEntries;
+    private final Map<String, CachedHash> acknowledged;
+    private final Map<String, CachedHash> pending = new HashMap<>();
+    // One instance per partition, shared by its entries
+    private final Map<TopicPartition, TopicPartition> partitions = new HashMap<>();
+    // Loaded hashes waiting for the first assignment, and the assignment they were saved with
+    private Map<String, CachedHash> loaded;
+    private Set<TopicPartition> loadedAssignment;
+
+    public ContentHashCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+        this.acknowledged = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedHash> eldest) {
+                return size() > ContentHashCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Whether {@code hash} is the content of the latest write of the document.
+     */
+    synchronized boolean isUnchanged(String documentKey, long hash) {
+        CachedHash latest = pending.get(documentKey);
+        if (latest == null) {
+            latest = acknowledged.get(documentKey);
+        }
+        return latest != null && latest.hash == hash;
+    }
+
+    synchronized void written(String documentKey, TopicPartition partition, long hash) {
+        pending.put(documentKey, new CachedHash(hash, partitions.computeIfAbsent(partition, key -> key)));
+    }
+
+    synchronized void acknowledged(String documentKey, long hash) {
+        // Only the latest write is remembered, an earlier one acknowledged late must not override it
+        CachedHash latest = pending.get(documentKey);
+        if (latest != null && latest.hash == hash) {
+            pending.remove(documentKey);
+            acknowledged.put(documentKey, latest);
+        }
+    }
+
+    /**
+     * Forgets the pending hash of a write that will not be acknowledged, unless a later write replaced it.
+     */
+    synchronized void failed(String documentKey, long hash) {
+        CachedHash latest = pending.get(documentKey);
+        if (latest != null && latest.hash == hash) {
+            pending.remove(documentKey);
+        }
+    }
+
+    synchronized void invalidate(String documentKey) {
+        pending.remove(documentKey);
+        acknowledged.remove(documentKey);
+    }
+
+    /**
+     * Forgets the hashes of the documents written from revoked partitions.
+     */
+    public synchronized void revoke(Collection<TopicPartition> revoked) {
+        Set<TopicPartition> revokedPartitions = new HashSet<>(revoked);
+        pending.values().removeIf(entry -> revokedPartitions.contains(entry.partition));
+        acknowledged.values().removeIf(entry -> revokedPartitions.contains(entry.partition));
+        partitions.keySet().removeAll(revokedPartitions);
+    }
+
+    /**
+     * Restores the hashes of {@link #load} on the first assignment, when the task was assigned the
+     * same partitions when they were saved. Other tasks may have written them in the meantime otherwise.
+     */
+    public synchronized void assigned(Collection<TopicPartition> assignment) {
+        if (loaded == null) {
+            return;
+        }
+        if (loadedAssignment.equals(new HashSet<>(assignment))) {
+            for (Map.Entry<String, CachedHash> entry : loaded.entrySet()) {
+                CachedHash restored = entry.getValue();
+                acknowledged.put(entry.getKey(), new CachedHash(restored.hash, partitions.computeIfAbsent(restored.partition, key -> key)));
+            }
+            log.info("Restored {} content hashes", loaded.size());
+        } else {
+            log.info("Not restoring {} content hashes saved with partitions {}, the task is assigned {}",
+                    loaded.size(), loadedAssignment, assignment);
+        }
+        loaded = null;
+        loadedAssignment = null;
+    }
+
+    public synchronized int size() {
+        return acknowledged.size();
+    }
+
+    synchronized int pendingSize() {
+        return pending.size();
+    }
+
+    /**
+     * Loads the acknowledged hashes saved by {@link #save}, if the file exists. They are restored by
+     * {@link #assigned} once the partitions of the task are known.
+     */
+    public synchronized void load(Path file) {
+        if (!Files.exists(file)) {
+            return;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != FILE_FORMAT_VERSION) {
+                log.warn("Ignoring content hash cache {} written in an unknown format", file);
+                return;
+            }
+            Set<TopicPartition> assignment = new HashSet<>();
+            int assignmentSize = in.readInt();
+            for (int i = 0; i < assignmentSize; i++) {
+                assignment.add(new TopicPartition(in.readUTF(), in.readInt()));
+            }
+            Map<String, CachedHash> entries = new LinkedHashMap<>();
+            int entryCount = in.readInt();
+            for (int i = 0; i < entryCount; i++) {
+                String documentKey = in.readUTF();
+                TopicPartition partition = new TopicPartition(in.readUTF(), in.readInt());
+                entries.put(documentKey, new CachedHash(in.readLong(), partition));
+            }
+            loaded = entries;
+            loadedAssignment = assignment;
+            log.info("Loaded {} content hashes from {}", entries.size(), file);
+        } catch (IOException e) {
+            log.warn("Failed to load content hash cache from {}, starting empty", file, e);
+        }
+    }
+
+    /**
+     * Writes the acknowledged hashes to {@code file} with the partitions assigned to the task,
+     * replacing it atomically, least recently used first.
+     */
+    public synchronized void save(Path file, Collection<TopicPartition> assignment) {
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+                out.writeInt(FILE_FORMAT_VERSION);
+                out.writeInt(assignment.size());
+                for (TopicPartition partition : assignment) {
+                    out.writeUTF(partition.topic());
+                    out.writeInt(partition.partition());
+                }
+                out.writeInt(acknowledged.size());
+                for (Map.Entry<String, CachedHash> entry : acknowledged.entrySet()) {
+                    out.writeUTF(entry.getKey());
+                    out.writeUTF(entry.getValue().partition.topic());
+                    out.writeInt(entry.getValue().partition.partition());
+                    out.writeLong(entry.getValue().hash);
+                }
+            }
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("Failed to save content hash cache to {}", file, e);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright © 2025 Weaviate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.weaviate.connector.writer;
+
+import io.weaviate.client.v1.data.model.WeaviateObject;
+
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Rough estimate of the serialized size of an object in a batch request: UTF-8 bytes of strings,
+ * raw size of numbers, bytes and vectors, and a few bytes of framing per value. It is meant to
+ * bound request sizes, not to match the encoder byte for byte.
+ */
+final class ObjectSizeEstimator {
+    // Tag and length prefix of a field
+    private static final int FIELD_OVERHEAD = 4;
+    // ID, collection name and framing of the object itself
+    private static final int OBJECT_OVERHEAD = 64;
+
+    private ObjectSizeEstimator() {
+    }
+
+    static long estimate(WeaviateObject object, float[] vector) {
+        long size = OBJECT_OVERHEAD;
+        if (object.getProperties() != null) {
+            size += estimateValue(object.getProperties());
+        }
+        if (vector != null) {
+            size += FIELD_OVERHEAD + (long) vector.length * Float.BYTES;
+        } else if (object.getVector() != null) {
+            size += FIELD_OVERHEAD + (long) object.getVector().length * Float.BYTES;
+        }
+        return size;
+    }
+
+    private static long estimateValue(Object value) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof CharSequence) {
+            return FIELD_OVERHEAD + utf8Length((CharSequence) value);
+        }
+        if (value instanceof Map) {
+            long size = FIELD_OVERHEAD;
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                size += utf8Length(String.valueOf(entry.getKey())) + estimateValue(entry.getValue());
+            }
+            return size;
+        }
+        if (value instanceof Collection) {
+            long size = FIELD_OVERHEAD;
+            for (Object element : (Collection<?>) value) {
+                size += estimateValue(element);
+            }
+            return size;
+        }
+        if (value instanceof byte[]) {
+            // Sent base64 encoded
+            return FIELD_OVERHEAD + (((byte[]) value).length + 2L) / 3 * 4;
+        }
+        if (value instanceof ByteBuffer) {
+            return FIELD_OVERHEAD + (((ByteBuffer) value).remaining() + 2L) / 3 * 4;
+        }
+        if (value instanceof Boolean) {
+            return FIELD_OVERHEAD + 1;
+        }
+        // Numbers and anything else serialized as a scalar
+        return FIELD_OVERHEAD + Long.BYTES;
+    }
+
+    private static long utf8Length(CharSequence value) {
+        long length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isSurrogate(c)) {
+                // A surrogate pair encodes to 4 bytes, counting 2 for each half
+                length += 2;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+}
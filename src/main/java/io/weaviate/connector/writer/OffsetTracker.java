@@ -0,0 +1,119 @@
+/*
+ * Copyright © 2025 Weaviate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.weaviate.connector.writer;
+
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.connect.sink.SinkRecord;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Keeps track of the records handed to the writer that are not yet acknowledged by Weaviate, so that
+ * only offsets below the oldest pending record of each partition are committed.
+ * <p>
+ * {@link #track(SinkRecord)} and {@link #committableOffsets()} are called from the task thread,
+ * {@link #complete(SinkRecord)} may be called from any thread.
+ */
+public class OffsetTracker {
+    // SinkRecord#originalTopic() and its siblings exist from Connect 3.6 on
+    private static final boolean ORIGINAL_COORDINATES = hasOriginalCoordinates();
+
+    private final Map<TopicPartition, PartitionOffsets> partitions = new ConcurrentHashMap<>();
+
+    public void track(SinkRecord record) {
+        partitions.computeIfAbsent(topicPartition(record), tp -> new PartitionOffsets())
+                .track(offset(record));
+    }
+
+    public void complete(SinkRecord record) {
+        PartitionOffsets offsets = partitions.get(topicPartition(record));
+        if (offsets != null) {
+            offsets.pending.remove(offset(record));
+        }
+    }
+
+    /**
+     * Tracks a record that needs no write, such as a skipped tombstone, as completed right away.
+     */
+    public void skip(SinkRecord record) {
+        track(record);
+        complete(record);
+    }
+
+    public Map<TopicPartition, OffsetAndMetadata> committableOffsets() {
+        HashMap<TopicPartition, OffsetAndMetadata> committable = new HashMap<>(partitions.size());
+        for (Map.Entry<TopicPartition, PartitionOffsets> entry : partitions.entrySet()) {
+            committable.put(entry.getKey(), new OffsetAndMetadata(entry.getValue().committableOffset()));
+        }
+        return committable;
+    }
+
+    public int pendingRecords() {
+        int pending = 0;
+        for (PartitionOffsets offsets : partitions.values()) {
+            pending += offsets.pending.size();
+        }
+        return pending;
+    }
+
+    public void remove(Collection<TopicPartition> topicPartitions) {
+        for (TopicPartition topicPartition : topicPartitions) {
+            partitions.remove(topicPartition);
+        }
+    }
+
+    static TopicPartition topicPartition(SinkRecord record) {
+        if (ORIGINAL_COORDINATES) {
+            return new TopicPartition(record.originalTopic(), record.originalKafkaPartition());
+        }
+        return new TopicPartition(record.topic(), record.kafkaPartition());
+    }
+
+    private static long offset(SinkRecord record) {
+        return ORIGINAL_COORDINATES ? record.originalKafkaOffset() : record.kafkaOffset();
+    }
+
+    private static boolean hasOriginalCoordinates() {
+        try {
+            SinkRecord.class.getMethod("originalTopic");
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private static class PartitionOffsets {
+        private final ConcurrentSkipListSet<Long> pending = new ConcurrentSkipListSet<>();
+        private volatile long highestTracked = -1;
+
+        private void track(long offset) {
+            pending.add(offset);
+            if (offset > highestTracked) {
+                highestTracked = offset;
+            }
+        }
+
+        private long committableOffset() {
+            Long oldestPending = pending.ceiling(Long.MIN_VALUE);
+            return oldestPending != null ? oldestPending : highestTracked + 1;
+        }
+    }
+}
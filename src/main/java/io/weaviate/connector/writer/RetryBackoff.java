@@ -0,0 +1,41 @@
+/*
+ * Copyright © 2025 Weaviate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.weaviate.connector.writer;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Exponential backoff with jitter. The delay doubles with each attempt from {@code initialMs} up to
+ * {@code maxMs}, and a random delay between half and the whole of it is picked, so that tasks
+ * failing at the same time do not retry in lock-step.
+ */
+class RetryBackoff {
+    private final long initialMs;
+    private final long maxMs;
+
+    RetryBackoff(long initialMs, long maxMs) {
+        this.initialMs = Math.max(1, initialMs);
+        this.maxMs = Math.max(this.initialMs, maxMs);
+    }
+
+    /**
+     * Delay before sending again a request that failed {@code attempt + 1} times.
+     */
+    long delayMs(int attempt) {
+        long delayMs = Math.min(maxMs, initialMs << Math.min(attempt, 30));
+        return delayMs - ThreadLocalRandom.current().nextLong(delayMs / 2 + 1);
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright © 2025 Weaviate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.weaviate.connector.writer;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounds retries to a fraction of the requests sent over a sliding window, on top of a minimum
+ * number of retries always allowed. Once the budget is spent, retrying adds load to a cluster that
+ * is already failing, so further retries wait for new requests to go through or for older retries
+ * to leave the window.
+ * <p>
+ * The window is split into {@value #BUCKETS} buckets, the oldest one being dropped as time goes.
+ */
+class RetryBudget {
+    static final int BUCKETS = 10;
+
+    private final double ratio;
+    private final int minRetries;
+    private final long bucketNanos;
+    private final long[] bucketIds = new long[BUCKETS];
+    private final long[] requests = new long[BUCKETS];
+    private final long[] retries = new long[BUCKETS];
+
+    /**
+     * @param ratio      retries allowed per request sent in the window
+     * @param minRetries retries allowed in the window whatever the number of requests
+     */
+    RetryBudget(double ratio, int minRetries, long windowMs) {
+        this.ratio = ratio;
+        this.minRetries = minRetries;
+        this.bucketNanos = Math.max(1, TimeUnit.MILLISECONDS.toNanos(windowMs) / BUCKETS);
+        Arrays.fill(bucketIds, Long.MIN_VALUE);
+    }
+
+    synchronized void recordRequest(long nowNanos) {
+        requests[bucket(nowNanos)]++;
+    }
+
+    synchronized boolean canRetry(long nowNanos) {
+        long currentId = Math.floorDiv(nowNanos, bucketNanos);
+        long windowRequests = 0;
+        long windowRetries = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            if (bucketIds[i] > currentId - BUCKETS) {
+                windowRequests += requests[i];
+                windowRetries += retries[i];
+            }
+        }
+        return windowRetries < minRetries + ratio * windowRequests;
+    }
+
+    synchronized void recordRetry(long nowNanos) {
+        retries[bucket(nowNanos)]++;
+    }
+
+    private int bucket(long nowNanos) {
+        long id = Math.floorDiv(nowNanos, bucketNanos);
+        int index = (int) Math.floorMod(id, (long) BUCKETS);
+        if (bucketIds[index] != id) {
+            bucketIds[index] = id;
+            requests[index] = 0;
+            retries[index] = 0;
+        }
+        return index;
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright © 2025 Weaviate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.weaviate.connector.writer;
+
+import io.grpc.StatusRuntimeException;
+import io.weaviate.client.WeaviateClient;
+import io.weaviate.client.base.Result;
+import io.weaviate.client.base.WeaviateErrorMessage;
+import io.weaviate.client.base.WeaviateErrorResponse;
+import io.weaviate.client.grpc.protocol.v1.WeaviateProtoBase;
+import io.weaviate.client.grpc.protocol.v1.WeaviateProtoBatch;
+import io.weaviate.client.v1.batch.api.ObjectsBatcher;
+import io.weaviate.client.v1.batch.model.BatchDeleteResponse;
+import io.weaviate.client.v1.batch.model.ObjectGetResponse;
+import io.weaviate.client.v1.data.model.WeaviateObject;
+import io.weaviate.client.v1.filters.Operator;
+import io.weaviate.client.v1.filters.WhereFilter;
+import io.weaviate.client.v1.schema.model.ActivityStatus;
+import io.weaviate.client.v1.schema.model.Tenant;
+import io.weaviate.connector.WeaviateSinkConfig;
+import io.weaviate.connector.client.SharedWeaviateClient;
+import org.apache.kafka.connect.errors.ConnectException;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Sends each batch in a single request. Failed requests are returned as is rather than retried,
+ * {@link BatchWriter} retries them with backoff, within its retry budget and circuit breaker.
+ */
+public class WeaviateBatchSender implements BatchSender {
+    private final WeaviateClient client;
+    private final SharedWeaviateClient sharedClient;
+    private final ObjectsBatcher.BatchRetriesConfig retriesConfig;
+    private final String consistencyLevel;
+
+    public WeaviateBatchSender(WeaviateClient client, WeaviateSinkConfig config) {
+        this(client, null, config);
+    }
+
+    /**
+     * Sends upserts over the gRPC channels of {@code sharedClient} when it has some, instead of
+     * letting the client open a channel per batch.
+     */
+    public WeaviateBatchSender(SharedWeaviateClient sharedClient, WeaviateSinkConfig config) {
+        this(sharedClient.client(), sharedClient.usesGrpc() ? sharedClient : null, config);
+    }
+
+    private WeaviateBatchSender(WeaviateClient client, SharedWeaviateClient sharedClient, WeaviateSinkConfig config) {
+        this.client = client;
+        this.sharedClient = sharedClient;
+        this.retriesConfig = ObjectsBatcher.BatchRetriesConfig.builder()
+                .maxConnectionRetries(0)
+                .maxTimeoutRetries(0)
+                .retriesIntervalMs(config.getRetryInterval())
+                .build();
+        this.consistencyLevel = config.getConsistencyLevel().name();
+    }
+
+    @Override
+    public Result<ObjectGetResponse[]> upsert(List<WeaviateObject> objects) {
+        if (sharedClient != null) {
+            return grpcUpsert(objects);
+        }
+        // A non-auto batcher runs the request on the calling thread, BatchWriter owns the concurrency
+        return client.batch().objectsBatcher(retriesConfig)
+                .withObjects(objects.toArray(new WeaviateObject[0]))
+                .withConsistencyLevel(consistencyLevel)
+                .run();
+    }
+
+    @Override
+    public Result<BatchDeleteResponse> delete(String collection, String tenant, List<String> documentIds) {
+        return client.batch().objectsBatchDeleter()
+                .withClassName(collection)
+                .withTenant(tenant)
+                .withWhere(WhereFilter.builder()
+                        .path("id")
+                        .operator(Operator.ContainsAny)
+                        .valueText(documentIds.toArray(new String[0]))
+                        .build())
+                .withConsistencyLevel(consistencyLevel)
+                .withOutput("minimal")
+                .run();
+    }
+
+    @Override
+    public void activateTenant(String collection, String tenant) {
+        Tenant activeTenant = Tenant.builder().name(tenant).activityStatus(ActivityStatus.ACTIVE).build();
+        Result<Boolean> created = client.schema().tenantsCreator()
+                .withClassName(collection)
+                .withTenants(activeTenant)
+                .run();
+        if (!created.hasErrors()) {
+            return;
+        }
+        // Most likely existing already, possibly inactive
+        Result<Boolean> updated = client.schema().tenantsUpdater()
+                .withClassName(collection)
+                .withTenants(activeTenant)
+                .run();
+        if (updated.hasErrors()) {
+            throw new ConnectException("Failed to create or activate tenant " + tenant + " of " + collection + ": "
+                    + BatchWriter.describe(created.getError()) + ", then " + BatchWriter.describe(updated.getError()));
+        }
+    }
+
+    /**
+     * Same request and result as the gRPC path of the client batcher, over a shared channel.
+     */
+    private Result<ObjectGetResponse[]> grpcUpsert(List<WeaviateObject> objects) {
+        WeaviateProtoBatch.BatchObjectsRequest.Builder request = WeaviateProtoBatch.BatchObjectsRequest.newBuilder();
+        for (WeaviateObject object : objects) {
+            if (object.getId() == null) {
+                object.setId(UUID.randomUUID().toString());
+            }
+            request.addObjects(sharedClient.batchObjectConverter().toBatchObject(object));
+        }
+        request.setConsistencyLevel(grpcConsistencyLevel());
+        try {
+            return ObjectsBatcher.resultFromBatchObjectsReply(sharedClient.batchObjects(request.build()), objects);
+        } catch (StatusRuntimeException e) {
+            return new Result<>(0, null, WeaviateErrorResponse.builder()
+                    .code(0)
+                    .message(e.getMessage())
+                    .error(Collections.singletonList(WeaviateErrorMessage.builder().message(e.getMessage()).throwable(e).build()))
+                    .build());
+        }
+    }
+
+    private WeaviateProtoBase.ConsistencyLevel grpcConsistencyLevel() {
+        switch (consistencyLevel) {
+            case "ALL":
+                return WeaviateProtoBase.ConsistencyLevel.CONSISTENCY_LEVEL_ALL;
+            case "QUORUM":
+                return WeaviateProtoBase.ConsistencyLevel.CONSISTENCY_LEVEL_QUORUM;
+            default:
+                return WeaviateProtoBase.ConsistencyLevel.CONSISTENCY_LEVEL_ONE;
+        }
+    }
+}
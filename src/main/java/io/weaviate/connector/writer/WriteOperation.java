@@ -0,0 +1,155 @@
+/*
+ * Copyright © 2025 Weaviate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.weaviate.connector.writer;
+
+import io.weaviate.client.v1.data.model.WeaviateObject;
+import org.apache.kafka.connect.sink.SinkRecord;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class WriteOperation {
+    private final SinkRecord record;
+    private final String collection;
+    private final String tenant;
+    private final String documentId;
+    private final WeaviateObject object;
+    private final float[] vector;
+    private final long estimatedBytes;
+    private List<SinkRecord> supersededRecords = Collections.emptyList();
+    private long contentHash;
+
+    private WriteOperation(SinkRecord record, String collection, String tenant, String documentId, WeaviateObject object, float[] vector) {
+        this.record = record;
+        this.collection = collection;
+        this.tenant = tenant;
+        this.documentId = documentId;
+        this.object = object;
+        this.vector = vector;
+        this.estimatedBytes = object == null ? 0 : ObjectSizeEstimator.estimate(object, vector);
+    }
+
+    public static WriteOperation upsert(SinkRecord record, WeaviateObject object) {
+        return upsert(record, object, null);
+    }
+
+    /**
+     * @param vector embedding kept as primitives until the batch is sent, set on the object only then
+     */
+    public static WriteOperation upsert(SinkRecord record, WeaviateObject object, float[] vector) {
+        return new WriteOperation(record, object.getClassName(), object.getTenant(), object.getId(), object, vector);
+    }
+
+    public static WriteOperation delete(SinkRecord record, String collection, String documentId) {
+        return delete(record, collection, null, documentId);
+    }
+
+    /**
+     * @param tenant tenant of the multi-tenant collection, null when it does not use multi-tenancy
+     */
+    public static WriteOperation delete(SinkRecord record, String collection, String tenant, String documentId) {
+        return new WriteOperation(record, collection, tenant, documentId, null, null);
+    }
+
+    public SinkRecord getRecord() {
+        return record;
+    }
+
+    public String getCollection() {
+        return collection;
+    }
+
+    public String getTenant() {
+        return tenant;
+    }
+
+    public String getDocumentId() {
+        return documentId;
+    }
+
+    public WeaviateObject getObject() {
+        return object;
+    }
+
+    public float[] getVector() {
+        return vector;
+    }
+
+    /**
+     * Estimated size of the object in a batch request, computed when the operation is created.
+     */
+    public long getEstimatedBytes() {
+        return estimatedBytes;
+    }
+
+    /**
+     * The object to send, with its primitive vector boxed into the {@code Float[]} the client expects.
+     */
+    public WeaviateObject toWeaviateObject() {
+        if (vector != null && object.getVector() == null) {
+            Float[] boxedVector = new Float[vector.length];
+            for (int i = 0; i < vector.length; i++) {
+                boxedVector[i] = vector[i];
+            }
+            object.setVector(boxedVector);
+        }
+        return object;
+    }
+
+    public boolean isDelete() {
+        return object == null;
+    }
+
+    /**
+     * Records of operations on the same object that were replaced by this one before being sent.
+     */
+    public List<SinkRecord> getSupersededRecords() {
+        return supersededRecords;
+    }
+
+    /**
+     * Every record whose write is carried by this operation, itself included.
+     */
+    public List<SinkRecord> getRecords() {
+        if (supersededRecords.isEmpty()) {
+            return Collections.singletonList(record);
+        }
+        List<SinkRecord> records = new ArrayList<>(supersededRecords.size() + 1);
+        records.addAll(supersededRecords);
+        records.add(record);
+        return records;
+    }
+
+    /**
+     * {@link ContentHash} of the object, only set when unchanged writes are skipped.
+     */
+    long getContentHash() {
+        return contentHash;
+    }
+
+    void setContentHash(long contentHash) {
+        this.contentHash = contentHash;
+    }
+
+    void supersede(WriteOperation previous) {
+        if (supersededRecords.isEmpty()) {
+            supersededRecords = new ArrayList<>();
+        }
+        supersededRecords.addAll(previous.getSupersededRecords());
+        supersededRecords.add(previous.getRecord());
+    }
+}
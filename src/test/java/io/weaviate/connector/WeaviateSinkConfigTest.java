@@ -15,9 +15,15 @@
  */
 package io.weaviate.connector;
 
+import io.weaviate.connector.idstrategy.CompositeIdStrategy;
+import io.weaviate.connector.idstrategy.KafkaIdStrategy;
+import io.weaviate.connector.tenantstrategy.FieldTenantStrategy;
+import io.weaviate.connector.tenantstrategy.KeyTenantStrategy;
+import org.apache.kafka.common.config.ConfigException;
 import org.junit.jupiter.api.Test;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -55,4 +61,100 @@ class WeaviateSinkConfigTest {
         assertThrows(IllegalArgumentException.class, () -> new WeaviateSinkConfig(WeaviateSinkConfig.CONFIG_DEF, originals));
     }
 
-}
\ No newline at end of file
+    @Test
+    void ensureDeleteEnabledAllowsCompositeIdOfKeyFields() {
+        Map<String, String> originals = Map.of(
+                WeaviateSinkConfig.DELETE_ENABLED_CONFIG, "true",
+                WeaviateSinkConfig.DOCUMENT_ID_STRATEGY_CONFIG, CompositeIdStrategy.class.getName(),
+                WeaviateSinkConfig.DOCUMENT_ID_FIELDS_CONFIG, "key.tenant, key.id");
+
+        assertEquals(List.of("key.tenant", "key.id"), new WeaviateSinkConfig(WeaviateSinkConfig.CONFIG_DEF, originals).getDocumentIdFields());
+        assertThrows(IllegalArgumentException.class, () -> new WeaviateSinkConfig(WeaviateSinkConfig.CONFIG_DEF, Map.of(
+                WeaviateSinkConfig.DELETE_ENABLED_CONFIG, "true",
+                WeaviateSinkConfig.DOCUMENT_ID_STRATEGY_CONFIG, CompositeIdStrategy.class.getName(),
+                WeaviateSinkConfig.DOCUMENT_ID_FIELDS_CONFIG, "key.tenant, value.id")));
+        assertThrows(ConfigException.class, () -> new WeaviateSinkConfig(WeaviateSinkConfig.CONFIG_DEF,
+                Map.of(WeaviateSinkConfig.DOCUMENT_ID_FIELDS_CONFIG, "id")));
+        assertThrows(ConfigException.class, () -> new WeaviateSinkConfig(WeaviateSinkConfig.CONFIG_DEF,
+                Map.of(WeaviateSinkConfig.DOCUMENT_ID_NAMESPACE_CONFIG, "not-a-uuid")));
+    }
+
+    @Test
+    void ensureDeleteEnabledRejectsFieldTenants() {
+        Map<String, String> originals = Map.of(
+                WeaviateSinkConfig.DELETE_ENABLED_CONFIG, "true",
+                WeaviateSinkConfig.DOCUMENT_ID_STRATEGY_CONFIG, KafkaIdStrategy.class.getName(),
+                WeaviateSinkConfig.TENANT_STRATEGY_CONFIG, FieldTenantStrategy.class.getName());
+
+        assertThrows(IllegalArgumentException.class, () -> new WeaviateSinkConfig(WeaviateSinkConfig.CONFIG_DEF, originals));
+        new WeaviateSinkConfig(WeaviateSinkConfig.CONFIG_DEF, Map.of(
+                WeaviateSinkConfig.DELETE_ENABLED_CONFIG, "true",
+                WeaviateSinkConfig.DOCUMENT_ID_STRATEGY_CONFIG, KafkaIdStrategy.class.getName(),
+                WeaviateSinkConfig.TENANT_STRATEGY_CONFIG, KeyTenantStrategy.class.getName()));
+    }
+
+    @Test
+    void ensureCollectionSettingsParsing() {
+        HashMap<String, String> originals = new HashMap<>() {{
+            put(WeaviateSinkConfig.COLLECTION_BATCH_SIZE_CONFIG, "Articles=500, Comments=20");
+        }};
+
+        WeaviateSinkConfig config = new WeaviateSinkConfig(WeaviateSinkConfig.CONFIG_DEF, originals);
+
+        assertEquals(Map.of("Articles", 500, "Comments", 20), config.getCollectionBatchSizes());
+        assertThrows(ConfigException.class, () -> new WeaviateSinkConfig(WeaviateSinkConfig.CONFIG_DEF,
+                Map.of(WeaviateSinkConfig.COLLECTION_MAX_IN_FLIGHT_BATCHES_CONFIG, "Articles=0")));
+    }
+
+    @Test
+    void ensureAdaptiveBatchSizeBoundsAreOrdered() {
+        HashMap<String, String> originals = new HashMap<>() {{
+            put(WeaviateSinkConfig.ADAPTIVE_BATCH_SIZE_MIN_CONFIG, "500");
+            put(WeaviateSinkConfig.ADAPTIVE_BATCH_SIZE_MAX_CONFIG, "100");
+        }};
+
+        assertThrows(IllegalArgumentException.class, () -> new WeaviateSinkConfig(WeaviateSinkConfig.CONFIG_DEF, originals));
+    }
+
+    @Test
+    void ensurePropertyRenamesParsing() {
+        HashMap<String, String> originals = new HashMap<>() {{
+            put(WeaviateSinkConfig.PROPERTIES_RENAME_CONFIG, "body=content, name=title");
+        }};
+
+        WeaviateSinkConfig config = new WeaviateSinkConfig(WeaviateSinkConfig.CONFIG_DEF, originals);
+
+        assertEquals(Map.of("body", "content", "name", "title"), config.getPropertiesRename());
+        assertThrows(ConfigException.class, () -> new WeaviateSinkConfig(WeaviateSinkConfig.CONFIG_DEF,
+                Map.of(WeaviateSinkConfig.PROPERTIES_RENAME_CONFIG, "body=content, text=content")));
+    }
+
+    @Test
+    void ensureProxyUrlIsValidated() {
+        WeaviateSinkConfig config = new WeaviateSinkConfig(WeaviateSinkConfig.CONFIG_DEF, Map.of(WeaviateSinkConfig.PROXY_URL_CONFIG, "http://proxy:3128"));
+
+        assertEquals("http://proxy:3128", config.getProxyUrl());
+        assertThrows(ConfigException.class, () -> new WeaviateSinkConfig(WeaviateSinkConfig.CONFIG_DEF,
+                Map.of(WeaviateSinkConfig.PROXY_URL_CONFIG, "proxy:3128")));
+        assertThrows(ConfigException.class, () -> new WeaviateSinkConfig(WeaviateSinkConfig.CONFIG_DEF,
+                Map.of(WeaviateSinkConfig.PROXY_URL_CONFIG, "http://proxy")));
+    }
+
+    @Test
+    void ensureCollectionMappingIsCompiled() {
+        new WeaviateSinkConfig(WeaviateSinkConfig.CONFIG_DEF, Map.of(WeaviateSinkConfig.COLLECTION_MAPPING_CONFIG, "Events_${value.type:Other}"));
+
+        new WeaviateSinkConfig(WeaviateSinkConfig.CONFIG_DEF, Map.of(WeaviateSinkConfig.COLLECTION_MAPPING_CONFIG, "Events_${offset}"));
+
+        assertThrows(ConfigException.class, () -> new WeaviateSinkConfig(WeaviateSinkConfig.CONFIG_DEF,
+                Map.of(WeaviateSinkConfig.COLLECTION_MAPPING_CONFIG, "Events_${topic.2}")));
+        assertThrows(IllegalArgumentException.class, () -> new WeaviateSinkConfig(WeaviateSinkConfig.CONFIG_DEF, Map.of(
+                WeaviateSinkConfig.COLLECTION_MAPPING_CONFIG, "Events_${value.type}",
+                WeaviateSinkConfig.DELETE_ENABLED_CONFIG, "true",
+                WeaviateSinkConfig.DOCUMENT_ID_STRATEGY_CONFIG, KafkaIdStrategy.class.getName())));
+        assertThrows(IllegalArgumentException.class, () -> new WeaviateSinkConfig(WeaviateSinkConfig.CONFIG_DEF, Map.of(
+                WeaviateSinkConfig.COLLECTION_MAPPING_CONFIG, "Events_${value.type:Other}",
+                WeaviateSinkConfig.DELETE_ENABLED_CONFIG, "true",
+                WeaviateSinkConfig.DOCUMENT_ID_STRATEGY_CONFIG, KafkaIdStrategy.class.getName())));
+    }
+}
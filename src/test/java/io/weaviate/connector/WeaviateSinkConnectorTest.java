@@ -0,0 +1,68 @@
+/*
+ * Copyright © 2025 Weaviate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.weaviate.connector;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class WeaviateSinkConnectorTest {
+
+    @Test
+    void splitsConnectorBudgetBetweenTasks() {
+        WeaviateSinkConnector connector = new WeaviateSinkConnector();
+        connector.start(new HashMap<>() {{
+            put(WeaviateSinkConfig.CONNECTOR_MAX_IN_FLIGHT_BATCHES_CONFIG, "10");
+            put(WeaviateSinkConfig.POOL_SIZE_CONFIG, "8");
+            put(WeaviateSinkConfig.MAX_IN_FLIGHT_BATCHES_CONFIG, "5");
+        }});
+
+        List<Map<String, String>> taskConfigs = connector.taskConfigs(4);
+
+        assertEquals(List.of("3", "3", "2", "2"), values(taskConfigs, WeaviateSinkConfig.MAX_IN_FLIGHT_BATCHES_CONFIG));
+        assertEquals(List.of("3", "3", "2", "2"), values(taskConfigs, WeaviateSinkConfig.POOL_SIZE_CONFIG));
+        assertEquals(List.of("0", "1", "2", "3"), values(taskConfigs, WeaviateSinkConnector.TASK_ID_CONFIG));
+    }
+
+    @Test
+    void keepsTaskLimitsWithoutConnectorBudget() {
+        WeaviateSinkConnector connector = new WeaviateSinkConnector();
+        connector.start(new HashMap<>() {{
+            put(WeaviateSinkConfig.POOL_SIZE_CONFIG, "8");
+        }});
+
+        List<Map<String, String>> taskConfigs = connector.taskConfigs(2);
+
+        assertEquals(List.of("8", "8"), values(taskConfigs, WeaviateSinkConfig.POOL_SIZE_CONFIG));
+        assertFalse(taskConfigs.get(0).containsKey(WeaviateSinkConfig.MAX_IN_FLIGHT_BATCHES_CONFIG));
+    }
+
+    @Test
+    void everyTaskGetsAtLeastOneBatch() {
+        assertEquals(1, WeaviateSinkConnector.inFlightShare(2, 4, 3));
+        assertEquals(4, WeaviateSinkConnector.inFlightShare(32, 8, 7));
+    }
+
+    private static List<String> values(List<Map<String, String>> taskConfigs, String key) {
+        return taskConfigs.stream().map(taskConfig -> taskConfig.get(key)).collect(Collectors.toList());
+    }
+}
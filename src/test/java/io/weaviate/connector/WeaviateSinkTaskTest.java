@@ -0,0 +1,345 @@
+/*
+ * Copyright © 2025 Weaviate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.weaviate.connector;
+
+import io.weaviate.client.base.Result;
+import io.weaviate.client.v1.batch.model.BatchDeleteResponse;
+import io.weaviate.client.v1.batch.model.ObjectGetResponse;
+import io.weaviate.client.v1.data.model.WeaviateObject;
+import io.weaviate.connector.idstrategy.KafkaIdStrategy;
+import io.weaviate.connector.tenantstrategy.FieldTenantStrategy;
+import io.weaviate.connector.writer.BatchSender;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.errors.DataException;
+import org.apache.kafka.connect.sink.ErrantRecordReporter;
+import org.apache.kafka.connect.sink.SinkRecord;
+import org.apache.kafka.connect.sink.SinkTaskContext;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WeaviateSinkTaskTest {
+
+    static Map<String, String> taskConfig() {
+        Map<String, String> config = new HashMap<>();
+        config.put(WeaviateSinkConfig.DOCUMENT_ID_STRATEGY_CONFIG, KafkaIdStrategy.class.getName());
+        config.put(WeaviateSinkConfig.BATCH_SIZE_CONFIG, "1000");
+        return config;
+    }
+
+    static SinkRecord record(int partition, long offset, String key, Object value) {
+        return new SinkRecord("test", partition, Schema.STRING_SCHEMA, key, null, value, offset);
+    }
+
+    static String documentId(String key) {
+        return UUID.nameUUIDFromBytes(key.getBytes(StandardCharsets.UTF_8)).toString();
+    }
+
+    static class TestTask extends WeaviateSinkTask {
+        final List<String> upserted = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        protected BatchSender createBatchSender(WeaviateSinkConfig config) {
+            return new BatchSender() {
+                @Override
+                public Result<ObjectGetResponse[]> upsert(List<WeaviateObject> objects) {
+                    for (WeaviateObject object : objects) {
+                        upserted.add(object.getId());
+                    }
+                    return new Result<>(200, new ObjectGetResponse[0], null);
+                }
+
+                @Override
+                public Result<BatchDeleteResponse> delete(String collection, String tenant, List<String> documentIds) {
+                    return new Result<>(200, new BatchDeleteResponse(), null);
+                }
+            };
+        }
+    }
+
+    static class TestContext implements SinkTaskContext {
+        final Set<TopicPartition> paused = new HashSet<>();
+        long timeoutMs = -1;
+        ErrantRecordReporter errantRecordReporter;
+
+        @Override
+        public Map<String, String> configs() {
+            return Collections.emptyMap();
+        }
+
+        @Override
+        public void offset(Map<TopicPartition, Long> offsets) {
+        }
+
+        @Override
+        public void offset(TopicPartition topicPartition, long offset) {
+        }
+
+        @Override
+        public void timeout(long timeoutMs) {
+            this.timeoutMs = timeoutMs;
+        }
+
+        @Override
+        public Set<TopicPartition> assignment() {
+            return Collections.singleton(new TopicPartition("test", 0));
+        }
+
+        @Override
+        public void pause(TopicPartition... partitions) {
+            paused.addAll(Arrays.asList(partitions));
+        }
+
+        @Override
+        public void resume(TopicPartition... partitions) {
+            paused.removeAll(Arrays.asList(partitions));
+        }
+
+        @Override
+        public void requestCommit() {
+        }
+
+        @Override
+        public ErrantRecordReporter errantRecordReporter() {
+            return errantRecordReporter;
+        }
+    }
+
+    @Test
+    void parallelConversionKeepsRecordOrder() {
+        Map<String, String> config = taskConfig();
+        config.put(WeaviateSinkConfig.CONVERSION_THREADS_CONFIG, "4");
+        TestTask task = new TestTask();
+        task.start(config);
+        try {
+            List<SinkRecord> records = new ArrayList<>();
+            List<String> expected = new ArrayList<>();
+            for (int i = 0; i < 101; i++) {
+                Map<String, Object> value = new HashMap<>();
+                value.put("position", i);
+                records.add(record(i % 3, i / 3, "key-" + i, value));
+                expected.add(documentId("key-" + i));
+            }
+            task.put(records);
+
+            assertEquals(expected, task.upserted);
+        } finally {
+            task.stop();
+        }
+    }
+
+    @Test
+    void parallelConversionSurfacesConversionErrors() {
+        Map<String, String> config = taskConfig();
+        config.put(WeaviateSinkConfig.CONVERSION_THREADS_CONFIG, "2");
+        TestTask task = new TestTask();
+        task.start(config);
+        try {
+            List<SinkRecord> records = new ArrayList<>();
+            records.add(record(0, 0, "valid", Collections.singletonMap("position", 0)));
+            records.add(new SinkRecord("test", 0, Schema.STRING_SCHEMA, "invalid", Schema.STRING_SCHEMA, 42, 1));
+
+            assertThrows(DataException.class, () -> task.put(records));
+            assertEquals(Collections.emptyList(), task.upserted);
+        } finally {
+            task.stop();
+        }
+    }
+
+    @Test
+    void asyncCommitsPartialBatchesAndSkippedRecords() throws InterruptedException {
+        Map<String, String> config = taskConfig();
+        config.put(WeaviateSinkConfig.ASYNC_ENABLED_CONFIG, "true");
+        TestTask task = new TestTask();
+        task.initialize(new TestContext());
+        task.start(config);
+        try {
+            TopicPartition records = new TopicPartition("test", 0);
+            TopicPartition tombstones = new TopicPartition("test", 1);
+            Map<TopicPartition, OffsetAndMetadata> currentOffsets = Map.of(records, new OffsetAndMetadata(1), tombstones, new OffsetAndMetadata(1));
+            task.put(List.of(record(0, 0, "first", Collections.singletonMap("position", 0)), record(1, 0, "deleted", null)));
+
+            Map<TopicPartition, OffsetAndMetadata> committable = task.preCommit(currentOffsets);
+            assertEquals(new OffsetAndMetadata(1), committable.get(tombstones));
+            for (int attempt = 0; attempt < 100 && !committable.equals(currentOffsets); attempt++) {
+                Thread.sleep(10);
+                committable = task.preCommit(currentOffsets);
+            }
+            assertEquals(currentOffsets, committable);
+            assertEquals(List.of(documentId("first")), task.upserted);
+        } finally {
+            task.stop();
+        }
+    }
+
+    @Test
+    void lingerKeepsPartialBatchesAcrossPuts() throws InterruptedException {
+        Map<String, String> config = taskConfig();
+        config.put(WeaviateSinkConfig.LINGER_MS_CONFIG, "200");
+        TestTask task = new TestTask();
+        TestContext context = new TestContext();
+        task.initialize(context);
+        task.start(config);
+        try {
+            TopicPartition partition = new TopicPartition("test", 0);
+            Map<TopicPartition, OffsetAndMetadata> currentOffsets = Map.of(partition, new OffsetAndMetadata(2));
+            task.put(List.of(record(0, 0, "first", Collections.singletonMap("position", 0))));
+            task.put(List.of(record(0, 1, "second", Collections.singletonMap("position", 1))));
+
+            assertEquals(Collections.emptyList(), task.upserted);
+            assertTrue(context.timeoutMs > 0 && context.timeoutMs <= 200);
+            assertEquals(Map.of(partition, new OffsetAndMetadata(0)), task.preCommit(currentOffsets));
+
+            Thread.sleep(200);
+            task.put(Collections.emptyList());
+
+            assertEquals(List.of(documentId("first"), documentId("second")), task.upserted);
+            assertEquals(Map.of(partition, new OffsetAndMetadata(2)), task.preCommit(currentOffsets));
+        } finally {
+            task.stop();
+        }
+    }
+
+    @Test
+    void backpressurePausesPartitionsUntilWeaviateCatchesUp() {
+        Map<String, String> config = taskConfig();
+        config.put(WeaviateSinkConfig.LINGER_MS_CONFIG, "60000");
+        config.put(WeaviateSinkConfig.BACKPRESSURE_ENABLED_CONFIG, "true");
+        config.put(WeaviateSinkConfig.BACKPRESSURE_MAX_OBJECTS_CONFIG, "2");
+        TestTask task = new TestTask();
+        TestContext context = new TestContext();
+        task.initialize(context);
+        task.start(config);
+        try {
+            TopicPartition partition = new TopicPartition("test", 0);
+            task.put(List.of(record(0, 0, "first", Collections.singletonMap("position", 0)),
+                    record(0, 1, "second", Collections.singletonMap("position", 1))));
+            assertEquals(Collections.emptySet(), context.paused);
+
+            task.put(List.of(record(0, 2, "third", Collections.singletonMap("position", 2))));
+            assertEquals(Set.of(partition), context.paused);
+            assertEquals(WeaviateSinkTask.BACKPRESSURE_RECHECK_MS, context.timeoutMs);
+
+            task.flush(Map.of(partition, new OffsetAndMetadata(3)));
+            task.put(Collections.emptyList());
+            assertEquals(Collections.emptySet(), context.paused);
+            assertEquals(3, task.upserted.size());
+        } finally {
+            task.stop();
+        }
+    }
+
+    @Test
+    void reportsRecordsThatCanNotBeRouted() {
+        Map<String, String> config = taskConfig();
+        config.put(WeaviateSinkConfig.COLLECTION_MAPPING_CONFIG, "Events_${value.type}");
+        List<SinkRecord> records = List.of(
+                record(0, 0, "click", Map.of("type", "Click")),
+                record(0, 1, "untyped", Map.of()),
+                record(0, 2, "invalid", Map.of("type", "Not valid")));
+        TestTask task = new TestTask();
+        TestContext context = new TestContext();
+        List<SinkRecord> reported = Collections.synchronizedList(new ArrayList<>());
+        context.errantRecordReporter = (record, error) -> {
+            reported.add(record);
+            return CompletableFuture.completedFuture(null);
+        };
+        task.initialize(context);
+        task.start(config);
+        try {
+            task.put(records);
+
+            assertEquals(List.of(documentId("click")), task.upserted);
+            assertEquals(records.subList(1, 3), reported);
+        } finally {
+            task.stop();
+        }
+
+        TestTask failing = new TestTask();
+        failing.start(config);
+        try {
+            assertThrows(DataException.class, () -> failing.put(records));
+        } finally {
+            failing.stop();
+        }
+    }
+
+    @Test
+    void reportsRecordsWithoutTenant() {
+        Map<String, String> config = taskConfig();
+        config.put(WeaviateSinkConfig.TENANT_STRATEGY_CONFIG, FieldTenantStrategy.class.getName());
+        List<SinkRecord> records = List.of(
+                record(0, 0, "acme", Map.of("tenant", "acme")),
+                record(0, 1, "untenanted", Map.of()));
+        TestTask task = new TestTask();
+        TestContext context = new TestContext();
+        List<SinkRecord> reported = Collections.synchronizedList(new ArrayList<>());
+        context.errantRecordReporter = (record, error) -> {
+            reported.add(record);
+            return CompletableFuture.completedFuture(null);
+        };
+        task.initialize(context);
+        task.start(config);
+        try {
+            task.put(records);
+
+            assertEquals(List.of(documentId("acme")), task.upserted);
+            assertEquals(records.subList(1, 2), reported);
+        } finally {
+            task.stop();
+        }
+    }
+
+    @Test
+    void writesAgainUnchangedRecordsOfReassignedPartitions() {
+        Map<String, String> config = taskConfig();
+        config.put(WeaviateSinkConfig.SKIP_UNCHANGED_ENABLED_CONFIG, "true");
+        List<TopicPartition> partitions = List.of(new TopicPartition("test", 0));
+        TestTask task = new TestTask();
+        task.initialize(new TestContext());
+        task.start(config);
+        try {
+            task.open(partitions);
+            task.put(List.of(record(0, 0, "a", Map.of("position", 0))));
+            task.put(List.of(record(0, 1, "a", Map.of("position", 0))));
+            assertEquals(List.of(documentId("a")), task.upserted);
+
+            // Another task may have written the partition while it was revoked
+            task.close(partitions);
+            task.open(partitions);
+            task.put(List.of(record(0, 2, "a", Map.of("position", 0))));
+            assertEquals(List.of(documentId("a"), documentId("a")), task.upserted);
+        } finally {
+            task.stop();
+        }
+    }
+}
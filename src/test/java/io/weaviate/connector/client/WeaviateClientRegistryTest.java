@@ -0,0 +1,72 @@
+/*
+ * Copyright © 2025 Weaviate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.weaviate.connector.client;
+
+import io.weaviate.connector.WeaviateSinkConfig;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WeaviateClientRegistryTest {
+
+    @Test
+    void sharesClientsUntilTheLastRelease() {
+        WeaviateClientRegistry registry = new WeaviateClientRegistry();
+        WeaviateSinkConfig config = config(Map.of());
+
+        SharedWeaviateClient first = registry.acquire(config);
+        SharedWeaviateClient second = registry.acquire(config(Map.of()));
+
+        assertSame(first, second);
+        assertEquals(1, registry.size());
+        first.release();
+        assertFalse(first.isShutdown());
+        assertEquals(1, registry.size());
+        second.release();
+        assertTrue(first.isShutdown());
+        assertEquals(0, registry.size());
+    }
+
+    @Test
+    void separatesClientsOfOtherSettings() {
+        WeaviateClientRegistry registry = new WeaviateClientRegistry();
+
+        SharedWeaviateClient client = registry.acquire(config(Map.of()));
+        SharedWeaviateClient withHeaders = registry.acquire(config(Map.of(WeaviateSinkConfig.HEADERS_CONFIG, "X-OpenAI-Api-Key=XYZ")));
+        SharedWeaviateClient withChannels = registry.acquire(config(Map.of(WeaviateSinkConfig.GRPC_CHANNELS_CONFIG, "4")));
+
+        assertNotSame(client, withHeaders);
+        assertNotSame(client, withChannels);
+        assertEquals(3, registry.size());
+        client.release();
+        withHeaders.release();
+        withChannels.release();
+        assertEquals(0, registry.size());
+    }
+
+    private static WeaviateSinkConfig config(Map<String, String> settings) {
+        Map<String, String> originals = new HashMap<>(settings);
+        originals.put(WeaviateSinkConfig.CONNECTION_URL_CONFIG, "http://localhost:1");
+        return new WeaviateSinkConfig(WeaviateSinkConfig.CONFIG_DEF, originals);
+    }
+}
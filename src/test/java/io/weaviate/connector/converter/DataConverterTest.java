@@ -15,7 +15,11 @@
  */
 package io.weaviate.connector.converter;
 
+import org.apache.kafka.connect.data.Schema;
 import org.apache.kafka.connect.data.SchemaAndValue;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.errors.DataException;
 import org.apache.kafka.connect.json.JsonConverter;
 import org.apache.kafka.connect.json.JsonConverterConfig;
 import org.codehaus.plexus.util.IOUtil;
@@ -24,9 +28,14 @@ import org.junit.jupiter.api.Test;
 import java.io.IOException;
 import java.nio.charset.Charset;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class DataConverterTest {
 
@@ -71,4 +80,104 @@ class DataConverterTest {
         assertEquals(1.23, properties.get("float"));
         assertEquals(true, properties.get("boolean"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void nestedStructConvertToWeaviateProperties() {
+        Schema addressSchema = SchemaBuilder.struct().name("address")
+                .field("city", Schema.STRING_SCHEMA)
+                .field("zip", Schema.OPTIONAL_INT32_SCHEMA)
+                .build();
+        Schema schema = SchemaBuilder.struct().name("person")
+                .field("name", Schema.STRING_SCHEMA)
+                .field("age", Schema.INT8_SCHEMA)
+                .field("score", Schema.FLOAT32_SCHEMA)
+                .field("tags", SchemaBuilder.array(Schema.STRING_SCHEMA).build())
+                .field("counters", SchemaBuilder.map(Schema.STRING_SCHEMA, Schema.INT16_SCHEMA).build())
+                .field("address", addressSchema)
+                .field("nickname", SchemaBuilder.string().defaultValue("none").build())
+                .build();
+        Struct value = new Struct(schema)
+                .put("name", "John")
+                .put("age", (byte) 42)
+                .put("score", 1.5f)
+                .put("tags", List.of("a", "b"))
+                .put("counters", Map.of("views", (short) 3))
+                .put("address", new Struct(addressSchema).put("city", "Amsterdam"));
+
+        DataConverter converter = new DataConverter();
+        Map<String, Object> properties = converter.convertToWeaviateProperties(schema, value);
+
+        assertEquals("John", properties.get("name"));
+        assertEquals(42L, properties.get("age"));
+        assertEquals(1.5, properties.get("score"));
+        assertEquals(List.of("a", "b"), properties.get("tags"));
+        assertEquals(Map.of("views", 3L), properties.get("counters"));
+        assertEquals("none", properties.get("nickname"));
+        @SuppressWarnings("unchecked")
+        Map<String, Object> address = (Map<String, Object>) properties.get("address");
+        assertEquals("Amsterdam", address.get("city"));
+        assertNull(address.get("zip"));
+    }
+
+    @Test
+    void conversionPlanIsCompiledOncePerSchema() {
+        Schema schema = SchemaBuilder.struct().field("text", Schema.STRING_SCHEMA).build();
+        Schema sameSchema = SchemaBuilder.struct().field("text", Schema.STRING_SCHEMA).build();
+        DataConverter converter = new DataConverter(2);
+
+        ConversionPlan plan = converter.planFor(schema);
+        assertSame(plan, converter.planFor(schema));
+        assertSame(plan, converter.planFor(sameSchema));
+    }
+
+    @Test
+    void fieldConversionPlanIsCompiledOncePerSchema() {
+        Schema idSchema = SchemaBuilder.struct().field("number", Schema.INT16_SCHEMA).build();
+        Schema schema = SchemaBuilder.struct().field("id", idSchema).build();
+        DataConverter converter = new DataConverter(2);
+
+        Struct value = new Struct(schema).put("id", new Struct(idSchema).put("number", (short) 7));
+        assertEquals(Map.of("number", 7L), converter.convertField(value, "id"));
+        ConversionPlan plan = converter.fieldPlanFor(idSchema);
+        converter.convertField(value, "id");
+        assertSame(plan, converter.fieldPlanFor(idSchema));
+        assertNull(converter.convertField(value, "missing"));
+    }
+
+    @Test
+    void mismatchingStructSchemaIsRejected() {
+        Schema schema = SchemaBuilder.struct().field("text", Schema.STRING_SCHEMA).build();
+        Schema otherSchema = SchemaBuilder.struct().field("other", Schema.STRING_SCHEMA).build();
+        DataConverter converter = new DataConverter();
+
+        assertThrows(DataException.class, () -> converter.convertToWeaviateProperties(schema, new Struct(otherSchema).put("other", "value")));
+    }
+
+    @Test
+    void projectionSelectsAndRenamesStructFields() {
+        Schema schema = SchemaBuilder.struct()
+                .field("id", Schema.STRING_SCHEMA)
+                .field("title", Schema.STRING_SCHEMA)
+                .field("body", Schema.STRING_SCHEMA)
+                .field("blob", Schema.BYTES_SCHEMA)
+                .build();
+        // A value of the wrong type would fail the conversion, projected out fields are never converted
+        Struct value = new Struct(schema).put("id", "1").put("title", "Title").put("body", "Body").put("blob", new byte[]{1});
+        PropertyProjection projection = new PropertyProjection(Set.of("title", "body", "id"), Set.of("id"), Map.of("body", "content"));
+        DataConverter converter = new DataConverter(DataConverter.DEFAULT_SCHEMA_CACHE_SIZE, projection);
+
+        assertEquals(Map.of("title", "Title", "content", "Body"), converter.convertToWeaviateProperties(schema, value));
+    }
+
+    @Test
+    void projectionSelectsAndRenamesMapEntries() {
+        Map<String, Object> value = new HashMap<>();
+        value.put("id", "1");
+        value.put("title", "Title");
+        value.put("body", "Body");
+        PropertyProjection projection = new PropertyProjection(Set.of(), Set.of("id"), Map.of("body", "content"));
+        DataConverter converter = new DataConverter(DataConverter.DEFAULT_SCHEMA_CACHE_SIZE, projection);
+
+        assertEquals(Map.of("title", "Title", "content", "Body"), converter.convertToWeaviateProperties(null, value));
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright © 2025 Weaviate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.weaviate.connector.idstrategy;
+
+import io.weaviate.connector.WeaviateSinkConfig;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.errors.DataException;
+import org.apache.kafka.connect.sink.SinkRecord;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompositeIdStrategyTest {
+
+    private static CompositeIdStrategy strategy(String fields, String namespace) {
+        Map<String, String> props = new HashMap<>();
+        props.put(WeaviateSinkConfig.DOCUMENT_ID_FIELDS_CONFIG, fields);
+        props.put(WeaviateSinkConfig.DOCUMENT_ID_NAMESPACE_CONFIG, namespace);
+        CompositeIdStrategy strategy = new CompositeIdStrategy();
+        strategy.configure(new WeaviateSinkConfig(WeaviateSinkConfig.CONFIG_DEF, props));
+        return strategy;
+    }
+
+    private static SinkRecord record(Object key, Object value) {
+        return new SinkRecord("test", 0, null, key, null, value, 0L);
+    }
+
+    @Test
+    void structAndMapKeysGiveTheSameId() {
+        Schema keySchema = SchemaBuilder.struct().field("tenant", Schema.STRING_SCHEMA).field("id", Schema.INT32_SCHEMA).build();
+        Struct structKey = new Struct(keySchema).put("tenant", "acme").put("id", 42);
+        // Field order and integer width do not matter
+        Map<String, Object> mapKey = new HashMap<>();
+        mapKey.put("id", 42L);
+        mapKey.put("tenant", "acme");
+
+        CompositeIdStrategy strategy = strategy("", "");
+        String id = strategy.getDocumentId(record(structKey, null), null);
+
+        assertEquals(id, strategy.getDocumentId(record(mapKey, null), null));
+        assertEquals(id, strategy("key", "").getDocumentId(record(structKey, null), null));
+        mapKey.put("id", 43L);
+        assertNotEquals(id, strategy.getDocumentId(record(mapKey, null), null));
+    }
+
+    @Test
+    void combinesKeyAndValueFields() {
+        CompositeIdStrategy strategy = strategy("key.tenant, value.order, value.line", "");
+        Map<String, Object> key = Map.of("tenant", "acme");
+
+        String id = strategy.getDocumentId(record(key, Map.of("order", "ab", "line", "c")), new HashMap<>());
+
+        assertEquals(id, strategy.getDocumentId(record(key, Map.of("order", "ab", "line", "c", "other", 1)), new HashMap<>()));
+        // Field boundaries are part of the encoding
+        assertNotEquals(id, strategy.getDocumentId(record(key, Map.of("order", "a", "line", "bc")), new HashMap<>()));
+        assertNotEquals(id, strategy.getDocumentId(record(Map.of("tenant", "other"), Map.of("order", "ab", "line", "c")), new HashMap<>()));
+    }
+
+    @Test
+    void generatesVersion5IdsInNamespace() {
+        SinkRecord record = record("hello", null);
+        String v3 = strategy("key", "").getDocumentId(record, null);
+        String v5 = strategy("key", "6ba7b810-9dad-11d1-80b4-00c04fd430c8").getDocumentId(record, null);
+        String otherNamespace = strategy("key", "6ba7b811-9dad-11d1-80b4-00c04fd430c8").getDocumentId(record, null);
+
+        assertEquals('3', v3.charAt(14));
+        assertEquals('5', v5.charAt(14));
+        assertNotEquals(v5, otherNamespace);
+    }
+
+    @Test
+    void rejectsMissingComponents() {
+        CompositeIdStrategy strategy = strategy("key.tenant, value.order", "");
+
+        DataException missingField = assertThrows(DataException.class,
+                () -> strategy.getDocumentId(record(Map.of("tenant", "acme"), Map.of("line", "c")), new HashMap<>()));
+        assertTrue(missingField.getMessage().contains("value.order"));
+        assertThrows(DataException.class, () -> strategy.getDocumentId(record(null, Map.of("order", "ab")), new HashMap<>()));
+        assertThrows(DataException.class, () -> strategy("key", "").getDocumentId(record(null, null), null));
+    }
+}
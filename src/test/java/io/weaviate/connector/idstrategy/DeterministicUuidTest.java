@@ -0,0 +1,60 @@
+/*
+ * Copyright © 2025 Weaviate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.weaviate.connector.idstrategy;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DeterministicUuidTest {
+
+    private static String expected(String name) {
+        return UUID.nameUUIDFromBytes(name.getBytes(StandardCharsets.UTF_8)).toString();
+    }
+
+    @Test
+    void matchesNameUuidFromBytes() {
+        String[] names = {"", "hello", "document-12345", "héllo wörld", "日本語のテキスト", "emoji 😀 pair",
+                "unpaired \uD83D high", "unpaired \uDE00 low", "trailing \uD83D", "a".repeat(1000) + "é".repeat(300)};
+        for (String name : names) {
+            assertEquals(expected(name), DeterministicUuid.nameUuid(name), name);
+            assertEquals(expected(name), DeterministicUuid.nameUuid(new StringBuilder(name)), name);
+            byte[] bytes = ("xx" + name).getBytes(StandardCharsets.UTF_8);
+            assertEquals(expected(name), DeterministicUuid.nameUuid(bytes, 2, bytes.length - 2), name);
+        }
+    }
+
+    @Test
+    void reusesStateAcrossCalls() {
+        for (int i = 0; i < 100; i++) {
+            assertEquals(expected("document-" + i), DeterministicUuid.nameUuid("document-" + i));
+        }
+    }
+
+    @Test
+    void computesVersion5Uuids() {
+        // Example of RFC 9562, www.example.com in the DNS namespace
+        UUID dns = UUID.fromString("6ba7b810-9dad-11d1-80b4-00c04fd430c8");
+        byte[] namespace = ByteBuffer.allocate(16).putLong(dns.getMostSignificantBits()).putLong(dns.getLeastSignificantBits()).array();
+        byte[] name = "www.example.com".getBytes(StandardCharsets.UTF_8);
+
+        assertEquals("2ed6657d-e927-568b-95e1-2665a8aea6a2", DeterministicUuid.nameUuidV5(namespace, name, 0, name.length));
+    }
+}
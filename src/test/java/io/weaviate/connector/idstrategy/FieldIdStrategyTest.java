@@ -17,16 +17,23 @@ package io.weaviate.connector.idstrategy;
 
 import io.weaviate.connector.WeaviateSinkConfig;
 import io.weaviate.connector.converter.DataConverter;
+import io.weaviate.connector.converter.PropertyProjection;
+import org.apache.kafka.connect.data.Schema;
 import org.apache.kafka.connect.data.SchemaAndValue;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
 import org.apache.kafka.connect.json.JsonConverter;
 import org.apache.kafka.connect.json.JsonConverterConfig;
+import org.apache.kafka.connect.sink.SinkRecord;
 import org.codehaus.plexus.util.IOUtil;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
 import java.nio.charset.Charset;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -58,4 +65,57 @@ class FieldIdStrategyTest {
         assertEquals("5eb63bbb-e01e-3ed0-93cb-22bb8f5acdc3", documentId);
     }
 
-}
\ No newline at end of file
+    @Test
+    void getFieldIdFromRecordMatchesConvertedField() {
+        Schema schema = SchemaBuilder.struct()
+                .field("id", Schema.FLOAT32_SCHEMA)
+                .field("text", Schema.STRING_SCHEMA)
+                .build();
+        Struct value = new Struct(schema).put("id", 1.1f).put("text", "hello");
+        SinkRecord record = new SinkRecord("test", 0, null, null, schema, value, 0);
+        WeaviateSinkConfig config = new WeaviateSinkConfig(WeaviateSinkConfig.CONFIG_DEF, new HashMap<>() {{
+            put(WeaviateSinkConfig.DOCUMENT_ID_FIELD_CONFIG, "id");
+        }});
+        FieldIdStrategy fieldIdStrategy = new FieldIdStrategy();
+        fieldIdStrategy.configure(config);
+
+        Map<String, Object> converted = new DataConverter().convertToWeaviateProperties(schema, value);
+        String expected = fieldIdStrategy.getDocumentId(null, converted);
+        Map<String, Object> projected = new DataConverter(DataConverter.DEFAULT_SCHEMA_CACHE_SIZE, new PropertyProjection(Set.of(), Set.of(fieldIdStrategy.getSourceField()), Map.of()))
+                .convertToWeaviateProperties(schema, value);
+
+        assertEquals(expected, fieldIdStrategy.getDocumentId(record, projected));
+        assertEquals(Map.of("text", "hello"), projected);
+    }
+
+    @Test
+    void getStructuredFieldIdFromRecordMatchesConvertedField() {
+        Schema idSchema = SchemaBuilder.struct()
+                .field("tenant", Schema.STRING_SCHEMA)
+                .field("number", Schema.INT16_SCHEMA)
+                .build();
+        Schema schema = SchemaBuilder.struct()
+                .field("id", idSchema)
+                .field("tags", SchemaBuilder.array(Schema.INT8_SCHEMA).build())
+                .build();
+        Struct value = new Struct(schema)
+                .put("id", new Struct(idSchema).put("tenant", "acme").put("number", (short) 7))
+                .put("tags", List.of((byte) 1, (byte) 2));
+        PropertyProjection projection = new PropertyProjection(Set.of(), Set.of("id", "tags"), Map.of());
+
+        for (String field : List.of("id", "tags")) {
+            FieldIdStrategy fieldIdStrategy = new FieldIdStrategy();
+            fieldIdStrategy.configure(new WeaviateSinkConfig(WeaviateSinkConfig.CONFIG_DEF, Map.of(WeaviateSinkConfig.DOCUMENT_ID_FIELD_CONFIG, field)));
+            String expected = fieldIdStrategy.getDocumentId(null, new DataConverter().convertToWeaviateProperties(schema, value));
+            SinkRecord record = new SinkRecord("test", 0, null, null, schema, value, 0);
+            Map<String, Object> projected = new DataConverter(DataConverter.DEFAULT_SCHEMA_CACHE_SIZE, projection).convertToWeaviateProperties(schema, value);
+
+            assertEquals(expected, fieldIdStrategy.getDocumentId(record, projected));
+        }
+        Map<String, Object> schemaless = Map.of("id", Map.of("tenant", "acme", "number", (short) 7));
+        FieldIdStrategy fieldIdStrategy = new FieldIdStrategy();
+        fieldIdStrategy.configure(new WeaviateSinkConfig(WeaviateSinkConfig.CONFIG_DEF, Map.of(WeaviateSinkConfig.DOCUMENT_ID_FIELD_CONFIG, "id")));
+        assertEquals(fieldIdStrategy.getDocumentId(null, new DataConverter().convertToWeaviateProperties(null, schemaless)),
+                fieldIdStrategy.getDocumentId(new SinkRecord("test", 0, null, null, null, schemaless, 0), new HashMap<>()));
+    }
+}
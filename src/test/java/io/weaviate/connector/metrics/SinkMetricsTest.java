@@ -0,0 +1,78 @@
+/*
+ * Copyright © 2025 Weaviate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.weaviate.connector.metrics;
+
+import org.apache.kafka.common.metrics.KafkaMetric;
+import org.apache.kafka.common.metrics.Metrics;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SinkMetricsTest {
+
+    static double value(SinkMetrics metrics, String group, String name, Map<String, String> tags) {
+        KafkaMetric metric = metrics.metrics().metrics().get(metrics.metrics().metricName(name, group, "", tags));
+        return ((Number) metric.metricValue()).doubleValue();
+    }
+
+    @Test
+    void tagsMetricsPerTaskAndCollection() {
+        try (SinkMetrics metrics = new SinkMetrics(new Metrics(), "sink", "1")) {
+            Map<String, String> taskTags = Map.of("connector", "sink", "task", "1");
+            Map<String, String> articleTags = Map.of("connector", "sink", "task", "1", "collection", "Article");
+
+            metrics.recordConversion(TimeUnit.MILLISECONDS.toNanos(2));
+            metrics.recordConversion(TimeUnit.MILLISECONDS.toNanos(4));
+            metrics.inFlightBatches(() -> 3);
+            SinkMetrics.CollectionMetrics article = metrics.collection("Article");
+            article.recordUpsertBatch(10, 1000, TimeUnit.MILLISECONDS.toNanos(50));
+            article.recordUpserted(10);
+            article.recordDeleted(2);
+            article.recordRejected(1);
+            metrics.collection("Comment").recordUpserted(5);
+
+            assertEquals(2.0, value(metrics, SinkMetrics.TASK_GROUP, "records-converted-total", taskTags));
+            assertEquals(3.0, value(metrics, SinkMetrics.TASK_GROUP, "conversion-time-avg", taskTags));
+            assertEquals(3.0, value(metrics, SinkMetrics.TASK_GROUP, "in-flight-batches", taskTags));
+            assertEquals(10.0, value(metrics, SinkMetrics.COLLECTION_GROUP, "records-upserted-total", articleTags));
+            assertEquals(2.0, value(metrics, SinkMetrics.COLLECTION_GROUP, "records-deleted-total", articleTags));
+            assertEquals(1.0, value(metrics, SinkMetrics.COLLECTION_GROUP, "objects-rejected-total", articleTags));
+            assertEquals(1000.0, value(metrics, SinkMetrics.COLLECTION_GROUP, "batch-bytes-max", articleTags));
+            double p99 = value(metrics, SinkMetrics.COLLECTION_GROUP, "batch-latency-p99", articleTags);
+            assertTrue(p99 > 0 && p99 < 200, "p99 " + p99);
+        }
+    }
+
+    @Test
+    void measuresLagFromRecordTimestamps() {
+        try (SinkMetrics metrics = new SinkMetrics(new Metrics(), "sink", "0")) {
+            Map<String, String> tags = Map.of("connector", "sink", "task", "0", "collection", "Article");
+            SinkMetrics.CollectionMetrics article = metrics.collection("Article");
+            long now = System.currentTimeMillis();
+
+            article.recordAcknowledged(now - 300, now);
+            article.recordAcknowledged(null, now);
+            article.recordAcknowledged(now - 100, now);
+
+            assertEquals(200.0, value(metrics, SinkMetrics.COLLECTION_GROUP, "record-lag-avg", tags));
+            assertEquals(300.0, value(metrics, SinkMetrics.COLLECTION_GROUP, "record-lag-max", tags));
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright © 2025 Weaviate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.weaviate.connector.routing;
+
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.errors.DataException;
+import org.apache.kafka.connect.header.ConnectHeaders;
+import org.apache.kafka.connect.sink.SinkRecord;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CollectionRouterTest {
+
+    static CollectionRouter router(String template) {
+        return CollectionRouter.compile(template, Pattern.compile("(.*)"));
+    }
+
+    static SinkRecord record(String topic, Object key, Object value) {
+        return new SinkRecord(topic, 3, null, key, null, value, 0L);
+    }
+
+    @Test
+    void resolvesTopicTemplatesOncePerTopic() {
+        CollectionRouter router = router("Weaviate_${topic}");
+
+        String collection = router.collection(record("orders", null, Map.of()));
+        assertEquals("Weaviate_orders", collection);
+        assertSame(collection, router.collection(record("orders", null, Map.of())));
+        assertEquals("Weaviate_users", router.collection(record("users", null, Map.of())));
+        assertEquals("Static", router("Static").collection(record("orders", null, Map.of())));
+    }
+
+    @Test
+    void capturesGroupsOfTheTopic() {
+        CollectionRouter router = CollectionRouter.compile("${topic.2}_${topic.1}", Pattern.compile("([a-z]+)\\.([A-Za-z]+)"));
+
+        assertEquals("Orders_eu", router.collection(record("eu.Orders", null, Map.of())));
+        assertThrows(DataException.class, () -> router.collection(record("orders", null, Map.of())));
+        assertThrows(IllegalArgumentException.class, () -> router("${topic.1}_${topic.2}"));
+    }
+
+    @Test
+    void fansOutOnRecordFields() {
+        CollectionRouter router = router("${topic}_${value.type}_${partition}");
+        Schema schema = SchemaBuilder.struct().field("type", Schema.STRING_SCHEMA).build();
+
+        assertEquals("events_Click_3", router.collection(record("events", null, new Struct(schema).put("type", "Click"))));
+        assertEquals("events_View_3", router.collection(record("events", null, Map.of("type", "View"))));
+        assertThrows(DataException.class, () -> router.collection(record("events", null, Map.of())));
+        assertThrows(DataException.class, () -> router.collection(record("events", null, Map.of("type", "Not valid"))));
+        assertEquals("Events_Other", router("Events_${value.type:Other}").collection(record("events", null, null)));
+    }
+
+    @Test
+    void routesOnKeysAndHeaders() {
+        ConnectHeaders headers = new ConnectHeaders();
+        headers.addString("region", "Eu");
+        SinkRecord record = new SinkRecord("events", 0, null, Map.of("kind", "Order"), null, Map.of(), 0L, 0L, null, headers);
+
+        assertEquals("Order_Eu", router("${key.kind}_${header.region}").collection(record));
+        assertEquals("Order", router("${key}").collection(record("events", "Order", Map.of())));
+    }
+
+    @Test
+    void keepsUnknownVariablesAsText() {
+        assertEquals("${offset}_orders", router("${offset}_${topic}").collection(record("orders", null, Map.of())));
+        assertEquals("Events_${topic", router("Events_${topic").collection(record("orders", null, Map.of())));
+        assertThrows(IllegalArgumentException.class, () -> router("${value.type:Not valid}"));
+    }
+
+    @Test
+    void tellsWhetherTombstonesCanBeRouted() {
+        assertTrue(router("${topic}_${value.type}").usesValue());
+        assertTrue(router("${topic}_${value.type:Other}").usesValue());
+        assertFalse(router("${key.type}_${header.region}").usesValue());
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright © 2025 Weaviate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.weaviate.connector.tenantstrategy;
+
+import io.weaviate.connector.WeaviateSinkConfig;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.errors.DataException;
+import org.apache.kafka.connect.header.ConnectHeaders;
+import org.apache.kafka.connect.sink.SinkRecord;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TenantStrategyTest {
+
+    static WeaviateSinkConfig config(Map<String, String> settings) {
+        return new WeaviateSinkConfig(WeaviateSinkConfig.CONFIG_DEF, settings);
+    }
+
+    static TenantStrategy strategy(TenantStrategy strategy, Map<String, String> settings) {
+        strategy.configure(config(settings));
+        return strategy;
+    }
+
+    @Test
+    void noTenantByDefault() {
+        SinkRecord record = new SinkRecord("test", 0, null, "key", null, Map.of("tenant", "acme"), 0L);
+        assertNull(strategy(new NoTenantStrategy(), Map.of()).getTenant(record));
+    }
+
+    @Test
+    void getsTenantFromValueField() {
+        Schema schema = SchemaBuilder.struct().field("customer", Schema.STRING_SCHEMA).build();
+        SinkRecord record = new SinkRecord("test", 0, null, "key", schema, new Struct(schema).put("customer", "acme"), 0L);
+        TenantStrategy strategy = strategy(new FieldTenantStrategy(), Map.of(WeaviateSinkConfig.TENANT_FIELD_CONFIG, "customer"));
+
+        assertEquals("acme", strategy.getTenant(record));
+        assertThrows(DataException.class, () -> strategy.getTenant(new SinkRecord("test", 0, null, "key", null, Map.of("other", "acme"), 0L)));
+        assertThrows(DataException.class, () -> strategy.getTenant(new SinkRecord("test", 0, null, "key", null, null, 0L)));
+    }
+
+    @Test
+    void getsTenantFromKey() {
+        TenantStrategy strategy = strategy(new KeyTenantStrategy(), Map.of());
+
+        assertEquals("acme", strategy.getTenant(new SinkRecord("test", 0, null, "acme", null, null, 0L)));
+        assertEquals("acme", strategy.getTenant(new SinkRecord("test", 0, null, Map.of("tenant", "acme", "id", 1), null, null, 0L)));
+    }
+
+    @Test
+    void getsTenantFromLastHeader() {
+        ConnectHeaders headers = new ConnectHeaders();
+        headers.addString("tenant", "first");
+        headers.addBytes("tenant", "acme".getBytes(StandardCharsets.UTF_8));
+        SinkRecord record = new SinkRecord("test", 0, null, "key", null, null, 0L, 0L, null, headers);
+        TenantStrategy strategy = strategy(new HeaderTenantStrategy(), Map.of());
+
+        assertEquals("acme", strategy.getTenant(record));
+        assertThrows(DataException.class, () -> strategy.getTenant(new SinkRecord("test", 0, null, "key", null, null, 0L)));
+    }
+
+    @Test
+    void capturesTenantFromTopic() {
+        TenantStrategy strategy = strategy(new TopicTenantStrategy(), Map.of(WeaviateSinkConfig.TENANT_TOPIC_PATTERN_CONFIG, "orders-(.+)"));
+
+        assertEquals("acme", strategy.getTenant(new SinkRecord("orders-acme", 0, null, "key", null, null, 0L)));
+        assertThrows(DataException.class, () -> strategy.getTenant(new SinkRecord("payments-acme", 0, null, "key", null, null, 0L)));
+        assertEquals("orders", strategy(new TopicTenantStrategy(), Map.of()).getTenant(new SinkRecord("orders", 0, null, "key", null, null, 0L)));
+    }
+}
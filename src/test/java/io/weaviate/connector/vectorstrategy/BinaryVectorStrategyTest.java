@@ -0,0 +1,96 @@
+/*
+ * Copyright © 2025 Weaviate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.weaviate.connector.vectorstrategy;
+
+import io.weaviate.connector.WeaviateSinkConfig;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.errors.DataException;
+import org.apache.kafka.connect.sink.SinkRecord;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BinaryVectorStrategyTest {
+    private static final Schema SCHEMA = SchemaBuilder.struct()
+            .field("title", Schema.STRING_SCHEMA)
+            .field("vector", Schema.BYTES_SCHEMA)
+            .build();
+
+    @Test
+    void decodeFloat32FromByteBuffer() {
+        ByteBuffer bytes = ByteBuffer.allocate(4 + 3 * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        bytes.putInt(0xdeadbeef).putFloat(1.0f).putFloat(-2.5f).putFloat(3.25f);
+        bytes.position(4);
+
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("vector", new byte[0]);
+        float[] vector = strategy("float32", 1.0).getVector(record(bytes), properties);
+
+        assertArrayEquals(new float[]{1.0f, -2.5f, 3.25f}, vector);
+        assertEquals(4, bytes.position());
+        assertEquals(0, properties.size());
+    }
+
+    @Test
+    void decodeHalfPrecision() {
+        // 1.0, -2.0, 65504 (largest half) and the smallest subnormal
+        byte[] float16 = {0x00, 0x3c, 0x00, (byte) 0xc0, (byte) 0xff, 0x7b, 0x01, 0x00};
+        assertArrayEquals(new float[]{1.0f, -2.0f, 65504f, 0x1p-24f},
+                strategy("float16", 1.0).getVector(record(float16), new HashMap<>()));
+
+        byte[] bfloat16 = {(byte) 0x80, 0x3f, 0x20, (byte) 0xc0};
+        assertArrayEquals(new float[]{1.0f, -2.5f},
+                strategy("bfloat16", 1.0).getVector(record(bfloat16), new HashMap<>()));
+    }
+
+    @Test
+    void decodeScaledInt8() {
+        byte[] int8 = {127, -128, 0, 2};
+        assertArrayEquals(new float[]{63.5f, -64f, 0f, 1f},
+                strategy("int8", 0.5).getVector(record(int8), new HashMap<>()));
+    }
+
+    @Test
+    void rejectTruncatedVector() {
+        BinaryVectorStrategy strategy = strategy("float32", 1.0);
+        assertThrows(DataException.class, () -> strategy.getVector(record(new byte[6]), new HashMap<>()));
+    }
+
+    private static SinkRecord record(Object vector) {
+        Struct value = new Struct(SCHEMA).put("title", "a").put("vector", vector);
+        return new SinkRecord("test", 0, null, null, SCHEMA, value, 0);
+    }
+
+    private static BinaryVectorStrategy strategy(String encoding, double scale) {
+        WeaviateSinkConfig config = new WeaviateSinkConfig(WeaviateSinkConfig.CONFIG_DEF, new HashMap<>() {{
+            put(WeaviateSinkConfig.VECTOR_FIELD_CONFIG, "vector");
+            put(WeaviateSinkConfig.VECTOR_ENCODING_CONFIG, encoding);
+            put(WeaviateSinkConfig.VECTOR_INT8_SCALE_CONFIG, String.valueOf(scale));
+        }});
+        BinaryVectorStrategy strategy = new BinaryVectorStrategy();
+        strategy.configure(config);
+        return strategy;
+    }
+}
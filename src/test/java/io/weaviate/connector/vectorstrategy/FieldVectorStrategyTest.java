@@ -17,18 +17,28 @@ package io.weaviate.connector.vectorstrategy;
 
 import io.weaviate.connector.WeaviateSinkConfig;
 import io.weaviate.connector.converter.DataConverter;
+import io.weaviate.connector.converter.PropertyProjection;
+import org.apache.kafka.connect.data.Schema;
 import org.apache.kafka.connect.data.SchemaAndValue;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
 import org.apache.kafka.connect.json.JsonConverter;
 import org.apache.kafka.connect.json.JsonConverterConfig;
+import org.apache.kafka.connect.sink.SinkRecord;
 import org.codehaus.plexus.util.IOUtil;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
 import java.nio.charset.Charset;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 
 class FieldVectorStrategyTest {
 
@@ -58,4 +68,48 @@ class FieldVectorStrategyTest {
         assertEquals(1.0f, documentId[0]);
         assertEquals(2.0f, documentId[1]);
     }
-}
\ No newline at end of file
+
+    @Test
+    void getPrimitiveVectorFromStruct() {
+        Schema schema = SchemaBuilder.struct()
+                .field("title", Schema.STRING_SCHEMA)
+                .field("vector", SchemaBuilder.array(Schema.FLOAT32_SCHEMA).build())
+                .build();
+        Struct value = new Struct(schema)
+                .put("title", "a")
+                .put("vector", Arrays.asList(1.0f, 2.5f, -3.0f));
+        SinkRecord record = new SinkRecord("test", 0, null, null, schema, value, 0);
+
+        FieldVectorStrategy strategy = configuredStrategy();
+        DataConverter converter = new DataConverter(DataConverter.DEFAULT_SCHEMA_CACHE_SIZE, new PropertyProjection(Set.of(), Set.of(strategy.getSourceField()), Map.of()));
+        Map<String, Object> properties = converter.convertToWeaviateProperties(schema, value);
+
+        assertFalse(properties.containsKey("vector"));
+        assertEquals("a", properties.get("title"));
+        assertArrayEquals(new float[]{1.0f, 2.5f, -3.0f}, strategy.getVector(record, properties));
+    }
+
+    @Test
+    void getPrimitiveVectorFromSchemalessValue() {
+        Map<String, Object> value = new HashMap<>();
+        value.put("title", "a");
+        value.put("vector", List.of(1.0d, 2.0d));
+        SinkRecord record = new SinkRecord("test", 0, null, null, null, value, 0);
+
+        FieldVectorStrategy strategy = configuredStrategy();
+        DataConverter converter = new DataConverter(DataConverter.DEFAULT_SCHEMA_CACHE_SIZE, new PropertyProjection(Set.of(), Set.of(strategy.getSourceField()), Map.of()));
+        Map<String, Object> properties = converter.convertToWeaviateProperties(null, value);
+
+        assertFalse(properties.containsKey("vector"));
+        assertArrayEquals(new float[]{1.0f, 2.0f}, strategy.getVector(record, properties));
+    }
+
+    private static FieldVectorStrategy configuredStrategy() {
+        WeaviateSinkConfig config = new WeaviateSinkConfig(WeaviateSinkConfig.CONFIG_DEF, new HashMap<>() {{
+            put(WeaviateSinkConfig.VECTOR_FIELD_CONFIG, "vector");
+        }});
+        FieldVectorStrategy strategy = new FieldVectorStrategy();
+        strategy.configure(config);
+        return strategy;
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright © 2025 Weaviate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.weaviate.connector.writer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AdaptiveBatchSizeTest {
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(5000);
+
+    @Test
+    void growsAdditivelyAfterFastFullBatches() {
+        AdaptiveBatchSize size = new AdaptiveBatchSize(100, 10, 125, 1000);
+
+        size.onSuccess(100, FAST);
+        assertEquals(110, size.current());
+        size.onSuccess(50, FAST);
+        assertEquals(110, size.current());
+        size.onSuccess(110, FAST);
+        size.onSuccess(120, FAST);
+        assertEquals(125, size.current());
+    }
+
+    @Test
+    void halvesAfterSlowOrFailedBatches() {
+        AdaptiveBatchSize size = new AdaptiveBatchSize(100, 30, 1000, 1000);
+
+        size.onSuccess(100, SLOW);
+        assertEquals(50, size.current());
+        size.onFailure();
+        assertEquals(30, size.current());
+    }
+
+    @Test
+    void clampsInitialSize() {
+        assertEquals(10, new AdaptiveBatchSize(1, 10, 100, 1000).current());
+        assertEquals(100, new AdaptiveBatchSize(500, 10, 100, 1000).current());
+    }
+}
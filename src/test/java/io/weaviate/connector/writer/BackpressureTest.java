@@ -0,0 +1,96 @@
+/*
+ * Copyright © 2025 Weaviate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.weaviate.connector.writer;
+
+import io.weaviate.client.base.Result;
+import io.weaviate.client.base.WeaviateError;
+import io.weaviate.client.base.WeaviateErrorMessage;
+import io.weaviate.client.base.WeaviateErrorResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BackpressureTest {
+
+    static WeaviateError error(int status, String message) {
+        return new Result<>(status, null, WeaviateErrorResponse.builder()
+                .code(status)
+                .error(List.of(WeaviateErrorMessage.builder().message(message).build()))
+                .build()).getError();
+    }
+
+    @Test
+    void resumesOnceHalfTheLimitIsHeld() {
+        Backpressure backpressure = new Backpressure(1000, 10, 1, 10_000);
+        backpressure.held(100, 10);
+        assertFalse(backpressure.update(0));
+
+        backpressure.held(1000, 1);
+        assertTrue(backpressure.update(0));
+        assertTrue(backpressure.isPaused());
+
+        backpressure.released(600, 5);
+        assertFalse(backpressure.update(0));
+        assertTrue(backpressure.isPaused());
+
+        backpressure.released(100, 1);
+        assertTrue(backpressure.update(0));
+        assertFalse(backpressure.isPaused());
+    }
+
+    @Test
+    void pausesWhileTooManyRequestsAreThrottled() {
+        long windowNanos = 10_000_000_000L;
+        Backpressure backpressure = new Backpressure(0, 0, 0.2, 10_000);
+        for (int i = 0; i < 4; i++) {
+            backpressure.recordRequest(false, 0);
+        }
+        backpressure.recordRequest(true, 0);
+        assertFalse(backpressure.update(0));
+
+        backpressure.recordRequest(true, 0);
+        assertEquals(2.0 / 6, backpressure.throttledRatio(0));
+        assertTrue(backpressure.update(0));
+
+        // Outcomes older than the window are forgotten
+        backpressure.recordRequest(false, windowNanos);
+        assertFalse(backpressure.update(windowNanos));
+        assertTrue(backpressure.update(windowNanos + 1));
+        assertFalse(backpressure.isPaused());
+        assertEquals(0.0, backpressure.throttledRatio(windowNanos + 1));
+    }
+
+    @Test
+    void keepsOnlyTheLatestOutcomes() {
+        Backpressure backpressure = new Backpressure(0, 0, 0.5, 10_000);
+        backpressure.recordRequest(true, 0);
+        for (int i = 0; i < Backpressure.MAX_OUTCOMES; i++) {
+            backpressure.recordRequest(false, 0);
+        }
+        assertEquals(0.0, backpressure.throttledRatio(0));
+    }
+
+    @Test
+    void recognizesThrottling() {
+        assertTrue(Backpressure.isThrottling(error(503, "no healthy upstream")));
+        assertTrue(Backpressure.isThrottling(error(0, "DEADLINE_EXCEEDED: deadline exceeded after 60s")));
+        assertTrue(Backpressure.isThrottling("update vector: failed with status: 429 error: Rate limit reached"));
+        assertFalse(Backpressure.isThrottling(error(422, "invalid property")));
+        assertFalse(Backpressure.isThrottling((String) null));
+    }
+}
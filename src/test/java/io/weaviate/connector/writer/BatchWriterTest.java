@@ -0,0 +1,603 @@
+/*
+ * Copyright © 2025 Weaviate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.weaviate.connector.writer;
+
+import io.weaviate.client.base.Result;
+import io.weaviate.client.base.WeaviateErrorMessage;
+import io.weaviate.client.base.WeaviateErrorResponse;
+import io.weaviate.client.v1.batch.model.BatchDeleteResponse;
+import io.weaviate.client.v1.batch.model.ObjectGetResponse;
+import io.weaviate.client.v1.batch.model.ObjectsGetResponseAO2Result;
+import io.weaviate.client.v1.data.model.WeaviateObject;
+import io.weaviate.connector.WeaviateSinkConfig;
+import io.weaviate.connector.metrics.SinkMetrics;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.errors.ConnectException;
+import org.apache.kafka.connect.sink.ErrantRecordReporter;
+import org.apache.kafka.connect.sink.SinkRecord;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchWriterTest {
+
+    static SinkRecord record(long offset) {
+        return new SinkRecord("test", 0, Schema.STRING_SCHEMA, "key-" + offset, null, "value", offset);
+    }
+
+    static WriteOperation upsert(long offset) {
+        return upsert(offset, "id-" + offset);
+    }
+
+    static WriteOperation upsert(long offset, String documentId) {
+        return upsert(offset, "Test", documentId);
+    }
+
+    static WriteOperation upsert(long offset, String collection, String documentId) {
+        return WriteOperation.upsert(record(offset), WeaviateObject.builder()
+                .className(collection)
+                .id(documentId)
+                .properties(Collections.singletonMap("offset", offset))
+                .build());
+    }
+
+    static WriteOperation upsertTitle(long offset, String documentId, String title) {
+        return WriteOperation.upsert(record(offset), WeaviateObject.builder()
+                .className("Test")
+                .id(documentId)
+                .properties(Collections.singletonMap("title", title))
+                .build());
+    }
+
+    static WeaviateSinkConfig config(int batchSize, int poolSize, int maxInFlight) {
+        return config(batchSize, poolSize, maxInFlight, false);
+    }
+
+    static WeaviateSinkConfig config(int batchSize, int poolSize, int maxInFlight, boolean deduplicate) {
+        return config(batchSize, poolSize, maxInFlight, Map.of(WeaviateSinkConfig.DEDUPLICATION_ENABLED_CONFIG, String.valueOf(deduplicate)));
+    }
+
+    static WeaviateSinkConfig config(int batchSize, int poolSize, int maxInFlight, Map<String, String> settings) {
+        Map<String, String> originals = new HashMap<>(settings);
+        originals.put(WeaviateSinkConfig.BATCH_SIZE_CONFIG, String.valueOf(batchSize));
+        originals.put(WeaviateSinkConfig.POOL_SIZE_CONFIG, String.valueOf(poolSize));
+        originals.put(WeaviateSinkConfig.MAX_IN_FLIGHT_BATCHES_CONFIG, String.valueOf(maxInFlight));
+        return new WeaviateSinkConfig(WeaviateSinkConfig.CONFIG_DEF, originals);
+    }
+
+    static class RecordingSender implements BatchSender {
+        final List<List<String>> batches = Collections.synchronizedList(new ArrayList<>());
+        final List<List<String>> deletes = Collections.synchronizedList(new ArrayList<>());
+        final List<String> operations = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public Result<ObjectGetResponse[]> upsert(List<WeaviateObject> objects) {
+            List<String> ids = new ArrayList<>();
+            for (WeaviateObject object : objects) {
+                ids.add(object.getId());
+            }
+            batches.add(ids);
+            operations.add("upsert " + ids);
+            return new Result<>(200, new ObjectGetResponse[0], null);
+        }
+
+        @Override
+        public Result<BatchDeleteResponse> delete(String collection, String tenant, List<String> documentIds) {
+            deletes.add(documentIds);
+            operations.add("delete " + documentIds);
+            return new Result<>(200, new BatchDeleteResponse(), null);
+        }
+    }
+
+    @Test
+    void splitsOperationsIntoBatches() {
+        RecordingSender sender = new RecordingSender();
+        OffsetTracker tracker = new OffsetTracker();
+        try (BatchWriter writer = new BatchWriter(sender, tracker, config(2, 1, 1))) {
+            for (long offset = 0; offset < 5; offset++) {
+                writer.write(upsert(offset));
+            }
+            writer.flush();
+        }
+
+        assertEquals(3, sender.batches.size());
+        assertEquals(List.of("id-0", "id-1"), sender.batches.get(0));
+        assertEquals(List.of("id-4"), sender.batches.get(2));
+        assertEquals(5L, tracker.committableOffsets().get(new TopicPartition("test", 0)).offset());
+    }
+
+    @Test
+    void lingersPartialBatchesUntilDue() {
+        RecordingSender sender = new RecordingSender();
+        OffsetTracker tracker = new OffsetTracker();
+        try (BatchWriter writer = new BatchWriter(sender, tracker, config(10, 1, 1, Map.of(WeaviateSinkConfig.LINGER_MS_CONFIG, "1000")))) {
+            assertEquals(-1, writer.lingerRemainingMs());
+            writer.write(upsert(0));
+            writer.write(upsert(1));
+
+            writer.dispatchExpired();
+            writer.awaitInFlight();
+            assertTrue(sender.batches.isEmpty());
+            assertTrue(writer.lingerRemainingMs() > 0 && writer.lingerRemainingMs() <= 1000);
+
+            writer.dispatchExpired(System.nanoTime() + TimeUnit.SECONDS.toNanos(1));
+            writer.awaitInFlight();
+            assertEquals(List.of(List.of("id-0", "id-1")), sender.batches);
+            assertEquals(-1, writer.lingerRemainingMs());
+            assertEquals(2L, tracker.committableOffsets().get(new TopicPartition("test", 0)).offset());
+        }
+    }
+
+    @Test
+    void batchesDeletesPerCollection() {
+        RecordingSender sender = new RecordingSender();
+        OffsetTracker tracker = new OffsetTracker();
+        try (BatchWriter writer = new BatchWriter(sender, tracker, config(10, 1, 1))) {
+            writer.write(WriteOperation.delete(record(0), "Test", "id-0"));
+            writer.write(WriteOperation.delete(record(1), "Other", "id-1"));
+            writer.write(WriteOperation.delete(record(2), "Test", "id-2"));
+            assertTrue(sender.deletes.isEmpty());
+            writer.flush();
+        }
+
+        assertEquals(List.of(List.of("id-0", "id-2"), List.of("id-1")), sender.deletes);
+        assertEquals(3L, tracker.committableOffsets().get(new TopicPartition("test", 0)).offset());
+    }
+
+    static WriteOperation upsertTenant(long offset, String tenant, String documentId) {
+        return WriteOperation.upsert(record(offset), WeaviateObject.builder()
+                .className("Test")
+                .tenant(tenant)
+                .id(documentId)
+                .properties(Collections.singletonMap("offset", offset))
+                .build());
+    }
+
+    static class TenantSender extends RecordingSender {
+        final List<String> tenantOperations = Collections.synchronizedList(new ArrayList<>());
+        final List<String> activations = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public Result<ObjectGetResponse[]> upsert(List<WeaviateObject> objects) {
+            List<String> ids = new ArrayList<>();
+            for (WeaviateObject object : objects) {
+                ids.add(object.getTenant() + ":" + object.getId());
+            }
+            tenantOperations.add("upsert " + ids);
+            return super.upsert(objects);
+        }
+
+        @Override
+        public Result<BatchDeleteResponse> delete(String collection, String tenant, List<String> documentIds) {
+            tenantOperations.add("delete " + tenant + " " + documentIds);
+            return super.delete(collection, tenant, documentIds);
+        }
+
+        @Override
+        public void activateTenant(String collection, String tenant) {
+            activations.add(collection + "/" + tenant);
+        }
+    }
+
+    @Test
+    void batchesEachTenantSeparately() {
+        TenantSender sender = new TenantSender();
+        OffsetTracker tracker = new OffsetTracker();
+        try (BatchWriter writer = new BatchWriter(sender, tracker, config(10, 1, 1, Map.of(WeaviateSinkConfig.TENANT_AUTO_CREATE_CONFIG, "true")))) {
+            writer.write(upsertTenant(0, "acme", "id-0"));
+            writer.write(upsertTenant(1, "globex", "id-0"));
+            writer.write(upsertTenant(2, "acme", "id-2"));
+            writer.write(WriteOperation.delete(record(3), "Test", "globex", "id-3"));
+            assertEquals(3, writer.laneCount());
+            writer.flush();
+            // Tenant lanes are dropped once sent, the collection lane stays
+            assertEquals(1, writer.laneCount());
+            writer.write(upsertTenant(4, "acme", "id-4"));
+            writer.flush();
+            assertEquals(1, writer.laneCount());
+        }
+
+        // Same document ID in two tenants, neither ordered after nor superseding the other
+        assertTrue(sender.tenantOperations.containsAll(List.of("upsert [acme:id-0, acme:id-2]", "upsert [globex:id-0]",
+                "delete globex [id-3]", "upsert [acme:id-4]")));
+        assertEquals(4, sender.tenantOperations.size());
+        assertEquals(2, sender.activations.size());
+        assertTrue(sender.activations.containsAll(List.of("Test/acme", "Test/globex")));
+        assertEquals(5L, tracker.committableOffsets().get(new TopicPartition("test", 0)).offset());
+    }
+
+    @Test
+    void keepsOrderingOfOperationsOnTheSameObject() {
+        RecordingSender sender = new RecordingSender();
+        OffsetTracker tracker = new OffsetTracker();
+        try (BatchWriter writer = new BatchWriter(sender, tracker, config(10, 4, 4))) {
+            writer.write(upsert(0));
+            writer.write(WriteOperation.delete(record(1), "Test", "id-0"));
+            writer.write(upsert(2, "id-0"));
+            writer.write(upsert(3));
+            writer.flush();
+        }
+
+        assertEquals(List.of("upsert [id-0]", "delete [id-0]", "upsert [id-0, id-3]"), sender.operations);
+    }
+
+    @Test
+    void batchesEachCollectionIndependently() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingSender sender = new RecordingSender() {
+            @Override
+            public Result<ObjectGetResponse[]> upsert(List<WeaviateObject> objects) {
+                if ("Slow".equals(objects.get(0).getClassName())) {
+                    try {
+                        release.await(10, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                return super.upsert(objects);
+            }
+        };
+        OffsetTracker tracker = new OffsetTracker();
+        WeaviateSinkConfig config = config(3, 2, 3, Map.of(
+                WeaviateSinkConfig.COLLECTION_BATCH_SIZE_CONFIG, "Slow=1,Fast=2",
+                WeaviateSinkConfig.COLLECTION_MAX_IN_FLIGHT_BATCHES_CONFIG, "Slow=1"));
+        try (BatchWriter writer = new BatchWriter(sender, tracker, config)) {
+            writer.write(upsert(0, "Slow", "slow-0"));
+            writer.write(upsert(1, "Fast", "fast-1"));
+            writer.write(upsert(2, "Other", "other-2"));
+            writer.write(upsert(3, "Fast", "fast-3"));
+            writer.write(upsert(4, "Other", "other-4"));
+
+            // The full Fast batch is sent while the Slow one is still in flight, Other waits for its third object
+            for (int i = 0; i < 100 && sender.batches.isEmpty(); i++) {
+                Thread.sleep(10);
+            }
+            assertEquals(List.of(List.of("fast-1", "fast-3")), sender.batches);
+
+            release.countDown();
+            writer.flush();
+        }
+
+        assertEquals(3, sender.batches.size());
+        assertTrue(sender.batches.contains(List.of("slow-0")));
+        assertTrue(sender.batches.contains(List.of("other-2", "other-4")));
+        assertEquals(5L, tracker.committableOffsets().get(new TopicPartition("test", 0)).offset());
+    }
+
+    @Test
+    void closesBatchesAtTheByteLimit() {
+        RecordingSender sender = new RecordingSender();
+        OffsetTracker tracker = new OffsetTracker();
+        String text = "x".repeat(1000);
+        try (BatchWriter writer = new BatchWriter(sender, tracker, config(100, 1, 1,
+                Map.of(WeaviateSinkConfig.BATCH_MAX_BYTES_CONFIG, "2500")))) {
+            for (long offset = 0; offset < 5; offset++) {
+                writer.write(WriteOperation.upsert(record(offset), WeaviateObject.builder()
+                        .className("Test")
+                        .id("id-" + offset)
+                        .properties(Collections.singletonMap("text", text))
+                        .build()));
+            }
+            writer.flush();
+        }
+
+        assertEquals(List.of(List.of("id-0", "id-1"), List.of("id-2", "id-3"), List.of("id-4")), sender.batches);
+    }
+
+    /**
+     * Sender rejecting the given IDs the way the gRPC batch does, with per-object results and an error.
+     */
+    static class RejectingSender extends RecordingSender {
+        final Set<String> rejected;
+
+        RejectingSender(String... rejected) {
+            this.rejected = new HashSet<>(Arrays.asList(rejected));
+        }
+
+        @Override
+        public Result<ObjectGetResponse[]> upsert(List<WeaviateObject> objects) {
+            super.upsert(objects);
+            ObjectGetResponse[] responses = new ObjectGetResponse[objects.size()];
+            boolean failed = false;
+            for (int i = 0; i < objects.size(); i++) {
+                ObjectsGetResponseAO2Result result = new ObjectsGetResponseAO2Result();
+                if (rejected.contains(objects.get(i).getId())) {
+                    result.setStatus("FAILED");
+                    result.setErrors(new ObjectsGetResponseAO2Result.ErrorResponse("invalid " + objects.get(i).getId()));
+                    failed = true;
+                }
+                responses[i] = new ObjectGetResponse();
+                responses[i].setId(objects.get(i).getId());
+                responses[i].setResult(result);
+            }
+            return new Result<>(failed ? 500 : 200, responses, failed ? WeaviateErrorResponse.builder()
+                    .code(500)
+                    .error(List.of(WeaviateErrorMessage.builder().message("objects rejected").build()))
+                    .build() : null);
+        }
+    }
+
+    @Test
+    void retriesOnlyRejectedObjects() {
+        RejectingSender sender = new RejectingSender("id-1") {
+            @Override
+            public Result<ObjectGetResponse[]> upsert(List<WeaviateObject> objects) {
+                Result<ObjectGetResponse[]> result = super.upsert(objects);
+                rejected.clear();
+                return result;
+            }
+        };
+        OffsetTracker tracker = new OffsetTracker();
+        try (BatchWriter writer = new BatchWriter(sender, tracker, config(10, 1, 1,
+                Map.of(WeaviateSinkConfig.RETRY_INTERVAL_CONFIG, "1")))) {
+            for (long offset = 0; offset < 3; offset++) {
+                writer.write(upsert(offset));
+            }
+            writer.flush();
+        }
+
+        assertEquals(List.of(List.of("id-0", "id-1", "id-2"), List.of("id-1")), sender.batches);
+        assertEquals(3L, tracker.committableOffsets().get(new TopicPartition("test", 0)).offset());
+    }
+
+    @Test
+    void reportsObjectsRejectedAfterRetries() {
+        RejectingSender sender = new RejectingSender("id-1");
+        OffsetTracker tracker = new OffsetTracker();
+        List<SinkRecord> reported = Collections.synchronizedList(new ArrayList<>());
+        ErrantRecordReporter reporter = (record, error) -> {
+            reported.add(record);
+            return CompletableFuture.completedFuture(null);
+        };
+        WeaviateSinkConfig config = config(10, 1, 1, Map.of(
+                WeaviateSinkConfig.RETRY_INTERVAL_CONFIG, "1",
+                WeaviateSinkConfig.MAX_OBJECT_RETRIES_CONFIG, "1"));
+        try (BatchWriter writer = new BatchWriter(sender, tracker, config, reporter, SinkMetrics.unregistered())) {
+            for (long offset = 0; offset < 3; offset++) {
+                writer.write(upsert(offset));
+            }
+            writer.flush();
+        }
+
+        assertEquals(List.of(List.of("id-0", "id-1", "id-2"), List.of("id-1")), sender.batches);
+        assertEquals(List.of(record(1)), reported);
+        assertEquals(3L, tracker.committableOffsets().get(new TopicPartition("test", 0)).offset());
+
+        BatchWriter failingWriter = new BatchWriter(new RejectingSender("id-0"), new OffsetTracker(), config);
+        failingWriter.write(upsert(0));
+        ConnectException exception = assertThrows(ConnectException.class, failingWriter::flush);
+        assertTrue(exception.getMessage().contains("invalid id-0"));
+    }
+
+    @Test
+    void recordsCollectionMetrics() {
+        RecordingSender sender = new RecordingSender();
+        SinkMetrics metrics = SinkMetrics.unregistered();
+        try (BatchWriter writer = new BatchWriter(sender, new OffsetTracker(), config(2, 1, 1), null, metrics)) {
+            for (long offset = 0; offset < 3; offset++) {
+                writer.write(upsert(offset));
+            }
+            writer.write(WriteOperation.delete(record(3), "Test", "id-3"));
+            writer.flush();
+        }
+
+        Map<String, String> tags = Map.of("connector", "", "task", "", "collection", "Test");
+        assertEquals(3.0, metrics.metrics().metric(metrics.metrics().metricName("records-upserted-total", SinkMetrics.COLLECTION_GROUP, tags)).metricValue());
+        assertEquals(1.0, metrics.metrics().metric(metrics.metrics().metricName("records-deleted-total", SinkMetrics.COLLECTION_GROUP, tags)).metricValue());
+        assertEquals(2.0, metrics.metrics().metric(metrics.metrics().metricName("batch-size-max", SinkMetrics.COLLECTION_GROUP, tags)).metricValue());
+    }
+
+    @Test
+    void skipsUnchangedObjects() {
+        RecordingSender sender = new RecordingSender();
+        OffsetTracker tracker = new OffsetTracker();
+        SinkMetrics metrics = SinkMetrics.unregistered();
+        ContentHashCache cache = new ContentHashCache(100);
+        try (BatchWriter writer = new BatchWriter(sender, tracker, config(10, 1, 1), null, metrics, cache)) {
+            writer.write(upsertTitle(0, "id-0", "first"));
+            writer.flush();
+            writer.write(upsertTitle(1, "id-0", "first"));
+            writer.write(upsertTitle(2, "id-0", "second"));
+            writer.write(WriteOperation.delete(record(3), "Test", "id-0"));
+            writer.write(upsertTitle(4, "id-0", "second"));
+            writer.flush();
+        }
+
+        assertEquals(List.of("upsert [id-0]", "upsert [id-0]", "delete [id-0]", "upsert [id-0]"), sender.operations);
+        assertEquals(5L, tracker.committableOffsets().get(new TopicPartition("test", 0)).offset());
+        Map<String, String> tags = Map.of("connector", "", "task", "", "collection", "Test");
+        assertEquals(1.0, metrics.metrics().metric(metrics.metrics().metricName("content-cache-hit-total", SinkMetrics.COLLECTION_GROUP, tags)).metricValue());
+        assertEquals(3.0, metrics.metrics().metric(metrics.metrics().metricName("content-cache-miss-total", SinkMetrics.COLLECTION_GROUP, tags)).metricValue());
+    }
+
+    @Test
+    void keepsOnlyLastWriteWhenDeduplicating() {
+        RecordingSender sender = new RecordingSender();
+        OffsetTracker tracker = new OffsetTracker();
+        BatchWriter writer = new BatchWriter(sender, tracker, config(10, 1, 1, true));
+        try (writer) {
+            writer.write(upsert(0));
+            writer.write(WriteOperation.delete(record(1), "Test", "id-0"));
+            writer.write(upsert(2));
+            writer.write(upsert(3, "id-0"));
+            writer.flush();
+        }
+
+        assertEquals(List.of("upsert [id-2, id-0]"), sender.operations);
+        assertEquals(2, writer.elidedWrites());
+        assertEquals(4L, tracker.committableOffsets().get(new TopicPartition("test", 0)).offset());
+    }
+
+    @Test
+    void keepsOffsetsOfInFlightBatchesUncommitted() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingSender sender = new RecordingSender() {
+            @Override
+            public Result<ObjectGetResponse[]> upsert(List<WeaviateObject> objects) {
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.upsert(objects);
+            }
+        };
+        OffsetTracker tracker = new OffsetTracker();
+        try (BatchWriter writer = new BatchWriter(sender, tracker, config(1, 2, 2))) {
+            writer.write(upsert(0));
+            writer.write(upsert(1));
+            assertEquals(2, writer.inFlightBatches());
+            assertEquals(0L, tracker.committableOffsets().get(new TopicPartition("test", 0)).offset());
+
+            release.countDown();
+            writer.flush();
+            assertEquals(2L, tracker.committableOffsets().get(new TopicPartition("test", 0)).offset());
+        }
+    }
+
+    @Test
+    void surfacesBatchErrors() {
+        BatchSender sender = new RecordingSender() {
+            @Override
+            public Result<ObjectGetResponse[]> upsert(List<WeaviateObject> objects) {
+                return new Result<>(500, null, WeaviateErrorResponse.builder()
+                        .code(500)
+                        .error(List.of(WeaviateErrorMessage.builder().message("boom").build()))
+                        .build());
+            }
+        };
+        OffsetTracker tracker = new OffsetTracker();
+        ContentHashCache cache = new ContentHashCache(100);
+        BatchWriter writer = new BatchWriter(sender, tracker, config(1, 1, 1), null, SinkMetrics.unregistered(), cache);
+        writer.write(upsert(0));
+
+        ConnectException exception = assertThrows(ConnectException.class, writer::flush);
+        assertTrue(exception.getMessage().contains("boom"));
+        assertEquals(0L, tracker.committableOffsets().get(new TopicPartition("test", 0)).offset());
+        assertEquals(0, cache.pendingSize());
+    }
+
+    @Test
+    void retriesThrottledBatchesWithBackpressure() {
+        List<Integer> statuses = new ArrayList<>(List.of(429, 200));
+        RecordingSender sender = new RecordingSender() {
+            @Override
+            public Result<ObjectGetResponse[]> upsert(List<WeaviateObject> objects) {
+                Result<ObjectGetResponse[]> result = super.upsert(objects);
+                int status = statuses.remove(0);
+                return status == 200 ? result : new Result<>(status, null, WeaviateErrorResponse.builder()
+                        .code(status)
+                        .error(List.of(WeaviateErrorMessage.builder().message("too many requests").build()))
+                        .build());
+            }
+        };
+        OffsetTracker tracker = new OffsetTracker();
+        WeaviateSinkConfig config = config(10, 1, 1, Map.of(
+                WeaviateSinkConfig.RETRY_INTERVAL_CONFIG, "1",
+                WeaviateSinkConfig.BACKPRESSURE_ENABLED_CONFIG, "true",
+                WeaviateSinkConfig.BACKPRESSURE_MAX_OBJECTS_CONFIG, "2"));
+        try (BatchWriter writer = new BatchWriter(sender, tracker, config)) {
+            Backpressure backpressure = writer.backpressure();
+            for (long offset = 0; offset < 3; offset++) {
+                writer.write(upsert(offset));
+            }
+            assertEquals(3, backpressure.heldObjects());
+            assertTrue(backpressure.update());
+            assertTrue(backpressure.isPaused());
+
+            writer.flush();
+            assertEquals(0, backpressure.heldObjects());
+            assertEquals(0, backpressure.heldBytes());
+            assertEquals(0.5, backpressure.throttledRatio());
+        }
+
+        assertEquals(2, sender.batches.size());
+        assertEquals(3L, tracker.committableOffsets().get(new TopicPartition("test", 0)).offset());
+    }
+
+    @Test
+    void retriesUnreachableWeaviateBehindCircuitBreaker() {
+        List<Boolean> reachable = new ArrayList<>(List.of(false, false, true));
+        RecordingSender sender = new RecordingSender() {
+            @Override
+            public Result<ObjectGetResponse[]> upsert(List<WeaviateObject> objects) {
+                Result<ObjectGetResponse[]> result = super.upsert(objects);
+                return reachable.remove(0) ? result : new Result<>(0, null, WeaviateErrorResponse.builder()
+                        .code(0)
+                        .error(List.of(WeaviateErrorMessage.builder().message("Connection refused")
+                                .throwable(new java.net.ConnectException("Connection refused")).build()))
+                        .build());
+            }
+        };
+        OffsetTracker tracker = new OffsetTracker();
+        SinkMetrics metrics = SinkMetrics.unregistered();
+        WeaviateSinkConfig config = config(10, 1, 1, Map.of(
+                WeaviateSinkConfig.RETRY_INTERVAL_CONFIG, "1",
+                WeaviateSinkConfig.CIRCUIT_BREAKER_FAILURE_THRESHOLD_CONFIG, "2",
+                WeaviateSinkConfig.CIRCUIT_BREAKER_OPEN_MS_CONFIG, "50"));
+        long start = System.nanoTime();
+        try (BatchWriter writer = new BatchWriter(sender, tracker, config, null, metrics)) {
+            writer.write(upsert(0));
+            writer.flush();
+        }
+
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(40));
+        assertEquals(3, sender.batches.size());
+        assertEquals(1L, tracker.committableOffsets().get(new TopicPartition("test", 0)).offset());
+        assertEquals(1.0, metrics.metrics().metrics().entrySet().stream()
+                .filter(metric -> metric.getKey().name().equals("circuit-breaker-open-total"))
+                .findFirst().orElseThrow().getValue().metricValue());
+        assertEquals(2.0, metrics.metrics().metrics().entrySet().stream()
+                .filter(metric -> metric.getKey().name().equals("requests-retried-total"))
+                .findFirst().orElseThrow().getValue().metricValue());
+    }
+
+    @Test
+    void failsOnceOutOfTimeoutRetries() {
+        RecordingSender sender = new RecordingSender() {
+            @Override
+            public Result<ObjectGetResponse[]> upsert(List<WeaviateObject> objects) {
+                super.upsert(objects);
+                return new Result<>(503, null, WeaviateErrorResponse.builder()
+                        .code(503)
+                        .error(List.of(WeaviateErrorMessage.builder().message("overloaded").build()))
+                        .build());
+            }
+        };
+        BatchWriter writer = new BatchWriter(sender, new OffsetTracker(), config(10, 1, 1, Map.of(
+                WeaviateSinkConfig.RETRY_INTERVAL_CONFIG, "1",
+                WeaviateSinkConfig.MAX_TIMEOUT_RETRIES_CONFIG, "2",
+                WeaviateSinkConfig.CIRCUIT_BREAKER_FAILURE_THRESHOLD_CONFIG, "0")));
+        writer.write(upsert(0));
+
+        ConnectException exception = assertThrows(ConnectException.class, writer::flush);
+        assertTrue(exception.getMessage().contains("overloaded"));
+        assertEquals(3, sender.batches.size());
+    }
+}
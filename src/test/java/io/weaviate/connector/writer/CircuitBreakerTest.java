@@ -0,0 +1,76 @@
+/*
+ * Copyright © 2025 Weaviate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.weaviate.connector.writer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CircuitBreakerTest {
+
+    @Test
+    void opensAfterConsecutiveFailures() throws InterruptedException {
+        CircuitBreaker breaker = new CircuitBreaker(2, 50);
+        assertFalse(breaker.onFailure());
+        breaker.onSuccess();
+        assertFalse(breaker.onFailure());
+        assertTrue(breaker.onFailure());
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+
+        long start = System.nanoTime();
+        breaker.acquire();
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(40));
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.state());
+
+        // A failed probe opens the circuit again
+        assertTrue(breaker.onFailure());
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+    }
+
+    @Test
+    void letsASingleProbeThrough() throws Exception {
+        CircuitBreaker breaker = new CircuitBreaker(1, 1);
+        breaker.onFailure();
+        Thread.sleep(5);
+        breaker.acquire();
+
+        CompletableFuture<Void> waiting = CompletableFuture.runAsync(() -> {
+            try {
+                breaker.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        Thread.sleep(50);
+        assertFalse(waiting.isDone());
+
+        breaker.onSuccess();
+        waiting.get(5, TimeUnit.SECONDS);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+    }
+
+    @Test
+    void neverOpensWithoutThreshold() {
+        CircuitBreaker breaker = new CircuitBreaker(0, 50);
+        for (int i = 0; i < 10; i++) {
+            assertFalse(breaker.onFailure());
+        }
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+    }
+}
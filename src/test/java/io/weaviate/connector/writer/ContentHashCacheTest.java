@@ -0,0 +1,146 @@
+/*
+ * Copyright © 2025 Weaviate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.weaviate.connector.writer;
+
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ContentHashCacheTest {
+    private static final TopicPartition PARTITION = new TopicPartition("test", 0);
+
+    @Test
+    void comparesWithTheLatestWrite() {
+        ContentHashCache cache = new ContentHashCache(10);
+        cache.written("Test/a", PARTITION, 1);
+        cache.acknowledged("Test/a", 1);
+        cache.written("Test/a", PARTITION, 2);
+
+        // Content 1 was acknowledged but content 2 is on its way, writing 1 again is not redundant
+        assertFalse(cache.isUnchanged("Test/a", 1));
+        assertTrue(cache.isUnchanged("Test/a", 2));
+
+        cache.invalidate("Test/a");
+        cache.acknowledged("Test/a", 2);
+        assertFalse(cache.isUnchanged("Test/a", 2));
+    }
+
+    @Test
+    void forgetsFailedWrites() {
+        ContentHashCache cache = new ContentHashCache(10);
+        cache.written("Test/a", PARTITION, 1);
+        cache.written("Test/b", PARTITION, 1);
+        cache.written("Test/b", PARTITION, 2);
+
+        cache.failed("Test/a", 1);
+        // A failed earlier write must not drop the hash of the latest one
+        cache.failed("Test/b", 1);
+
+        assertEquals(1, cache.pendingSize());
+        assertFalse(cache.isUnchanged("Test/a", 1));
+        assertTrue(cache.isUnchanged("Test/b", 2));
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedDocuments() {
+        ContentHashCache cache = new ContentHashCache(2);
+        for (String document : List.of("a", "b", "c")) {
+            cache.written(document, PARTITION, 1);
+            cache.acknowledged(document, 1);
+        }
+
+        assertEquals(2, cache.size());
+        assertFalse(cache.isUnchanged("a", 1));
+        assertTrue(cache.isUnchanged("c", 1));
+    }
+
+    @Test
+    void persistsAcknowledgedHashes(@TempDir Path directory) {
+        Path file = directory.resolve("cache");
+        ContentHashCache cache = new ContentHashCache(10);
+        cache.written("Test/a", PARTITION, 1);
+        cache.acknowledged("Test/a", 1);
+        cache.written("Test/b", PARTITION, 2);
+        cache.save(file, Set.of(PARTITION));
+
+        ContentHashCache loaded = new ContentHashCache(10);
+        loaded.load(file);
+        // Restored once the partitions of the task are known
+        assertFalse(loaded.isUnchanged("Test/a", 1));
+        loaded.assigned(Set.of(PARTITION));
+        assertTrue(loaded.isUnchanged("Test/a", 1));
+        assertFalse(loaded.isUnchanged("Test/b", 2));
+        loaded.load(directory.resolve("missing"));
+        assertEquals(1, loaded.size());
+    }
+
+    @Test
+    void ignoresHashesSavedWithOtherPartitions(@TempDir Path directory) {
+        Path file = directory.resolve("cache");
+        ContentHashCache cache = new ContentHashCache(10);
+        cache.written("Test/a", PARTITION, 1);
+        cache.acknowledged("Test/a", 1);
+        cache.save(file, Set.of(PARTITION));
+
+        ContentHashCache loaded = new ContentHashCache(10);
+        loaded.load(file);
+        loaded.assigned(Set.of(PARTITION, new TopicPartition("test", 1)));
+        assertEquals(0, loaded.size());
+    }
+
+    @Test
+    void forgetsHashesOfRevokedPartitions() {
+        TopicPartition other = new TopicPartition("test", 1);
+        ContentHashCache cache = new ContentHashCache(10);
+        cache.written("Test/a", PARTITION, 1);
+        cache.acknowledged("Test/a", 1);
+        cache.written("Test/b", other, 1);
+        cache.acknowledged("Test/b", 1);
+        cache.written("Test/c", PARTITION, 1);
+
+        cache.revoke(List.of(PARTITION));
+
+        assertFalse(cache.isUnchanged("Test/a", 1));
+        assertFalse(cache.isUnchanged("Test/c", 1));
+        assertTrue(cache.isUnchanged("Test/b", 1));
+        assertEquals(0, cache.pendingSize());
+    }
+
+    @Test
+    void hashesContentIndependentlyOfPropertyOrder() {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("title", "hello");
+        properties.put("tags", List.of("a", "b"));
+        Map<String, Object> reordered = new LinkedHashMap<>();
+        reordered.put("tags", List.of("a", "b"));
+        reordered.put("title", "hello");
+
+        assertEquals(ContentHash.of(properties, new float[]{1f, 2f}), ContentHash.of(reordered, new Float[]{1f, 2f}));
+        assertNotEquals(ContentHash.of(properties, new float[]{1f, 2f}), ContentHash.of(properties, new float[]{2f, 1f}));
+        assertNotEquals(ContentHash.of(properties, (float[]) null), ContentHash.of(Map.of("title", "hello", "tags", List.of("b", "a")), (float[]) null));
+    }
+}
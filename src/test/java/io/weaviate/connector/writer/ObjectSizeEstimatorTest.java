@@ -0,0 +1,46 @@
+/*
+ * Copyright © 2025 Weaviate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.weaviate.connector.writer;
+
+import io.weaviate.client.v1.data.model.WeaviateObject;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ObjectSizeEstimatorTest {
+
+    @Test
+    void accountsForUtf8TextAndVectors() {
+        WeaviateObject ascii = WeaviateObject.builder().properties(Map.of("text", "aaaa")).build();
+        WeaviateObject multiByte = WeaviateObject.builder().properties(Map.of("text", "éééé")).build();
+        long asciiSize = ObjectSizeEstimator.estimate(ascii, null);
+
+        assertEquals(asciiSize + 4, ObjectSizeEstimator.estimate(multiByte, null));
+        assertEquals(asciiSize + 4 + 1536 * Float.BYTES, ObjectSizeEstimator.estimate(ascii, new float[1536]));
+    }
+
+    @Test
+    void growsWithNestedValues() {
+        WeaviateObject flat = WeaviateObject.builder().properties(Map.of("tags", List.of())).build();
+        WeaviateObject nested = WeaviateObject.builder().properties(Map.of("tags", List.of("a", "b", Map.of("c", 1L)))).build();
+
+        assertTrue(ObjectSizeEstimator.estimate(nested, null) > ObjectSizeEstimator.estimate(flat, null));
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright © 2025 Weaviate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.weaviate.connector.writer;
+
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.sink.SinkRecord;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OffsetTrackerTest {
+
+    private static SinkRecord record(int partition, long offset) {
+        return new SinkRecord("test", partition, Schema.STRING_SCHEMA, "key", null, "value", offset);
+    }
+
+    @Test
+    void commitsOnlyUpToOldestPendingRecord() {
+        OffsetTracker tracker = new OffsetTracker();
+        SinkRecord first = record(0, 10);
+        SinkRecord second = record(0, 11);
+        SinkRecord third = record(0, 12);
+        tracker.track(first);
+        tracker.track(second);
+        tracker.track(third);
+
+        tracker.complete(second);
+        tracker.complete(third);
+        assertEquals(10L, tracker.committableOffsets().get(new TopicPartition("test", 0)).offset());
+
+        tracker.complete(first);
+        assertEquals(13L, tracker.committableOffsets().get(new TopicPartition("test", 0)).offset());
+        assertEquals(0, tracker.pendingRecords());
+    }
+
+    @Test
+    void tracksPartitionsIndependently() {
+        OffsetTracker tracker = new OffsetTracker();
+        SinkRecord partition0 = record(0, 5);
+        SinkRecord partition1 = record(1, 7);
+        tracker.track(partition0);
+        tracker.track(partition1);
+
+        tracker.complete(partition1);
+        assertEquals(5L, tracker.committableOffsets().get(new TopicPartition("test", 0)).offset());
+        assertEquals(8L, tracker.committableOffsets().get(new TopicPartition("test", 1)).offset());
+
+        tracker.remove(Collections.singleton(new TopicPartition("test", 0)));
+        assertTrue(tracker.committableOffsets().containsKey(new TopicPartition("test", 1)));
+        assertEquals(1, tracker.committableOffsets().size());
+    }
+
+    @Test
+    void completesSkippedRecordsRightAway() {
+        OffsetTracker tracker = new OffsetTracker();
+        tracker.skip(record(0, 3));
+        assertEquals(4L, tracker.committableOffsets().get(new TopicPartition("test", 0)).offset());
+
+        tracker.track(record(0, 4));
+        tracker.skip(record(0, 5));
+        assertEquals(4L, tracker.committableOffsets().get(new TopicPartition("test", 0)).offset());
+        assertEquals(1, tracker.pendingRecords());
+    }
+}
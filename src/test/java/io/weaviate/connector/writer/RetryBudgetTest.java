@@ -0,0 +1,65 @@
+/*
+ * Copyright © 2025 Weaviate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.weaviate.connector.writer;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RetryBudgetTest {
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    void boundsRetriesToAShareOfRequests() {
+        RetryBudget budget = new RetryBudget(0.5, 1, 10_000);
+        assertTrue(budget.canRetry(0));
+        budget.recordRetry(0);
+        assertFalse(budget.canRetry(0));
+
+        for (int i = 0; i < 4; i++) {
+            budget.recordRequest(0);
+        }
+        assertTrue(budget.canRetry(0));
+        budget.recordRetry(0);
+        budget.recordRetry(0);
+        assertFalse(budget.canRetry(0));
+    }
+
+    @Test
+    void forgetsRetriesOlderThanTheWindow() {
+        RetryBudget budget = new RetryBudget(0, 2, 10_000);
+        budget.recordRetry(0);
+        budget.recordRetry(5 * SECOND);
+        assertFalse(budget.canRetry(9 * SECOND));
+        assertTrue(budget.canRetry(11 * SECOND));
+        budget.recordRetry(11 * SECOND);
+        assertFalse(budget.canRetry(14 * SECOND));
+        assertTrue(budget.canRetry(16 * SECOND));
+    }
+
+    @Test
+    void jittersExponentialBackoff() {
+        RetryBackoff backoff = new RetryBackoff(100, 1000);
+        for (int i = 0; i < 100; i++) {
+            long first = backoff.delayMs(0);
+            assertTrue(first >= 50 && first <= 100, "first delay " + first);
+            long third = backoff.delayMs(2);
+            assertTrue(third >= 200 && third <= 400, "third delay " + third);
+            long capped = backoff.delayMs(40);
+            assertTrue(capped >= 500 && capped <= 1000, "capped delay " + capped);
+        }
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright © 2025 Weaviate
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.weaviate.connector.writer;
+
+import io.grpc.Metadata;
+import io.grpc.Server;
+import io.grpc.ServerBuilder;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.ServerInterceptors;
+import io.grpc.stub.StreamObserver;
+import io.weaviate.client.base.Result;
+import io.weaviate.client.grpc.protocol.v1.WeaviateGrpc;
+import io.weaviate.client.grpc.protocol.v1.WeaviateProtoBatch;
+import io.weaviate.client.v1.batch.model.ObjectGetResponse;
+import io.weaviate.client.v1.data.model.WeaviateObject;
+import io.weaviate.connector.WeaviateSinkConfig;
+import io.weaviate.connector.client.SharedWeaviateClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WeaviateBatchSenderTest {
+    private static final Metadata.Key<String> AUTHORIZATION = Metadata.Key.of("Authorization", Metadata.ASCII_STRING_MARSHALLER);
+
+    private final List<WeaviateProtoBatch.BatchObjectsRequest> requests = new CopyOnWriteArrayList<>();
+    private final List<String> authorizations = new CopyOnWriteArrayList<>();
+    private volatile boolean answering = true;
+    private Server server;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        WeaviateGrpc.WeaviateImplBase service = new WeaviateGrpc.WeaviateImplBase() {
+            @Override
+            public void batchObjects(WeaviateProtoBatch.BatchObjectsRequest request, StreamObserver<WeaviateProtoBatch.BatchObjectsReply> responseObserver) {
+                requests.add(request);
+                if (!answering) {
+                    return;
+                }
+                responseObserver.onNext(WeaviateProtoBatch.BatchObjectsReply.newBuilder()
+                        .addErrors(WeaviateProtoBatch.BatchObjectsReply.BatchError.newBuilder().setIndex(1).setError("invalid property"))
+                        .build());
+                responseObserver.onCompleted();
+            }
+        };
+        ServerInterceptor headers = new ServerInterceptor() {
+            @Override
+            public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call, Metadata metadata, ServerCallHandler<ReqT, RespT> next) {
+                authorizations.add(metadata.get(AUTHORIZATION));
+                return next.startCall(call, metadata);
+            }
+        };
+        server = ServerBuilder.forPort(0).addService(ServerInterceptors.intercept(service, headers)).build().start();
+    }
+
+    @AfterEach
+    void stopServer() throws InterruptedException {
+        server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void upsertsOverSharedChannels() {
+        WeaviateSinkConfig config = new WeaviateSinkConfig(WeaviateSinkConfig.CONFIG_DEF, Map.of(
+                WeaviateSinkConfig.CONNECTION_URL_CONFIG, "http://localhost:1",
+                WeaviateSinkConfig.GRPC_URL_CONFIG, "localhost:" + server.getPort(),
+                WeaviateSinkConfig.GRPC_CHANNELS_CONFIG, "2",
+                WeaviateSinkConfig.AUTH_MECHANISM_CONFIG, "API_KEY",
+                WeaviateSinkConfig.API_KEY_CONFIG, "secret"));
+        SharedWeaviateClient client = SharedWeaviateClient.create(config);
+        try {
+            WeaviateBatchSender sender = new WeaviateBatchSender(client, config);
+            List<WeaviateObject> objects = List.of(
+                    WeaviateObject.builder().className("Articles").properties(Map.of("title", "first")).build(),
+                    WeaviateObject.builder().className("Articles").id("5eb63bbb-e01e-3ed0-93cb-22bb8f5acdc3").properties(Map.of("title", "second")).build());
+
+            Result<ObjectGetResponse[]> first = sender.upsert(objects);
+            sender.upsert(objects);
+
+            assertEquals(2, requests.size());
+            assertEquals(2, requests.get(0).getObjectsCount());
+            assertNotNull(objects.get(0).getId());
+            assertEquals("Bearer secret", authorizations.get(0));
+            assertEquals("SUCCESS", first.getResult()[0].getResult().getStatus());
+            assertEquals("invalid property", first.getResult()[1].getResult().getErrors().getError().get(0).getMessage());
+        } finally {
+            client.release();
+        }
+    }
+
+    @Test
+    void reportsUnavailableChannelAsBatchError() throws InterruptedException {
+        int port = server.getPort();
+        stopServer();
+        WeaviateSinkConfig config = new WeaviateSinkConfig(WeaviateSinkConfig.CONFIG_DEF, Map.of(
+                WeaviateSinkConfig.CONNECTION_URL_CONFIG, "http://localhost:1",
+                WeaviateSinkConfig.GRPC_URL_CONFIG, "localhost:" + port,
+                WeaviateSinkConfig.MAX_CONNECTION_RETRIES_CONFIG, "1",
+                WeaviateSinkConfig.RETRY_INTERVAL_CONFIG, "10"));
+        SharedWeaviateClient client = SharedWeaviateClient.create(config);
+        try {
+            Result<ObjectGetResponse[]> result = new WeaviateBatchSender(client, config)
+                    .upsert(List.of(WeaviateObject.builder().className("Articles").properties(Map.of("title", "first")).build()));
+
+            assertTrue(result.hasErrors());
+            assertFalse(result.getError().getMessages().isEmpty());
+            assertTrue(BatchWriter.isConnectionError(result.getError()));
+        } finally {
+            client.release();
+        }
+    }
+
+    @Test
+    void failsBatchesExceedingTheDeadlineAsThrottled() {
+        answering = false;
+        WeaviateSinkConfig config = new WeaviateSinkConfig(WeaviateSinkConfig.CONFIG_DEF, Map.of(
+                WeaviateSinkConfig.CONNECTION_URL_CONFIG, "http://localhost:1",
+                WeaviateSinkConfig.GRPC_URL_CONFIG, "localhost:" + server.getPort(),
+                WeaviateSinkConfig.GRPC_DEADLINE_MS_CONFIG, "100"));
+        SharedWeaviateClient client = SharedWeaviateClient.create(config);
+        try {
+            Result<ObjectGetResponse[]> result = new WeaviateBatchSender(client, config)
+                    .upsert(List.of(WeaviateObject.builder().className("Articles").properties(Map.of("title", "first")).build()));
+
+            assertTrue(result.hasErrors());
+            assertTrue(Backpressure.isThrottling(result.getError()));
+            assertFalse(BatchWriter.isConnectionError(result.getError()));
+        } finally {
+            client.release();
+        }
+    }
+}